@@ -0,0 +1,49 @@
+package com.uplatform.wallet_tests.allure;
+
+import com.uplatform.wallet_tests.api.db.metrics.ProjectionGrowthSampler;
+import com.uplatform.wallet_tests.api.db.metrics.StatementMetrics;
+import com.uplatform.wallet_tests.api.nats.NatsClient;
+import com.uplatform.wallet_tests.api.nats.NatsConnectionManager;
+import com.uplatform.wallet_tests.api.pool.ConnectionBudgetManager;
+import com.uplatform.wallet_tests.api.redis.client.WalletAggregateSizeSampler;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+/**
+ * Attaches diagnostics to failed tests. Statement and pool-wait counters are snapshotted before
+ * each test, so the attachments cover only the test's execution window; under parallel execution
+ * that window also includes the work of tests running at the same time.
+ */
+public class DiagnosticsOnFailureExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(DiagnosticsOnFailureExtension.class);
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        ApplicationContext applicationContext = SpringExtension.getApplicationContext(context);
+        ExtensionContext.Store store = context.getStore(NAMESPACE);
+        store.put(StatementMetrics.Snapshot.class, applicationContext.getBean(StatementMetrics.class).snapshot());
+        store.put(ConnectionBudgetManager.Snapshot.class, applicationContext.getBean(ConnectionBudgetManager.class).snapshot());
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        if (context.getExecutionException().isEmpty()) {
+            return;
+        }
+        ApplicationContext applicationContext = SpringExtension.getApplicationContext(context);
+        ExtensionContext.Store store = context.getStore(NAMESPACE);
+        applicationContext.getBean(StatementMetrics.class)
+                .attachSummary(store.get(StatementMetrics.Snapshot.class, StatementMetrics.Snapshot.class));
+        applicationContext.getBean(ConnectionBudgetManager.class)
+                .attachSummary(store.get(ConnectionBudgetManager.Snapshot.class, ConnectionBudgetManager.Snapshot.class));
+        applicationContext.getBean(ProjectionGrowthSampler.class).attachReport();
+        applicationContext.getBean(WalletAggregateSizeSampler.class).attachReport();
+        applicationContext.getBean(NatsClient.class).attachSubscriptionSummary();
+        applicationContext.getBean(NatsConnectionManager.class).attachPoolSummary();
+    }
+}
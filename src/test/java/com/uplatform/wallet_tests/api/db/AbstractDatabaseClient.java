@@ -1,13 +1,24 @@
 package com.uplatform.wallet_tests.api.db;
 
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import org.awaitility.core.ConditionFactory;
 import org.awaitility.core.ConditionTimeoutException;
 import org.springframework.beans.factory.annotation.Value;
 
 import java.time.Duration;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import com.uplatform.wallet_tests.api.attachment.AllureAttachmentService;
@@ -16,9 +27,16 @@ import static org.awaitility.Awaitility.await;
 public abstract class AbstractDatabaseClient {
 
     protected final AllureAttachmentService attachmentService;
+    private final ScheduledExecutorService pollScheduler;
 
     protected AbstractDatabaseClient(AllureAttachmentService attachmentService) {
         this.attachmentService = attachmentService;
+        String threadName = "db-poller-" + getClass().getSimpleName();
+        this.pollScheduler = Executors.newScheduledThreadPool(2, r -> {
+            Thread t = new Thread(r, threadName);
+            t.setDaemon(true);
+            return t;
+        });
     }
 
     @Value("${app.db.retry-timeout-seconds}")
@@ -78,6 +96,65 @@ public abstract class AbstractDatabaseClient {
         }
     }
 
+    protected final <K, T> CoalescingPoller<K, T> coalescingPoller(String name,
+                                                                  Function<Collection<K>, ? extends Iterable<T>> batchQuery,
+                                                                  Function<T, K> keyExtractor) {
+        return coalescingPoller(name, batchQuery, keyExtractor, (first, second) -> first);
+    }
+
+    protected final <K, T> CoalescingPoller<K, T> coalescingPoller(String name,
+                                                                  Function<Collection<K>, ? extends Iterable<T>> batchQuery,
+                                                                  Function<T, K> keyExtractor,
+                                                                  BinaryOperator<T> merger) {
+        return new CoalescingPoller<>(name, batchQuery, keyExtractor, merger, pollScheduler, () -> retryPollIntervalDuration);
+    }
+
+    /**
+     * Same contract as {@link #awaitAndGetOrFail}, but the key is polled by a shared
+     * {@link CoalescingPoller} together with the keys of all other concurrent waiters.
+     */
+    protected final <K, T> T awaitCoalescedOrFail(String description,
+                                                  String attachmentNamePrefix,
+                                                  CoalescingPoller<K, T> poller,
+                                                  K key) {
+        return awaitCoalescedOrFail(description, attachmentNamePrefix, poller, key, value -> true);
+    }
+
+    /** As above, but only a row accepted by {@code accepts} completes the wait. */
+    protected final <K, T> T awaitCoalescedOrFail(String description,
+                                                  String attachmentNamePrefix,
+                                                  CoalescingPoller<K, T> poller,
+                                                  K key,
+                                                  Predicate<? super T> accepts) {
+        CompletableFuture<T> future = poller.await(key, accepts);
+        try {
+            T result = future.get(retryTimeoutDuration.toMillis(), TimeUnit.MILLISECONDS);
+            attachmentService.attachText(attachmentNamePrefix + " - Found", createJsonAttachment(result));
+            return result;
+        } catch (TimeoutException e) {
+            poller.cancel(key, future);
+            String message = "Condition with alias '" + description + "' didn't complete within " + retryTimeoutDuration;
+            attachmentService.attachText(attachmentNamePrefix + " - NOT Found (Timeout)",
+                    "Timeout after " + retryTimeoutDuration + ": " + message);
+            throw new ConditionTimeoutException(message);
+        } catch (InterruptedException e) {
+            poller.cancel(key, future);
+            Thread.currentThread().interrupt();
+            attachmentService.attachText(attachmentNamePrefix + " - Error", "Interrupted while waiting");
+            throw new RuntimeException("Interrupted during DB await for '" + description + "'", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            attachmentService.attachText(attachmentNamePrefix + " - Error",
+                    "Error type: " + cause.getClass().getName() + "\nMessage: " + cause.getMessage());
+            throw new RuntimeException("Unexpected error during DB await for '" + description + "'", cause);
+        }
+    }
+
+    @PreDestroy
+    public void shutdownPollScheduler() {
+        pollScheduler.shutdownNow();
+    }
+
     protected abstract String createJsonAttachment(Object object);
 }
 
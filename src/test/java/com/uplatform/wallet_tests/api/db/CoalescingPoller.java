@@ -0,0 +1,143 @@
+package com.uplatform.wallet_tests.api.db;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.TransientDataAccessException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Shared poller for one repository query shape. Waiters register the key they expect;
+ * every tick the poller runs a single batch query ({@code WHERE key IN (...)}) for all
+ * pending keys and completes the futures whose rows appeared. Database load therefore
+ * grows with the number of ticks, not with the number of concurrent waiters. A waiter may
+ * also require the row to reach a given state; it stays pending until a matching row shows up.
+ */
+@Slf4j
+class CoalescingPoller<K, V> {
+
+    private static final int MAX_KEYS_PER_QUERY = 500;
+
+    private final String name;
+    private final Function<Collection<K>, ? extends Iterable<V>> batchQuery;
+    private final Function<V, K> keyExtractor;
+    private final BinaryOperator<V> merger;
+    private final ScheduledExecutorService scheduler;
+    private final Supplier<Duration> pollInterval;
+    private final Map<K, List<Waiter<V>>> waiters = new LinkedHashMap<>();
+    private ScheduledFuture<?> task;
+
+    CoalescingPoller(String name,
+                     Function<Collection<K>, ? extends Iterable<V>> batchQuery,
+                     Function<V, K> keyExtractor,
+                     BinaryOperator<V> merger,
+                     ScheduledExecutorService scheduler,
+                     Supplier<Duration> pollInterval) {
+        this.name = name;
+        this.batchQuery = batchQuery;
+        this.keyExtractor = keyExtractor;
+        this.merger = merger;
+        this.scheduler = scheduler;
+        this.pollInterval = pollInterval;
+    }
+
+    CompletableFuture<V> await(K key) {
+        return await(key, value -> true);
+    }
+
+    CompletableFuture<V> await(K key, Predicate<? super V> accepts) {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        synchronized (waiters) {
+            waiters.computeIfAbsent(key, k -> new ArrayList<>()).add(new Waiter<>(future, accepts));
+            if (task == null) {
+                long intervalMs = pollInterval.get().toMillis();
+                task = scheduler.scheduleWithFixedDelay(this::tick, 0, intervalMs, TimeUnit.MILLISECONDS);
+            }
+        }
+        return future;
+    }
+
+    void cancel(K key, CompletableFuture<V> future) {
+        synchronized (waiters) {
+            List<Waiter<V>> pending = waiters.get(key);
+            if (pending != null) {
+                pending.removeIf(waiter -> waiter.future() == future);
+                if (pending.isEmpty()) {
+                    waiters.remove(key);
+                }
+            }
+        }
+    }
+
+    private void tick() {
+        List<K> keys;
+        synchronized (waiters) {
+            if (waiters.isEmpty()) {
+                task.cancel(false);
+                task = null;
+                return;
+            }
+            keys = new ArrayList<>(waiters.keySet());
+        }
+        for (int from = 0; from < keys.size(); from += MAX_KEYS_PER_QUERY) {
+            List<K> chunk = keys.subList(from, Math.min(from + MAX_KEYS_PER_QUERY, keys.size()));
+            Map<K, V> found = new HashMap<>();
+            try {
+                for (V row : batchQuery.apply(chunk)) {
+                    found.merge(keyExtractor.apply(row), row, merger);
+                }
+            } catch (TransientDataAccessException e) {
+                log.debug("[{}] Transient error polling {} keys, retrying next tick: {}", name, chunk.size(), e.getMessage());
+                continue;
+            } catch (Exception e) {
+                log.error("[{}] Batch poll of {} keys failed: {}", name, chunk.size(), e.getMessage());
+                completeAll(chunk, e);
+                continue;
+            }
+            found.forEach(this::complete);
+        }
+    }
+
+    private void complete(K key, V value) {
+        List<Waiter<V>> accepted = new ArrayList<>();
+        synchronized (waiters) {
+            List<Waiter<V>> pending = waiters.get(key);
+            if (pending == null) {
+                return;
+            }
+            pending.removeIf(waiter -> waiter.accepts().test(value) && accepted.add(waiter));
+            if (pending.isEmpty()) {
+                waiters.remove(key);
+            }
+        }
+        accepted.forEach(waiter -> waiter.future().complete(value));
+    }
+
+    private void completeAll(List<K> keys, Exception error) {
+        for (K key : keys) {
+            List<Waiter<V>> pending;
+            synchronized (waiters) {
+                pending = waiters.remove(key);
+            }
+            if (pending != null) {
+                pending.forEach(waiter -> waiter.future().completeExceptionally(error));
+            }
+        }
+    }
+
+    private record Waiter<V>(CompletableFuture<V> future, Predicate<? super V> accepts) {
+    }
+}
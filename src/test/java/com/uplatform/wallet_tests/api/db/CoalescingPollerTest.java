@@ -0,0 +1,132 @@
+package com.uplatform.wallet_tests.api.db;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("Unit")
+class CoalescingPollerTest {
+
+    private record Row(String key, int state) {
+    }
+
+    private final Map<String, Row> table = new ConcurrentHashMap<>();
+    private final List<List<String>> queries = new CopyOnWriteArrayList<>();
+    private ScheduledExecutorService scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    private CoalescingPoller<String, Row> poller(Function<Collection<String>, List<Row>> batchQuery) {
+        return new CoalescingPoller<>("rows", batchQuery, Row::key, (a, b) -> a.state() >= b.state() ? a : b,
+                scheduler, () -> Duration.ofMillis(10));
+    }
+
+    private List<Row> selectIn(Collection<String> keys) {
+        queries.add(new ArrayList<>(keys));
+        return keys.stream().map(table::get).filter(row -> row != null).toList();
+    }
+
+    @Test
+    void concurrentWaitersShareOneQueryPerTick() throws Exception {
+        CoalescingPoller<String, Row> poller = poller(this::selectIn);
+        List<CompletableFuture<Row>> futures = scheduler.submit(() -> List.of(
+                poller.await("a"), poller.await("b"), poller.await("a"))).get(5, TimeUnit.SECONDS);
+
+        table.put("a", new Row("a", 1));
+        table.put("b", new Row("b", 1));
+
+        assertEquals(1, futures.get(0).get(5, TimeUnit.SECONDS).state());
+        assertEquals(1, futures.get(1).get(5, TimeUnit.SECONDS).state());
+        assertSame(futures.get(0).get(), futures.get(2).get());
+        assertEquals(List.of("a", "b"), queries.get(0), "the first tick polls every pending key in one query");
+        assertTrue(queries.stream().allMatch(keys -> Set.copyOf(keys).size() == keys.size()),
+                "keys are not repeated within a query");
+    }
+
+    @Test
+    void splitsLargeKeySetsIntoBoundedQueries() throws Exception {
+        CoalescingPoller<String, Row> poller = poller(this::selectIn);
+        List<CompletableFuture<Row>> futures = new ArrayList<>();
+        scheduler.submit(() -> {
+            for (int i = 0; i < 1_200; i++) {
+                String key = "k" + i;
+                table.put(key, new Row(key, 1));
+                futures.add(poller.await(key));
+            }
+        }).get(5, TimeUnit.SECONDS);
+
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        assertEquals(List.of(500, 500, 200), queries.subList(0, 3).stream().map(List::size).toList());
+    }
+
+    @Test
+    void predicateWaiterIgnoresEarlierStatesOfTheSameRow() throws Exception {
+        CoalescingPoller<String, Row> poller = poller(this::selectIn);
+        table.put("coupon", new Row("coupon", 1));
+        List<CompletableFuture<Row>> futures = scheduler.submit(() -> List.of(
+                poller.await("coupon", row -> row.state() == 2), poller.await("coupon"))).get(5, TimeUnit.SECONDS);
+
+        assertEquals(1, futures.get(1).get(5, TimeUnit.SECONDS).state());
+        int queriesBefore = queries.size();
+        for (int i = 0; i < 500 && queries.size() < queriesBefore + 2; i++) {
+            Thread.sleep(10);
+        }
+        assertTrue(queries.size() >= queriesBefore + 2, "the poller keeps polling for the pending waiter");
+        assertFalse(futures.get(0).isDone(), "a row in an earlier state does not complete the waiter");
+
+        table.put("coupon", new Row("coupon", 2));
+
+        assertEquals(2, futures.get(0).get(5, TimeUnit.SECONDS).state());
+    }
+
+    @Test
+    void permanentErrorFailsWaitersAndTransientErrorRetries() throws Exception {
+        List<Boolean> failTransiently = new CopyOnWriteArrayList<>(List.of(true));
+        CoalescingPoller<String, Row> poller = poller(keys -> {
+            if (keys.contains("broken")) {
+                throw new IllegalStateException("bad column");
+            }
+            if (!failTransiently.isEmpty()) {
+                failTransiently.remove(0);
+                throw new QueryTimeoutException("lock wait");
+            }
+            return selectIn(keys);
+        });
+        table.put("ok", new Row("ok", 1));
+
+        CompletableFuture<Row> recovering = poller.await("ok");
+        assertEquals(1, recovering.get(5, TimeUnit.SECONDS).state());
+
+        CompletableFuture<Row> broken = poller.await("broken");
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> broken.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, failure.getCause());
+    }
+}
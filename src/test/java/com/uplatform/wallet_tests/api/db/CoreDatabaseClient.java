@@ -6,16 +6,29 @@ import com.uplatform.wallet_tests.api.db.entity.core.CoreGame;
 import com.uplatform.wallet_tests.api.db.entity.core.CoreGameSession;
 import com.uplatform.wallet_tests.api.db.entity.core.CoreWallet;
 import com.uplatform.wallet_tests.api.db.entity.core.GameProvider;
+import com.uplatform.wallet_tests.api.db.jdbc.CoreGameRecord;
+import com.uplatform.wallet_tests.api.db.jdbc.CoreJdbcReader;
+import com.uplatform.wallet_tests.api.db.jdbc.GameProviderRecord;
 import com.uplatform.wallet_tests.api.db.repository.core.CoreGameProviderRepository;
 import com.uplatform.wallet_tests.api.db.repository.core.CoreGameRepository;
 import com.uplatform.wallet_tests.api.db.repository.core.CoreGameSessionRepository;
 import com.uplatform.wallet_tests.api.db.repository.core.CoreWalletRepository;
 import com.uplatform.wallet_tests.api.attachment.AllureAttachmentService;
+import com.uplatform.wallet_tests.config.EnvironmentConfigurationProvider;
+import com.uplatform.wallet_tests.config.ReferenceCacheConfig;
+import com.uplatform.wallet_tests.config.ReferenceCachePolicyConfig;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Component
 @Slf4j
@@ -25,19 +38,45 @@ public class CoreDatabaseClient extends AbstractDatabaseClient {
     private final CoreWalletRepository coreWalletRepository;
     private final CoreGameProviderRepository coreGameProviderRepository;
     private final ObjectMapper objectMapper;
+    private final CoalescingPoller<Integer, CoreGame> gamePoller;
+    private final CoalescingPoller<Integer, CoreWallet> walletPoller;
+    private final CoalescingPoller<Integer, GameProvider> gameProviderPoller;
+    private final CoalescingPoller<Integer, CoreGameRecord> gameRecordPoller;
+    private final CoalescingPoller<Integer, GameProviderRecord> gameProviderRecordPoller;
+    private final ReferenceDataCache<Integer, CoreGameRecord> gameCache;
+    private final ReferenceDataCache<Integer, GameProviderRecord> gameProviderCache;
+    private final CoreJdbcReader jdbcReader;
+    private final CoreReferenceCacheWarmer cacheWarmer;
+    private CompletableFuture<Void> warmUp;
 
     public CoreDatabaseClient(AllureAttachmentService attachmentService,
                               CoreGameSessionRepository coreGameSessionRepository,
                               CoreGameRepository coreGameRepository,
                               CoreWalletRepository coreWalletRepository,
                               CoreGameProviderRepository coreGameProviderRepository,
-                              ObjectMapper objectMapper) {
+                              CoreJdbcReader jdbcReader,
+                              ObjectMapper objectMapper,
+                              EnvironmentConfigurationProvider configProvider,
+                              CoreReferenceCacheWarmer cacheWarmer) {
         super(attachmentService);
         this.coreGameSessionRepository = coreGameSessionRepository;
         this.coreGameRepository = coreGameRepository;
         this.coreWalletRepository = coreWalletRepository;
         this.coreGameProviderRepository = coreGameProviderRepository;
         this.objectMapper = objectMapper;
+        this.jdbcReader = jdbcReader;
+        this.cacheWarmer = cacheWarmer;
+        this.gamePoller = coalescingPoller("game.id", coreGameRepository::findAllById, CoreGame::getId);
+        this.walletPoller = coalescingPoller("wallet.id", coreWalletRepository::findAllById, CoreWallet::getId);
+        this.gameProviderPoller = coalescingPoller("game_provider.id", coreGameProviderRepository::findAllById, GameProvider::getId);
+        this.gameRecordPoller = coalescingPoller("jdbc:game.id", jdbcReader::findGamesByIds, CoreGameRecord::id);
+        this.gameProviderRecordPoller = coalescingPoller("jdbc:game_provider.id", jdbcReader::findGameProvidersByIds, GameProviderRecord::id);
+
+        ReferenceCacheConfig cacheConfig = configProvider.getEnvironmentConfig().getDatabases().get("core").getReferenceCache();
+        Map<String, ReferenceCachePolicyConfig> policies = cacheConfig != null && cacheConfig.getPolicies() != null
+                ? cacheConfig.getPolicies() : Map.of();
+        this.gameCache = new ReferenceDataCache<>("game", policies.get("game"));
+        this.gameProviderCache = new ReferenceDataCache<>("game_provider", policies.get("gameProvider"));
     }
 
     public CoreGameSession findLatestGameSessionByPlayerUuidOrFail(String playerUuid) {
@@ -52,28 +91,113 @@ public class CoreDatabaseClient extends AbstractDatabaseClient {
         String description = String.format("core game record by ID '%d'", gameId);
         String attachmentNamePrefix = String.format("Core Game Record [ID: %d]", gameId);
 
-        Supplier<Optional<CoreGame>> querySupplier = () ->
-                coreGameRepository.findById(gameId);
-        return awaitAndGetOrFail(description, attachmentNamePrefix, querySupplier);
+        return awaitCoalescedOrFail(description, attachmentNamePrefix, gamePoller, gameId);
     }
 
     public CoreWallet findWalletByIdOrFail(int walletId) {
         String description = String.format("core wallet record by ID '%d'", walletId);
         String attachmentNamePrefix = String.format("Core Wallet Record [ID: %d]", walletId);
 
-        Supplier<Optional<CoreWallet>> querySupplier = () ->
-                coreWalletRepository.findById(walletId);
-        return awaitAndGetOrFail(description, attachmentNamePrefix, querySupplier);
+        return awaitCoalescedOrFail(description, attachmentNamePrefix, walletPoller, walletId);
     }
 
     public GameProvider findGameProviderByIdOrFail(int providerId) {
         String description = String.format("core game provider record by ID '%d'", providerId);
         String attachmentNamePrefix = String.format("Core GameProvider Record [ID: %d]", providerId);
 
-        Supplier<Optional<GameProvider>> querySupplier = () ->
-                coreGameProviderRepository.findById(providerId);
+        return awaitCoalescedOrFail(description, attachmentNamePrefix, gameProviderPoller, providerId);
+    }
 
-        return awaitAndGetOrFail(description, attachmentNamePrefix, querySupplier);
+    /**
+     * The first lookup runs the warm-up; lookups that arrive meanwhile wait for that same
+     * warm-up instead of missing the cache.
+     */
+    private void awaitGameCacheWarmUp() {
+        if (!gameCache.isEnabled()) {
+            return;
+        }
+        CompletableFuture<Void> pending;
+        boolean owner = false;
+        synchronized (this) {
+            if (warmUp == null) {
+                warmUp = new CompletableFuture<>();
+                owner = true;
+            }
+            pending = warmUp;
+        }
+        if (owner) {
+            try {
+                List<String> gameUuids = cacheWarmer.fetchWarmUpGameUuids();
+                int cached = warmUpGameCaches(gameUuids);
+                log.info("Core reference cache warmed with {} of {} games returned by FAPI", cached, gameUuids.size());
+            } catch (Exception e) {
+                log.warn("Core reference cache warm-up failed, lookups will load on demand: {}", e.getMessage());
+            } finally {
+                pending.complete(null);
+            }
+        }
+        pending.join();
+    }
+
+    /**
+     * Loads the given games and their providers into the reference caches with one query each.
+     * Returns the number of games cached.
+     */
+    public int warmUpGameCaches(Collection<String> gameUuids) {
+        if (!gameCache.isEnabled() || gameUuids.isEmpty()) {
+            return 0;
+        }
+        List<CoreGameRecord> games = jdbcReader.findGamesByUuids(gameUuids);
+        gameCache.putAll(games, CoreGameRecord::id);
+        if (gameProviderCache.isEnabled()) {
+            Set<Integer> providerIds = games.stream().map(CoreGameRecord::gameProviderId).collect(Collectors.toSet());
+            gameProviderCache.putAll(jdbcReader.findGameProvidersByIds(providerIds), GameProviderRecord::id);
+        }
+        return games.size();
+    }
+
+    public String describeCacheMetrics() {
+        return String.join("\n", gameCache.describe(), gameProviderCache.describe());
+    }
+
+    private <T> T cachedOrAwait(String description,
+                                String attachmentNamePrefix,
+                                ReferenceDataCache<Integer, T> cache,
+                                CoalescingPoller<Integer, T> poller,
+                                int id) {
+        Optional<T> cached = cache.get(id);
+        if (cached.isPresent()) {
+            attachmentService.attachText(attachmentNamePrefix + " - Found (cached)", createJsonAttachment(cached.get()));
+            return cached.get();
+        }
+        T result = awaitCoalescedOrFail(description, attachmentNamePrefix, poller, id);
+        cache.put(id, result);
+        return result;
+    }
+
+    /**
+     * Served from the reference cache when possible; records are immutable, so cached
+     * instances are shared safely between tests.
+     */
+    public CoreGameRecord findGameRecordByIdOrFail(int gameId) {
+        String description = String.format("core game record by ID '%d'", gameId);
+        String attachmentNamePrefix = String.format("Core Game Record [ID: %d]", gameId);
+
+        awaitGameCacheWarmUp();
+        return cachedOrAwait(description, attachmentNamePrefix, gameCache, gameRecordPoller, gameId);
+    }
+
+    public GameProviderRecord findGameProviderRecordByIdOrFail(int providerId) {
+        String description = String.format("core game provider record by ID '%d'", providerId);
+        String attachmentNamePrefix = String.format("Core GameProvider Record [ID: %d]", providerId);
+
+        awaitGameCacheWarmUp();
+        return cachedOrAwait(description, attachmentNamePrefix, gameProviderCache, gameProviderRecordPoller, providerId);
+    }
+
+    @PreDestroy
+    public void logCacheMetrics() {
+        log.info("Core reference cache metrics:\n{}", describeCacheMetrics());
     }
 
     @Override
@@ -0,0 +1,99 @@
+package com.uplatform.wallet_tests.api.db;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.uplatform.wallet_tests.api.attachment.AllureAttachmentService;
+import com.uplatform.wallet_tests.api.db.jdbc.CoreGameRecord;
+import com.uplatform.wallet_tests.api.db.jdbc.CoreJdbcReader;
+import com.uplatform.wallet_tests.api.db.repository.core.CoreGameProviderRepository;
+import com.uplatform.wallet_tests.api.db.repository.core.CoreGameRepository;
+import com.uplatform.wallet_tests.api.db.repository.core.CoreGameSessionRepository;
+import com.uplatform.wallet_tests.api.db.repository.core.CoreWalletRepository;
+import com.uplatform.wallet_tests.config.DatabaseInstanceConfig;
+import com.uplatform.wallet_tests.config.EnvironmentConfig;
+import com.uplatform.wallet_tests.config.EnvironmentConfigurationProvider;
+import com.uplatform.wallet_tests.config.ReferenceCacheConfig;
+import com.uplatform.wallet_tests.config.ReferenceCachePolicyConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@Tag("Unit")
+class CoreDatabaseClientTest {
+
+    private static final CoreGameRecord GAME = new CoreGameRecord(5, "game-5", "ext-5", 9, 1, (short) 1,
+            "Game", "game", true, true, false, null);
+
+    private CoreJdbcReader jdbcReader;
+    private CoreReferenceCacheWarmer cacheWarmer;
+    private CoreDatabaseClient client;
+
+    @BeforeEach
+    void setUp() {
+        ReferenceCachePolicyConfig policy = new ReferenceCachePolicyConfig();
+        policy.setTtlSeconds(3600);
+        policy.setMaxEntries(100);
+        ReferenceCacheConfig cacheConfig = new ReferenceCacheConfig();
+        cacheConfig.setWarmUpGameCount(10);
+        cacheConfig.setPolicies(Map.of("game", policy, "gameProvider", policy));
+        DatabaseInstanceConfig core = new DatabaseInstanceConfig();
+        core.setReferenceCache(cacheConfig);
+        EnvironmentConfig environment = new EnvironmentConfig();
+        environment.setDatabases(Map.of("core", core));
+        EnvironmentConfigurationProvider configProvider = mock(EnvironmentConfigurationProvider.class);
+        when(configProvider.getEnvironmentConfig()).thenReturn(environment);
+
+        jdbcReader = mock(CoreJdbcReader.class);
+        when(jdbcReader.findGamesByUuids(List.of("game-5"))).thenReturn(List.of(GAME));
+        when(jdbcReader.findGameProvidersByIds(anyCollection())).thenReturn(List.of());
+        cacheWarmer = mock(CoreReferenceCacheWarmer.class);
+        client = new CoreDatabaseClient(mock(AllureAttachmentService.class), mock(CoreGameSessionRepository.class),
+                mock(CoreGameRepository.class), mock(CoreWalletRepository.class), mock(CoreGameProviderRepository.class),
+                jdbcReader, new ObjectMapper(), configProvider, cacheWarmer);
+    }
+
+    @Test
+    void warmsGameCacheOnFirstLookupOnly() {
+        verifyNoInteractions(cacheWarmer);
+        when(cacheWarmer.fetchWarmUpGameUuids()).thenReturn(List.of("game-5"));
+
+        assertSame(GAME, client.findGameRecordByIdOrFail(5));
+        assertSame(GAME, client.findGameRecordByIdOrFail(5));
+
+        verify(cacheWarmer, times(1)).fetchWarmUpGameUuids();
+        verify(jdbcReader, never()).findGamesByIds(anyCollection());
+        assertTrue(client.describeCacheMetrics().contains("game: size=1, hits=2"), client.describeCacheMetrics());
+    }
+
+    @Test
+    void concurrentFirstLookupsWaitForTheSameWarmUp() throws Exception {
+        CountDownLatch warmUpEntered = new CountDownLatch(1);
+        CountDownLatch releaseWarmUp = new CountDownLatch(1);
+        when(cacheWarmer.fetchWarmUpGameUuids()).thenAnswer(invocation -> {
+            warmUpEntered.countDown();
+            assertTrue(releaseWarmUp.await(5, TimeUnit.SECONDS));
+            return List.of("game-5");
+        });
+
+        CompletableFuture<CoreGameRecord> first = CompletableFuture.supplyAsync(() -> client.findGameRecordByIdOrFail(5));
+        assertTrue(warmUpEntered.await(5, TimeUnit.SECONDS));
+        CompletableFuture<CoreGameRecord> second = CompletableFuture.supplyAsync(() -> client.findGameRecordByIdOrFail(5));
+        Thread.sleep(100);
+        assertFalse(second.isDone(), "the second lookup waits for the running warm-up");
+        releaseWarmUp.countDown();
+
+        assertSame(GAME, first.get(5, TimeUnit.SECONDS));
+        assertSame(GAME, second.get(5, TimeUnit.SECONDS));
+        verify(cacheWarmer, times(1)).fetchWarmUpGameUuids();
+        verify(jdbcReader, never()).findGamesByIds(anyCollection());
+    }
+}
@@ -0,0 +1,49 @@
+package com.uplatform.wallet_tests.api.db;
+
+import com.uplatform.wallet_tests.api.http.fapi.client.FapiClient;
+import com.uplatform.wallet_tests.api.http.fapi.dto.get_games.FapiGame;
+import com.uplatform.wallet_tests.api.http.fapi.dto.get_games.GetGamesResponseBody;
+import com.uplatform.wallet_tests.config.EnvironmentConfigurationProvider;
+import com.uplatform.wallet_tests.config.ReferenceCacheConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Supplies the games the core reference cache is warmed with. Called by
+ * {@link CoreDatabaseClient} on its first game lookup, never during startup; a failing
+ * FAPI call only logs a warning and lookups load on demand.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CoreReferenceCacheWarmer {
+
+    private final FapiClient publicClient;
+    private final EnvironmentConfigurationProvider configProvider;
+
+    public List<String> fetchWarmUpGameUuids() {
+        ReferenceCacheConfig cacheConfig = configProvider.getEnvironmentConfig().getDatabases().get("core").getReferenceCache();
+        if (cacheConfig == null || cacheConfig.getWarmUpGameCount() <= 0) {
+            return List.of();
+        }
+        try {
+            ResponseEntity<GetGamesResponseBody> response = publicClient.getGames(1, cacheConfig.getWarmUpGameCount());
+            if (response.getBody() == null || response.getBody().getGames() == null) {
+                log.warn("Core reference cache warm-up skipped: empty games response, status {}", response.getStatusCode());
+                return List.of();
+            }
+            return response.getBody().getGames().stream()
+                    .map(FapiGame::getId)
+                    .filter(Objects::nonNull)
+                    .toList();
+        } catch (Exception e) {
+            log.warn("Core reference cache warm-up failed, lookups will load on demand: {}", e.getMessage());
+            return List.of();
+        }
+    }
+}
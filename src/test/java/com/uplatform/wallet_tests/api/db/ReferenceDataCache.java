@@ -0,0 +1,101 @@
+package com.uplatform.wallet_tests.api.db;
+
+import com.uplatform.wallet_tests.config.ReferenceCachePolicyConfig;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded in-process cache for rows that do not change during a run (games, providers).
+ * Entries expire after the policy TTL and the least recently used entry is evicted once
+ * {@code maxEntries} is reached. A TTL of zero disables the cache for that entity.
+ */
+class ReferenceDataCache<K, V> {
+
+    private final String name;
+    private final long ttlNanos;
+    private final Map<K, Entry<V>> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+
+    ReferenceDataCache(String name, ReferenceCachePolicyConfig policy) {
+        this.name = name;
+        this.ttlNanos = policy != null ? TimeUnit.SECONDS.toNanos(policy.getTtlSeconds()) : 0;
+        int maxEntries = policy != null ? Math.max(1, policy.getMaxEntries()) : 1;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                boolean evict = size() > maxEntries;
+                if (evict) {
+                    evictions.increment();
+                }
+                return evict;
+            }
+        };
+    }
+
+    boolean isEnabled() {
+        return ttlNanos > 0;
+    }
+
+    Optional<V> get(K key) {
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && entry.expiresAt() - System.nanoTime() > 0) {
+                hits.increment();
+                return Optional.of(entry.value());
+            }
+            if (entry != null) {
+                entries.remove(key);
+                expirations.increment();
+            }
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    void put(K key, V value) {
+        if (!isEnabled() || value == null) {
+            return;
+        }
+        synchronized (entries) {
+            entries.put(key, new Entry<>(value, System.nanoTime() + ttlNanos));
+        }
+    }
+
+    void putAll(Iterable<V> values, Function<V, K> keyExtractor) {
+        for (V value : values) {
+            put(keyExtractor.apply(value), value);
+        }
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    String describe() {
+        if (!isEnabled()) {
+            return String.format("%s: disabled", name);
+        }
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return String.format("%s: size=%d, hits=%d, misses=%d, hitRate=%.1f%%, expirations=%d, evictions=%d",
+                name, size(), hitCount, misses.sum(), total > 0 ? hitCount * 100.0 / total : 0.0,
+                expirations.sum(), evictions.sum());
+    }
+}
@@ -0,0 +1,53 @@
+package com.uplatform.wallet_tests.api.db;
+
+import com.uplatform.wallet_tests.config.ReferenceCachePolicyConfig;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("Unit")
+class ReferenceDataCacheTest {
+
+    private static ReferenceCachePolicyConfig policy(long ttlSeconds, int maxEntries) {
+        ReferenceCachePolicyConfig policy = new ReferenceCachePolicyConfig();
+        policy.setTtlSeconds(ttlSeconds);
+        policy.setMaxEntries(maxEntries);
+        return policy;
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedEntryWhenFull() {
+        ReferenceDataCache<Integer, String> cache = new ReferenceDataCache<>("game", policy(3600, 2));
+        cache.put(1, "one");
+        cache.put(2, "two");
+        cache.get(1);
+
+        cache.put(3, "three");
+
+        assertEquals(Optional.of("one"), cache.get(1));
+        assertEquals(Optional.empty(), cache.get(2));
+        assertEquals(Optional.of("three"), cache.get(3));
+        assertTrue(cache.describe().contains("size=2, hits=3, misses=1"), cache.describe());
+        assertTrue(cache.describe().endsWith("evictions=1"), cache.describe());
+    }
+
+    @Test
+    void zeroTtlDisablesCaching() {
+        ReferenceDataCache<Integer, String> cache = new ReferenceDataCache<>("game", policy(0, 10));
+        cache.putAll(List.of("a", "bb"), String::length);
+
+        assertFalse(cache.isEnabled());
+        assertEquals(Optional.empty(), cache.get(1));
+        assertEquals(0, cache.size());
+        assertEquals("game: disabled", cache.describe());
+    }
+
+    @Test
+    void missingPolicyDisablesCaching() {
+        assertFalse(new ReferenceDataCache<Integer, String>("game_provider", null).isEnabled());
+    }
+}
@@ -3,13 +3,25 @@ package com.uplatform.wallet_tests.api.db;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.uplatform.wallet_tests.api.db.entity.wallet.*;
+import com.uplatform.wallet_tests.api.db.entity.wallet.enums.CouponStatus;
+import com.uplatform.wallet_tests.api.db.jdbc.OperationTotals;
+import com.uplatform.wallet_tests.api.db.jdbc.SequenceRange;
+import com.uplatform.wallet_tests.api.db.jdbc.TransactionHistoryRecord;
+import com.uplatform.wallet_tests.api.db.jdbc.WalletJdbcReader;
+import com.uplatform.wallet_tests.api.db.jdbc.WalletRecord;
 import com.uplatform.wallet_tests.api.db.repository.wallet.*;
 import com.uplatform.wallet_tests.api.attachment.AllureAttachmentService;
+import com.uplatform.wallet_tests.api.nats.dto.enums.NatsGamblingTransactionOperation;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.BinaryOperator;
 import java.util.function.Supplier;
 
 @Component
@@ -21,7 +33,14 @@ public class WalletDatabaseClient extends AbstractDatabaseClient {
     private final WalletGameSessionRepository walletGameSessionRepository;
     private final WalletRepository walletRepository;
     private final BettingProjectionIframeHistoryRepository iframeHistoryRepository;
+    private final WalletJdbcReader jdbcReader;
     private final ObjectMapper objectMapper;
+    private final CoalescingPoller<String, GamblingProjectionTransactionHistory> transactionPoller;
+    private final CoalescingPoller<String, PlayerThresholdWin> thresholdPoller;
+    private final CoalescingPoller<String, Wallet> walletPoller;
+    private final CoalescingPoller<String, BettingProjectionIframeHistoryState> latestIframeStatePoller;
+    private final CoalescingPoller<String, TransactionHistoryRecord> transactionRecordPoller;
+    private final CoalescingPoller<String, WalletRecord> walletRecordPoller;
 
     public WalletDatabaseClient(AllureAttachmentService attachmentService,
                                 GamblingProjectionTransactionHistoryRepository transactionRepository,
@@ -29,6 +48,7 @@ public class WalletDatabaseClient extends AbstractDatabaseClient {
                                 WalletGameSessionRepository walletGameSessionRepository,
                                 WalletRepository walletRepository,
                                 BettingProjectionIframeHistoryRepository iframeHistoryRepository,
+                                WalletJdbcReader jdbcReader,
                                 ObjectMapper objectMapper) {
         super(attachmentService);
         this.transactionRepository = transactionRepository;
@@ -36,25 +56,39 @@ public class WalletDatabaseClient extends AbstractDatabaseClient {
         this.walletGameSessionRepository = walletGameSessionRepository;
         this.walletRepository = walletRepository;
         this.iframeHistoryRepository = iframeHistoryRepository;
+        this.jdbcReader = jdbcReader;
         this.objectMapper = objectMapper;
+        this.transactionPoller = coalescingPoller("gambling_projection_transaction_history.uuid",
+                transactionRepository::findAllById, GamblingProjectionTransactionHistory::getUuid);
+        this.thresholdPoller = coalescingPoller("player_threshold_win.player_uuid",
+                playerThresholdWinRepository::findAllById, PlayerThresholdWin::getPlayerUuid);
+        this.walletPoller = coalescingPoller("wallet.uuid",
+                walletRepository::findAllById, Wallet::getUuid);
+        this.latestIframeStatePoller = coalescingPoller("betting_projection_iframe_history.uuid",
+                iframeHistoryRepository::findStateByUuidIn, BettingProjectionIframeHistoryState::getUuid,
+                BinaryOperator.maxBy(Comparator.comparing(BettingProjectionIframeHistoryState::getSeq)));
+        this.transactionRecordPoller = coalescingPoller("jdbc:gambling_projection_transaction_history.uuid",
+                jdbcReader::findTransactionsByUuids, TransactionHistoryRecord::uuid);
+        this.walletRecordPoller = coalescingPoller("jdbc:wallet.uuid",
+                jdbcReader::findWalletsByUuids, WalletRecord::uuid);
     }
 
-    @Transactional(readOnly = true)
     public GamblingProjectionTransactionHistory findTransactionByUuidOrFail(String uuid) {
         String description = String.format("transaction history record by UUID '%s'", uuid);
         String attachmentNamePrefix = String.format("Wallet Transaction Record [UUID: %s]", uuid);
-        Supplier<Optional<GamblingProjectionTransactionHistory>> querySupplier = () ->
-                transactionRepository.findById(uuid);
-        return awaitAndGetOrFail(description, attachmentNamePrefix, querySupplier);
+        return awaitCoalescedOrFail(description, attachmentNamePrefix, transactionPoller, uuid);
+    }
+
+    public TransactionHistoryRecord findTransactionRecordByUuidOrFail(String uuid) {
+        String description = String.format("transaction history record by UUID '%s'", uuid);
+        String attachmentNamePrefix = String.format("Wallet Transaction Record [UUID: %s]", uuid);
+        return awaitCoalescedOrFail(description, attachmentNamePrefix, transactionRecordPoller, uuid);
     }
 
-    @Transactional(readOnly = true)
     public PlayerThresholdWin findThresholdByPlayerUuidOrFail(String playerUuid) {
         String description = String.format("player threshold win record for player '%s'", playerUuid);
         String attachmentNamePrefix = String.format("Player Threshold Win [Player: %s]", playerUuid);
-        Supplier<Optional<PlayerThresholdWin>> querySupplier = () ->
-                Optional.ofNullable(playerThresholdWinRepository.findByPlayerUuid(playerUuid));
-        return awaitAndGetOrFail(description, attachmentNamePrefix, querySupplier);
+        return awaitCoalescedOrFail(description, attachmentNamePrefix, thresholdPoller, playerUuid);
     }
 
     @Transactional(readOnly = true)
@@ -66,26 +100,84 @@ public class WalletDatabaseClient extends AbstractDatabaseClient {
         return awaitAndGetOrFail(description, attachmentNamePrefix, querySupplier);
     }
 
-    @Transactional(readOnly = true)
     public Wallet findWalletByUuidOrFail(String walletUuid) {
         String description = String.format("wallet record by UUID '%s'", walletUuid);
         String attachmentPrefix = String.format("Wallet Record [UUID: %s]", walletUuid);
-        Supplier<Optional<Wallet>> querySupplier = () ->
-                Optional.ofNullable(walletRepository.findByUuid(walletUuid));
-        return awaitAndGetOrFail(description, attachmentPrefix, querySupplier);
+        return awaitCoalescedOrFail(description, attachmentPrefix, walletPoller, walletUuid);
+    }
+
+    public WalletRecord findWalletRecordByUuidOrFail(String walletUuid) {
+        String description = String.format("wallet record by UUID '%s'", walletUuid);
+        String attachmentPrefix = String.format("Wallet Record [UUID: %s]", walletUuid);
+        return awaitCoalescedOrFail(description, attachmentPrefix, walletRecordPoller, walletUuid);
     }
 
-    @Transactional(readOnly = true)
     public BettingProjectionIframeHistory findLatestIframeHistoryByUuidOrFail(String uuid) {
-        String description = String.format("latest betting iframe history record by UUID '%s'", uuid);
+        return findLatestIframeHistoryByUuidOrFail(uuid, null);
+    }
+
+    /**
+     * Polls only the key and status columns until the latest record of the coupon has
+     * {@code expectedStatus} (any status if {@code null}), then loads that record with
+     * {@code bet_info} once.
+     */
+    public BettingProjectionIframeHistory findLatestIframeHistoryByUuidOrFail(String uuid, CouponStatus expectedStatus) {
+        String description = expectedStatus == null
+                ? String.format("latest betting iframe history record by UUID '%s'", uuid)
+                : String.format("latest betting iframe history record by UUID '%s' in status %s", uuid, expectedStatus);
         String attachmentNamePrefix = String.format("Betting Iframe History [UUID: %s, Latest]", uuid);
+        BettingProjectionIframeHistoryState state = awaitCoalescedOrFail(description, attachmentNamePrefix + " State",
+                latestIframeStatePoller, uuid,
+                latest -> expectedStatus == null || latest.getCouponStatus() == expectedStatus);
+        BettingProjectionIframeHistory history = iframeHistoryRepository.findByUuidAndSeq(uuid, state.getSeq())
+                .orElseThrow(() -> new IllegalStateException(String.format(
+                        "Betting iframe history record [UUID: %s, seq: %d] disappeared after status poll", uuid, state.getSeq())));
+        attachmentService.attachText(attachmentNamePrefix + " - Found", createJsonAttachment(history));
+        return history;
+    }
 
-        Supplier<Optional<BettingProjectionIframeHistory>> querySupplier = () ->
-                iframeHistoryRepository.findFirstByUuidOrderBySeqDesc(uuid);
+    /**
+     * Waits until the projection holds at least {@code expectedCount} transactions of the given
+     * operation for the player and returns their count, amount sum and sequence bounds.
+     */
+    public OperationTotals awaitTransactionTotalsOrFail(String playerUuid,
+                                                        NatsGamblingTransactionOperation operation,
+                                                        long expectedCount) {
+        String description = String.format("%d %s transactions for player '%s'", expectedCount, operation, playerUuid);
+        String attachmentNamePrefix = String.format("Wallet Transaction Totals [Player: %s, %s]", playerUuid, operation);
+        Supplier<Optional<OperationTotals>> querySupplier = () -> jdbcReader.getTransactionTotalsByPlayer(playerUuid).stream()
+                .filter(totals -> totals.operation() == operation && totals.count() >= expectedCount)
+                .findFirst();
+        return awaitAndGetOrFail(description, attachmentNamePrefix, querySupplier);
+    }
+
+    /** Waits until every given transaction UUID is present for the player, checking with one count per poll. */
+    public void awaitTransactionUuidsPresentOrFail(String playerUuid, Collection<String> expectedUuids) {
+        String description = String.format("%d transactions present for player '%s'", expectedUuids.size(), playerUuid);
+        String attachmentNamePrefix = String.format("Wallet Transaction UUIDs [Player: %s]", playerUuid);
+        Set<String> expected = new HashSet<>(expectedUuids);
+        Supplier<Optional<Long>> querySupplier = () -> {
+            long present = jdbcReader.countTransactionsOfPlayer(playerUuid, expected);
+            return present == expected.size() ? Optional.of(present) : Optional.empty();
+        };
+        awaitAndGetOrFail(description, attachmentNamePrefix, querySupplier);
+    }
 
+    /** Waits until the wallet's iframe history reaches {@code expectedMaxSeq} and returns its sequence range. */
+    public SequenceRange awaitIframeSequenceRangeOrFail(String walletUuid, long expectedMaxSeq) {
+        String description = String.format("iframe history up to seq %d for wallet '%s'", expectedMaxSeq, walletUuid);
+        String attachmentNamePrefix = String.format("Betting Iframe History Range [Wallet: %s]", walletUuid);
+        Supplier<Optional<SequenceRange>> querySupplier = () -> {
+            SequenceRange range = jdbcReader.getIframeSequenceRangeByWallet(walletUuid);
+            return range.maxSeq() != null && range.maxSeq() >= expectedMaxSeq ? Optional.of(range) : Optional.empty();
+        };
         return awaitAndGetOrFail(description, attachmentNamePrefix, querySupplier);
     }
 
+    public Set<String> findIframeUuidsOfWallet(String walletUuid) {
+        return jdbcReader.findIframeUuidsOfWallet(walletUuid);
+    }
+
     @Override
     protected String createJsonAttachment(Object object) {
         if (object == null) {
@@ -0,0 +1,56 @@
+package com.uplatform.wallet_tests.api.db;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.uplatform.wallet_tests.api.attachment.AllureAttachmentService;
+import com.uplatform.wallet_tests.api.db.jdbc.WalletJdbcReader;
+import com.uplatform.wallet_tests.api.db.repository.wallet.BettingProjectionIframeHistoryRepository;
+import com.uplatform.wallet_tests.api.db.repository.wallet.GamblingProjectionTransactionHistoryRepository;
+import com.uplatform.wallet_tests.api.db.repository.wallet.PlayerThresholdWinRepository;
+import com.uplatform.wallet_tests.api.db.repository.wallet.WalletGameSessionRepository;
+import com.uplatform.wallet_tests.api.db.repository.wallet.WalletRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.Mockito.*;
+
+@Tag("Unit")
+class WalletDatabaseClientTest {
+
+    private final WalletJdbcReader jdbcReader = mock(WalletJdbcReader.class);
+    private WalletDatabaseClient client;
+
+    @AfterEach
+    void tearDown() {
+        if (client != null) {
+            client.shutdownPollScheduler();
+        }
+    }
+
+    private WalletDatabaseClient client(long timeoutSeconds) {
+        client = new WalletDatabaseClient(mock(AllureAttachmentService.class),
+                mock(GamblingProjectionTransactionHistoryRepository.class), mock(PlayerThresholdWinRepository.class),
+                mock(WalletGameSessionRepository.class), mock(WalletRepository.class), mock(BettingProjectionIframeHistoryRepository.class),
+                jdbcReader, new ObjectMapper());
+        ReflectionTestUtils.setField(client, "retryTimeoutSeconds", timeoutSeconds);
+        ReflectionTestUtils.setField(client, "retryPollIntervalMillis", 20L);
+        ReflectionTestUtils.setField(client, "retryPollDelayMillis", 0L);
+        client.initializeAwaitilityConfig();
+        return client;
+    }
+
+    @Test
+    void transactionUuidsArePolledWithACountQuery() {
+        Set<String> expected = Set.of("tx-1", "tx-2", "tx-3");
+        when(jdbcReader.countTransactionsOfPlayer("player", expected)).thenReturn(1L, 2L, 3L);
+
+        client(30).awaitTransactionUuidsPresentOrFail("player", List.of("tx-1", "tx-2", "tx-3"));
+
+        verify(jdbcReader, times(3)).countTransactionsOfPlayer("player", expected);
+        verify(jdbcReader, never()).forEachTransactionOfPlayer(any(), any());
+    }
+}
@@ -1,5 +1,7 @@
 package com.uplatform.wallet_tests.api.db.config;
 
+import com.uplatform.wallet_tests.api.db.metrics.StatementMetrics;
+import com.uplatform.wallet_tests.api.pool.ConnectionBudgetManager;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -31,8 +33,11 @@ public class CoreDbConfig {
 
     @Bean
     @Primary
-    public DataSource coreDataSource(@Qualifier("coreDataSourceProperties") DataSourceProperties properties) {
-        return properties.initializeDataSourceBuilder().build();
+    public DataSource coreDataSource(@Qualifier("coreDataSourceProperties") DataSourceProperties properties,
+                                     StatementMetrics statementMetrics,
+                                     ConnectionBudgetManager budgetManager) {
+        DataSource pooled = budgetManager.configureDataSource("db.core", properties.initializeDataSourceBuilder().build());
+        return statementMetrics.instrument("core", pooled, budgetManager.acquireListener("db.core"));
     }
 
     @Bean
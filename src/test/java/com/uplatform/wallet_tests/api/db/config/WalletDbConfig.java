@@ -1,5 +1,7 @@
 package com.uplatform.wallet_tests.api.db.config;
 
+import com.uplatform.wallet_tests.api.db.metrics.StatementMetrics;
+import com.uplatform.wallet_tests.api.pool.ConnectionBudgetManager;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -29,8 +31,11 @@ public class WalletDbConfig {
     }
 
     @Bean
-    public DataSource walletDataSource(@Qualifier("walletDataSourceProperties") DataSourceProperties properties) {
-        return properties.initializeDataSourceBuilder().build();
+    public DataSource walletDataSource(@Qualifier("walletDataSourceProperties") DataSourceProperties properties,
+                                       StatementMetrics statementMetrics,
+                                       ConnectionBudgetManager budgetManager) {
+        DataSource pooled = budgetManager.configureDataSource("db.wallet", properties.initializeDataSourceBuilder().build());
+        return statementMetrics.instrument("wallet", pooled, budgetManager.acquireListener("db.wallet"));
     }
 
     @Bean
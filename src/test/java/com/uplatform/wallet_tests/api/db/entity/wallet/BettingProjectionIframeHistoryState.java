@@ -0,0 +1,19 @@
+package com.uplatform.wallet_tests.api.db.entity.wallet;
+
+import com.uplatform.wallet_tests.api.db.entity.wallet.enums.CouponCalcStatus;
+import com.uplatform.wallet_tests.api.db.entity.wallet.enums.CouponStatus;
+
+/**
+ * Key and status columns of {@link BettingProjectionIframeHistory}, without {@code bet_info}.
+ * Used by the polling loops; the full row is loaded once the expected state is reached.
+ */
+public interface BettingProjectionIframeHistoryState {
+
+    String getUuid();
+
+    Long getSeq();
+
+    CouponStatus getCouponStatus();
+
+    CouponCalcStatus getCouponCalcStatus();
+}
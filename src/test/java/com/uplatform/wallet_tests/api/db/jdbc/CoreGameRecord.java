@@ -0,0 +1,16 @@
+package com.uplatform.wallet_tests.api.db.jdbc;
+
+public record CoreGameRecord(
+        Integer id,
+        String uuid,
+        String externalUuid,
+        int gameProviderId,
+        int gameTypeId,
+        short statusId,
+        String name,
+        String alias,
+        boolean isMobile,
+        boolean isDesktop,
+        boolean hasDemo,
+        Integer deletedAt) {
+}
@@ -0,0 +1,73 @@
+package com.uplatform.wallet_tests.api.db.jdbc;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read-only JDBC access to the core schema, mapping rows straight to immutable records
+ * without a persistence context.
+ */
+@Component
+public class CoreJdbcReader {
+
+    private static final String GAME_COLUMNS =
+            "SELECT id, uuid, external_uuid, game_provider_id, game_type_id, status_id, name, alias, " +
+            "is_mobile, is_desktop, has_demo, deleted_at FROM game ";
+
+    private static final String GAMES_BY_IDS = GAME_COLUMNS + "WHERE id IN (:ids)";
+
+    private static final String GAMES_BY_UUIDS = GAME_COLUMNS + "WHERE uuid IN (:uuids)";
+
+    private static final String GAME_PROVIDERS_BY_IDS =
+            "SELECT id, uuid, external_uuid, name, game_contract_id, status_id, default_currency, deleted_at " +
+            "FROM game_provider WHERE id IN (:ids)";
+
+    private static final RowMapper<CoreGameRecord> GAME_MAPPER = (rs, rowNum) -> new CoreGameRecord(
+            rs.getInt("id"),
+            rs.getString("uuid"),
+            rs.getString("external_uuid"),
+            rs.getInt("game_provider_id"),
+            rs.getInt("game_type_id"),
+            rs.getShort("status_id"),
+            rs.getString("name"),
+            rs.getString("alias"),
+            rs.getBoolean("is_mobile"),
+            rs.getBoolean("is_desktop"),
+            rs.getBoolean("has_demo"),
+            rs.getObject("deleted_at", Integer.class));
+
+    private static final RowMapper<GameProviderRecord> GAME_PROVIDER_MAPPER = (rs, rowNum) -> new GameProviderRecord(
+            rs.getInt("id"),
+            rs.getString("uuid"),
+            rs.getString("external_uuid"),
+            rs.getString("name"),
+            rs.getInt("game_contract_id"),
+            rs.getShort("status_id"),
+            rs.getString("default_currency"),
+            rs.getObject("deleted_at", Integer.class));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public CoreJdbcReader(@Qualifier("coreDataSource") DataSource dataSource) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+    }
+
+    public List<CoreGameRecord> findGamesByIds(Collection<Integer> ids) {
+        return ids.isEmpty() ? List.of() : jdbcTemplate.query(GAMES_BY_IDS, Map.of("ids", ids), GAME_MAPPER);
+    }
+
+    public List<CoreGameRecord> findGamesByUuids(Collection<String> uuids) {
+        return uuids.isEmpty() ? List.of() : jdbcTemplate.query(GAMES_BY_UUIDS, Map.of("uuids", uuids), GAME_MAPPER);
+    }
+
+    public List<GameProviderRecord> findGameProvidersByIds(Collection<Integer> ids) {
+        return ids.isEmpty() ? List.of() : jdbcTemplate.query(GAME_PROVIDERS_BY_IDS, Map.of("ids", ids), GAME_PROVIDER_MAPPER);
+    }
+}
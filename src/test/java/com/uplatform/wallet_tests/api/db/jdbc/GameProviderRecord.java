@@ -0,0 +1,12 @@
+package com.uplatform.wallet_tests.api.db.jdbc;
+
+public record GameProviderRecord(
+        Integer id,
+        String uuid,
+        String externalUuid,
+        String name,
+        int gameContractId,
+        short statusId,
+        String defaultCurrency,
+        Integer deletedAt) {
+}
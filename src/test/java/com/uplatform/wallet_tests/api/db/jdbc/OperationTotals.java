@@ -0,0 +1,15 @@
+package com.uplatform.wallet_tests.api.db.jdbc;
+
+import com.uplatform.wallet_tests.api.nats.dto.enums.NatsGamblingTransactionOperation;
+import com.uplatform.wallet_tests.api.nats.dto.enums.NatsGamblingTransactionType;
+
+import java.math.BigDecimal;
+
+public record OperationTotals(
+        NatsGamblingTransactionType type,
+        NatsGamblingTransactionOperation operation,
+        long count,
+        BigDecimal amountSum,
+        Long minSeq,
+        Long maxSeq) {
+}
@@ -0,0 +1,13 @@
+package com.uplatform.wallet_tests.api.db.jdbc;
+
+public record SequenceRange(
+        long rows,
+        long distinctUuids,
+        Long minSeq,
+        Long maxSeq) {
+
+    /** Sequence numbers missing between min and max, assuming one row per sequence number. */
+    public long gaps() {
+        return minSeq == null || maxSeq == null ? 0 : maxSeq - minSeq + 1 - rows;
+    }
+}
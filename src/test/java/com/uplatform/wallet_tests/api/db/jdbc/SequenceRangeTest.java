@@ -0,0 +1,26 @@
+package com.uplatform.wallet_tests.api.db.jdbc;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("Unit")
+class SequenceRangeTest {
+
+    @Test
+    void contiguousRangeHasNoGaps() {
+        assertEquals(0, new SequenceRange(51, 51, 10L, 60L).gaps());
+        assertEquals(0, new SequenceRange(1, 1, 7L, 7L).gaps());
+    }
+
+    @Test
+    void countsMissingSequenceNumbers() {
+        assertEquals(3, new SequenceRange(498, 498, 1L, 501L).gaps());
+    }
+
+    @Test
+    void emptyHistoryHasNoGaps() {
+        assertEquals(0, new SequenceRange(0, 0, null, null).gaps());
+    }
+}
@@ -0,0 +1,22 @@
+package com.uplatform.wallet_tests.api.db.jdbc;
+
+import com.uplatform.wallet_tests.api.nats.dto.enums.NatsGamblingTransactionOperation;
+import com.uplatform.wallet_tests.api.nats.dto.enums.NatsGamblingTransactionType;
+
+import java.math.BigDecimal;
+
+public record TransactionHistoryRecord(
+        String uuid,
+        String playerUuid,
+        Integer date,
+        NatsGamblingTransactionType type,
+        NatsGamblingTransactionOperation operation,
+        String gameUuid,
+        String gameSessionUuid,
+        String currency,
+        BigDecimal amount,
+        Integer createdAt,
+        Long seqnumber,
+        String betUuid,
+        boolean providerRoundClosed) {
+}
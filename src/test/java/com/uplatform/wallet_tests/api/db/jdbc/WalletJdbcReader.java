@@ -0,0 +1,160 @@
+package com.uplatform.wallet_tests.api.db.jdbc;
+
+import com.uplatform.wallet_tests.api.nats.dto.enums.NatsGamblingTransactionOperation;
+import com.uplatform.wallet_tests.api.nats.dto.enums.NatsGamblingTransactionType;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Read-only JDBC access to the wallet schema, mapping rows straight to immutable records
+ * without a persistence context.
+ */
+@Component
+public class WalletJdbcReader {
+
+    private static final String TRANSACTIONS_BY_UUIDS =
+            "SELECT uuid, player_uuid, date, type, operation, game_uuid, game_session_uuid, currency, amount, " +
+            "created_at, seqnumber, bet_uuid, provider_round_closed " +
+            "FROM gambling_projection_transaction_history WHERE uuid IN (:uuids)";
+
+    private static final String WALLETS_BY_UUIDS =
+            "SELECT uuid, player_uuid, is_gambling_active, is_betting_active FROM wallet WHERE uuid IN (:uuids)";
+
+    private static final String TRANSACTION_TOTALS_BY_PLAYER =
+            "SELECT type, operation, COUNT(*) AS cnt, SUM(amount) AS amount_sum, " +
+            "MIN(seqnumber) AS min_seq, MAX(seqnumber) AS max_seq " +
+            "FROM gambling_projection_transaction_history WHERE player_uuid = :playerUuid GROUP BY type, operation";
+
+    private static final String TRANSACTION_PAGE_BY_PLAYER =
+            "SELECT uuid, player_uuid, date, type, operation, game_uuid, game_session_uuid, currency, amount, " +
+            "created_at, seqnumber, bet_uuid, provider_round_closed " +
+            "FROM gambling_projection_transaction_history " +
+            "WHERE player_uuid = :playerUuid AND uuid > :afterUuid ORDER BY uuid LIMIT :pageSize";
+
+    private static final String TRANSACTION_COUNT_BY_PLAYER_AND_UUIDS =
+            "SELECT COUNT(*) FROM gambling_projection_transaction_history " +
+            "WHERE player_uuid = :playerUuid AND uuid IN (:uuids)";
+
+    private static final String IFRAME_SEQUENCE_RANGE_BY_WALLET =
+            "SELECT COUNT(*) AS cnt, COUNT(DISTINCT uuid) AS distinct_uuids, MIN(seq) AS min_seq, MAX(seq) AS max_seq " +
+            "FROM betting_projection_iframe_history WHERE wallet_uuid = :walletUuid";
+
+    private static final String IFRAME_UUID_PAGE_BY_WALLET =
+            "SELECT DISTINCT uuid FROM betting_projection_iframe_history " +
+            "WHERE wallet_uuid = :walletUuid AND uuid > :afterUuid ORDER BY uuid LIMIT :pageSize";
+
+    private static final int PAGE_SIZE = 1000;
+
+    private static final RowMapper<OperationTotals> TOTALS_MAPPER = (rs, rowNum) -> {
+        String type = rs.getString("type");
+        String operation = rs.getString("operation");
+        return new OperationTotals(
+                type == null ? null : NatsGamblingTransactionType.valueOf(type),
+                operation == null ? null : NatsGamblingTransactionOperation.valueOf(operation.toUpperCase()),
+                rs.getLong("cnt"),
+                rs.getBigDecimal("amount_sum"),
+                rs.getObject("min_seq", Long.class),
+                rs.getObject("max_seq", Long.class));
+    };
+
+    private static final RowMapper<TransactionHistoryRecord> TRANSACTION_MAPPER = (rs, rowNum) -> {
+        String type = rs.getString("type");
+        String operation = rs.getString("operation");
+        return new TransactionHistoryRecord(
+                rs.getString("uuid"),
+                rs.getString("player_uuid"),
+                rs.getObject("date", Integer.class),
+                type == null ? null : NatsGamblingTransactionType.valueOf(type),
+                operation == null ? null : NatsGamblingTransactionOperation.valueOf(operation.toUpperCase()),
+                rs.getString("game_uuid"),
+                rs.getString("game_session_uuid"),
+                rs.getString("currency"),
+                rs.getBigDecimal("amount"),
+                rs.getObject("created_at", Integer.class),
+                rs.getObject("seqnumber", Long.class),
+                rs.getString("bet_uuid"),
+                rs.getBoolean("provider_round_closed"));
+    };
+
+    private static final RowMapper<WalletRecord> WALLET_MAPPER = (rs, rowNum) -> new WalletRecord(
+            rs.getString("uuid"),
+            rs.getString("player_uuid"),
+            rs.getBoolean("is_gambling_active"),
+            rs.getBoolean("is_betting_active"));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public WalletJdbcReader(@Qualifier("walletDataSource") DataSource dataSource) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+    }
+
+    public List<TransactionHistoryRecord> findTransactionsByUuids(Collection<String> uuids) {
+        return uuids.isEmpty() ? List.of() : jdbcTemplate.query(TRANSACTIONS_BY_UUIDS, Map.of("uuids", uuids), TRANSACTION_MAPPER);
+    }
+
+    public List<WalletRecord> findWalletsByUuids(Collection<String> uuids) {
+        return uuids.isEmpty() ? List.of() : jdbcTemplate.query(WALLETS_BY_UUIDS, Map.of("uuids", uuids), WALLET_MAPPER);
+    }
+
+    public List<OperationTotals> getTransactionTotalsByPlayer(String playerUuid) {
+        return jdbcTemplate.query(TRANSACTION_TOTALS_BY_PLAYER, Map.of("playerUuid", playerUuid), TOTALS_MAPPER);
+    }
+
+    /** Streams all transactions of a player page by page, keyed on uuid so each page is an index range scan. */
+    public void forEachTransactionOfPlayer(String playerUuid, Consumer<TransactionHistoryRecord> consumer) {
+        String afterUuid = "";
+        List<TransactionHistoryRecord> page;
+        do {
+            page = jdbcTemplate.query(TRANSACTION_PAGE_BY_PLAYER,
+                    Map.of("playerUuid", playerUuid, "afterUuid", afterUuid, "pageSize", PAGE_SIZE), TRANSACTION_MAPPER);
+            page.forEach(consumer);
+            if (!page.isEmpty()) {
+                afterUuid = page.get(page.size() - 1).uuid();
+            }
+        } while (page.size() == PAGE_SIZE);
+    }
+
+    /** How many of the given transaction UUIDs the player has, counted in one query. */
+    public long countTransactionsOfPlayer(String playerUuid, Collection<String> uuids) {
+        if (uuids.isEmpty()) {
+            return 0;
+        }
+        Long count = jdbcTemplate.queryForObject(TRANSACTION_COUNT_BY_PLAYER_AND_UUIDS,
+                Map.of("playerUuid", playerUuid, "uuids", uuids), Long.class);
+        return count == null ? 0 : count;
+    }
+
+    public SequenceRange getIframeSequenceRangeByWallet(String walletUuid) {
+        return jdbcTemplate.queryForObject(IFRAME_SEQUENCE_RANGE_BY_WALLET, Map.of("walletUuid", walletUuid),
+                (rs, rowNum) -> new SequenceRange(
+                        rs.getLong("cnt"),
+                        rs.getLong("distinct_uuids"),
+                        rs.getObject("min_seq", Long.class),
+                        rs.getObject("max_seq", Long.class)));
+    }
+
+    public Set<String> findIframeUuidsOfWallet(String walletUuid) {
+        Set<String> uuids = new HashSet<>();
+        String afterUuid = "";
+        List<String> page;
+        do {
+            page = jdbcTemplate.queryForList(IFRAME_UUID_PAGE_BY_WALLET,
+                    Map.of("walletUuid", walletUuid, "afterUuid", afterUuid, "pageSize", PAGE_SIZE), String.class);
+            uuids.addAll(page);
+            if (!page.isEmpty()) {
+                afterUuid = page.get(page.size() - 1);
+            }
+        } while (page.size() == PAGE_SIZE);
+        return uuids;
+    }
+}
@@ -0,0 +1,160 @@
+package com.uplatform.wallet_tests.api.db.jdbc;
+
+import com.uplatform.wallet_tests.api.db.entity.wallet.GamblingProjectionTransactionHistory;
+import com.uplatform.wallet_tests.api.db.repository.wallet.GamblingProjectionTransactionHistoryRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the JDBC record path with the JPA entity path for the coalesced
+ * {@code uuid IN (...)} lookup on a local MySQL container. Both paths share one pool and
+ * read the same generated rows; outside a transaction every JPA call gets a fresh
+ * persistence context, as it does in the DB clients. Skipped when Docker is not available.
+ */
+@Slf4j
+@Tag("Performance")
+@Testcontainers(disabledWithoutDocker = true)
+class WalletReadPathThroughputTest {
+
+    private static final int ROWS = 20_000;
+    private static final int BATCH_SIZE = 100;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    private static HikariDataSource dataSource;
+    private static LocalContainerEntityManagerFactoryBean entityManagerFactoryBean;
+    private static WalletJdbcReader jdbcReader;
+    private static GamblingProjectionTransactionHistoryRepository repository;
+    private static List<List<String>> batches;
+
+    @BeforeAll
+    static void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(MYSQL.getJdbcUrl());
+        dataSource.setUsername(MYSQL.getUsername());
+        dataSource.setPassword(MYSQL.getPassword());
+        dataSource.setMaximumPoolSize(4);
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE gambling_projection_transaction_history (" +
+                "uuid VARCHAR(36) PRIMARY KEY, player_uuid VARCHAR(36), date INT, type VARCHAR(32), " +
+                "operation VARCHAR(32), game_uuid VARCHAR(36), game_session_uuid VARCHAR(36), currency VARCHAR(8), " +
+                "amount DECIMAL(20, 4), created_at INT, seqnumber BIGINT, bet_uuid VARCHAR(36), " +
+                "provider_round_closed BOOLEAN NOT NULL DEFAULT FALSE, KEY idx_player (player_uuid))");
+        List<Object[]> rows = new ArrayList<>(ROWS);
+        List<String> uuids = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            String uuid = new UUID(0, i).toString();
+            uuids.add(uuid);
+            rows.add(new Object[]{uuid, new UUID(1, i % 200).toString(), 1_700_000_000 + i,
+                    i % 2 == 0 ? "TYPE_BET" : "TYPE_WIN", i % 2 == 0 ? "bet" : "win",
+                    new UUID(2, i % 50).toString(), new UUID(3, i % 500).toString(), "EUR",
+                    BigDecimal.valueOf(i, 2), 1_700_000_000 + i, (long) i, new UUID(4, i).toString(), i % 3 == 0});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO gambling_projection_transaction_history VALUES (?,?,?,?,?,?,?,?,?,?,?,?,?)", rows);
+        batches = new ArrayList<>();
+        for (int from = 0; from < ROWS; from += BATCH_SIZE) {
+            batches.add(uuids.subList(from, Math.min(from + BATCH_SIZE, ROWS)));
+        }
+
+        entityManagerFactoryBean = new LocalContainerEntityManagerFactoryBean();
+        entityManagerFactoryBean.setDataSource(dataSource);
+        entityManagerFactoryBean.setPackagesToScan("com.uplatform.wallet_tests.api.db.entity.wallet");
+        entityManagerFactoryBean.setPersistenceUnitName("wallet");
+        entityManagerFactoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        entityManagerFactoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "none",
+                "hibernate.dialect", "org.hibernate.dialect.MySQLDialect"));
+        entityManagerFactoryBean.afterPropertiesSet();
+        EntityManagerFactory entityManagerFactory = entityManagerFactoryBean.getObject();
+
+        jdbcReader = new WalletJdbcReader(dataSource);
+        repository = new JpaRepositoryFactory(SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory))
+                .getRepository(GamblingProjectionTransactionHistoryRepository.class);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (entityManagerFactoryBean != null) {
+            entityManagerFactoryBean.destroy();
+        }
+        if (dataSource != null) {
+            dataSource.close();
+        }
+    }
+
+    private static double rowsPerSecond(Function<List<String>, List<?>> lookup) {
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            batches.forEach(lookup::apply);
+        }
+        long rowsRead = 0;
+        long startedAt = System.nanoTime();
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            for (List<String> batch : batches) {
+                rowsRead += lookup.apply(batch).size();
+            }
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        assertEquals((long) ROWS * MEASURED_ROUNDS, rowsRead);
+        return rowsRead * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    @Test
+    void jdbcAndJpaReturnTheSameRows() {
+        List<String> batch = batches.get(7);
+        List<TransactionHistoryRecord> records = new ArrayList<>(jdbcReader.findTransactionsByUuids(batch));
+        List<GamblingProjectionTransactionHistory> entities = new ArrayList<>(repository.findAllById(batch));
+        records.sort(Comparator.comparing(TransactionHistoryRecord::uuid));
+        entities.sort(Comparator.comparing(GamblingProjectionTransactionHistory::getUuid));
+
+        assertEquals(BATCH_SIZE, records.size());
+        assertEquals(BATCH_SIZE, entities.size());
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            TransactionHistoryRecord record = records.get(i);
+            GamblingProjectionTransactionHistory entity = entities.get(i);
+            assertEquals(entity.getUuid(), record.uuid());
+            assertEquals(entity.getType(), record.type());
+            assertEquals(entity.getOperation(), record.operation());
+            assertEquals(0, entity.getAmount().compareTo(record.amount()));
+            assertEquals(entity.getSeqnumber(), record.seqnumber());
+            assertEquals(entity.isProviderRoundClosed(), record.providerRoundClosed());
+        }
+    }
+
+    @Test
+    void compareBatchLookupThroughput() {
+        double jpaRowsPerSecond = rowsPerSecond(repository::findAllById);
+        double jdbcRowsPerSecond = rowsPerSecond(jdbcReader::findTransactionsByUuids);
+
+        log.info("uuid IN ({}) lookups over {} rows x {} rounds: JPA {} rows/s, JDBC {} rows/s ({}x)",
+                BATCH_SIZE, ROWS, MEASURED_ROUNDS, String.format("%.0f", jpaRowsPerSecond),
+                String.format("%.0f", jdbcRowsPerSecond), String.format("%.2f", jdbcRowsPerSecond / jpaRowsPerSecond));
+        assertTrue(jpaRowsPerSecond > 0 && jdbcRowsPerSecond > 0);
+    }
+}
@@ -0,0 +1,8 @@
+package com.uplatform.wallet_tests.api.db.jdbc;
+
+public record WalletRecord(
+        String uuid,
+        String playerUuid,
+        boolean gamblingActive,
+        boolean bettingActive) {
+}
@@ -0,0 +1,26 @@
+package com.uplatform.wallet_tests.api.db.metrics;
+
+import java.sql.SQLException;
+
+/**
+ * Notified by the instrumented datasource around every connection acquisition, so pool
+ * accounting shares the single datasource proxy instead of adding another one.
+ */
+public interface ConnectionAcquireListener {
+
+    ConnectionAcquireListener NONE = new ConnectionAcquireListener() {
+        @Override
+        public void acquired(long nanos) {
+        }
+
+        @Override
+        public SQLException failed(long nanos, SQLException failure) {
+            return failure;
+        }
+    };
+
+    void acquired(long nanos);
+
+    /** Returns the exception the caller receives in place of {@code failure}. */
+    SQLException failed(long nanos, SQLException failure);
+}
@@ -0,0 +1,168 @@
+package com.uplatform.wallet_tests.api.db.metrics;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * JDK proxies around {@link DataSource}, {@link Connection}, statements and result sets that
+ * report connection-acquire time, statement execution time and rows read to {@link StatementMetrics}.
+ * Connection acquisition is also reported to a {@link ConnectionAcquireListener}. Statements and
+ * result sets hand back the proxies they came from, never the raw driver objects.
+ * The datasource proxy is also {@link Closeable} and closes the pool it wraps, so the inferred
+ * destroy method of the datasource beans still shuts the pools down.
+ */
+final class InstrumentedDataSourceHandler {
+
+    private InstrumentedDataSourceHandler() {
+    }
+
+    static DataSource wrap(String name, DataSource target, StatementMetrics metrics, ConnectionAcquireListener listener) {
+        return proxy(DataSource.class, target, (self, method, args) -> {
+            if (method.getName().equals("close")) {
+                closeTarget(target);
+                return null;
+            }
+            if (!method.getName().equals("getConnection")) {
+                return invoke(target, method, args);
+            }
+            long startedAt = System.nanoTime();
+            boolean failed = true;
+            try {
+                Connection connection = (Connection) invoke(target, method, args);
+                failed = false;
+                listener.acquired(System.nanoTime() - startedAt);
+                return wrapConnection(name, connection, metrics);
+            } catch (SQLException e) {
+                throw listener.failed(System.nanoTime() - startedAt, e);
+            } finally {
+                metrics.recordConnectionAcquire(name, System.nanoTime() - startedAt, failed);
+            }
+        }, Closeable.class);
+    }
+
+    private static void closeTarget(DataSource target) throws Exception {
+        if (target instanceof AutoCloseable closeable) {
+            closeable.close();
+        } else if (target.isWrapperFor(AutoCloseable.class)) {
+            target.unwrap(AutoCloseable.class).close();
+        }
+    }
+
+    private static Connection wrapConnection(String name, Connection target, StatementMetrics metrics) {
+        return proxy(Connection.class, target, (self, method, args) -> {
+            Object result = invoke(target, method, args);
+            String methodName = method.getName();
+            Connection owner = (Connection) self;
+            if (result instanceof CallableStatement statement && methodName.equals("prepareCall")) {
+                return wrapStatement(CallableStatement.class, name, (String) args[0], statement, owner, metrics);
+            }
+            if (result instanceof PreparedStatement statement && methodName.equals("prepareStatement")) {
+                return wrapStatement(PreparedStatement.class, name, (String) args[0], statement, owner, metrics);
+            }
+            if (result instanceof Statement statement && methodName.equals("createStatement")) {
+                return wrapStatement(Statement.class, name, null, statement, owner, metrics);
+            }
+            return result;
+        });
+    }
+
+    private static <S extends Statement> S wrapStatement(Class<S> type,
+                                                         String name,
+                                                         String preparedSql,
+                                                         S target,
+                                                         Connection connection,
+                                                         StatementMetrics metrics) {
+        StatementShapeStats[] lastExecuted = {preparedSql != null ? metrics.shape(name, preparedSql) : null};
+        return proxy(type, target, (self, method, args) -> {
+            String methodName = method.getName();
+            Statement owner = (Statement) self;
+            if (methodName.equals("getConnection")) {
+                return connection;
+            }
+            if (methodName.equals("getResultSet") || methodName.equals("getGeneratedKeys")) {
+                ResultSet resultSet = (ResultSet) invoke(target, method, args);
+                return resultSet == null || lastExecuted[0] == null
+                        ? resultSet : wrapResultSet(lastExecuted[0], resultSet, owner);
+            }
+            if (!methodName.startsWith("execute")) {
+                return invoke(target, method, args);
+            }
+            StatementShapeStats stats = preparedSql != null ? lastExecuted[0] : metrics.shape(name, sqlOf(args));
+            lastExecuted[0] = stats;
+            long startedAt = System.nanoTime();
+            boolean failed = true;
+            try {
+                Object result = invoke(target, method, args);
+                failed = false;
+                return result instanceof ResultSet resultSet ? wrapResultSet(stats, resultSet, owner) : result;
+            } finally {
+                stats.record(System.nanoTime() - startedAt, failed);
+            }
+        });
+    }
+
+    private static String sqlOf(Object[] args) {
+        return args != null && args.length > 0 && args[0] instanceof String sql ? sql : "<batch>";
+    }
+
+    private static ResultSet wrapResultSet(StatementShapeStats stats, ResultSet target, Statement statement) {
+        return proxy(ResultSet.class, target, (self, method, args) -> {
+            if (method.getName().equals("getStatement")) {
+                return statement;
+            }
+            Object result = invoke(target, method, args);
+            if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+                stats.addRow();
+            }
+            return result;
+        });
+    }
+
+    @FunctionalInterface
+    private interface Interceptor {
+        Object intercept(Object proxy, Method method, Object[] args) throws Throwable;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, Interceptor interceptor, Class<?>... extraTypes) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "unwrap":
+                    Class<?> iface = (Class<?>) args[0];
+                    return iface.isInstance(proxy) && !iface.isInstance(target) ? proxy : invoke(target, method, args);
+                case "isWrapperFor":
+                    return ((Class<?>) args[0]).isInstance(proxy) || (Boolean) invoke(target, method, args);
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Instrumented[" + target + "]";
+                default:
+                    return interceptor.intercept(proxy, method, args);
+            }
+        };
+        Class<?>[] types = new Class<?>[extraTypes.length + 1];
+        types[0] = type;
+        System.arraycopy(extraTypes, 0, types, 1, extraTypes.length);
+        return (T) Proxy.newProxyInstance(InstrumentedDataSourceHandler.class.getClassLoader(), types, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
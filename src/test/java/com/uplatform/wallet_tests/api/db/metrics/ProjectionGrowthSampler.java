@@ -0,0 +1,309 @@
+package com.uplatform.wallet_tests.api.db.metrics;
+
+import com.uplatform.wallet_tests.api.attachment.AllureAttachmentService;
+import com.uplatform.wallet_tests.api.nats.NatsWalletStreamObserver;
+import com.uplatform.wallet_tests.config.EnvironmentConfigurationProvider;
+import com.uplatform.wallet_tests.config.ProjectionGrowthConfig;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically samples the wallet schema: estimated row counts and data/index lengths from
+ * {@code information_schema.TABLES}, and the latency of a fixed set of lookups by key. The
+ * samples are set against the wallet operations seen on the NATS stream, so a table or index
+ * that degrades with load shows up as a trend in the final report. The operation count comes
+ * from {@link NatsWalletStreamObserver}; with the observer disabled the report says so and
+ * leaves out the per-operation columns.
+ */
+@Slf4j
+@Component
+public class ProjectionGrowthSampler {
+
+    private static final int MAX_SAMPLES = 240;
+    private static final double MIN_BASELINE_MS = 0.5;
+    private static final double BYTES_PER_MB = 1024.0 * 1024.0;
+    private static final String TABLE_SIZES_SQL =
+            "SELECT TABLE_NAME, TABLE_ROWS, DATA_LENGTH, INDEX_LENGTH FROM information_schema.TABLES " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_TYPE = 'BASE TABLE'";
+
+    /** Lookups by a key that never exists: the cost is the index probe, or a full scan without an index. */
+    private static final List<Probe> PROBES = List.of(
+            new Probe("transaction by uuid",
+                    "SELECT 1 FROM gambling_projection_transaction_history WHERE uuid = ?"),
+            new Probe("transactions by player_uuid",
+                    "SELECT COUNT(*) FROM gambling_projection_transaction_history WHERE player_uuid = ?"),
+            new Probe("iframe history by uuid",
+                    "SELECT MAX(seq) FROM betting_projection_iframe_history WHERE uuid = ?"),
+            new Probe("iframe history by wallet_uuid",
+                    "SELECT COUNT(*) FROM betting_projection_iframe_history WHERE wallet_uuid = ?"),
+            new Probe("threshold by player_uuid",
+                    "SELECT 1 FROM player_threshold_win WHERE player_uuid = ?"),
+            new Probe("wallet by uuid",
+                    "SELECT 1 FROM wallet WHERE uuid = ?"),
+            new Probe("wallets by player_uuid",
+                    "SELECT COUNT(*) FROM wallet WHERE player_uuid = ?"),
+            new Probe("game sessions by player_uuid",
+                    "SELECT COUNT(*) FROM game_session WHERE player_uuid = ?"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NatsWalletStreamObserver streamObserver;
+    private final AllureAttachmentService attachmentService;
+    private final long intervalMs;
+    private final int probeRepetitions;
+    private final double latencyGrowthFactor;
+    private final String probeKey = UUID.randomUUID().toString();
+    private final Deque<Sample> samples = new ArrayDeque<>();
+    private final Map<String, String> accessPaths = new ConcurrentHashMap<>();
+    private boolean statsExpiryUnsupported;
+    private ScheduledExecutorService scheduler;
+
+    public ProjectionGrowthSampler(@Qualifier("walletDataSource") DataSource dataSource,
+                                   NatsWalletStreamObserver streamObserver,
+                                   AllureAttachmentService attachmentService,
+                                   EnvironmentConfigurationProvider configProvider) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamObserver = streamObserver;
+        this.attachmentService = attachmentService;
+        ProjectionGrowthConfig config = configProvider.getEnvironmentConfig().getDatabases().get("wallet").getProjectionGrowth();
+        this.intervalMs = config != null ? config.getSamplerIntervalMs() : 0;
+        this.probeRepetitions = config != null ? Math.max(1, config.getProbeRepetitions()) : 1;
+        this.latencyGrowthFactor = config != null && config.getLatencyGrowthFactor() > 1 ? config.getLatencyGrowthFactor() : 3.0;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (intervalMs <= 0) {
+            log.info("Projection growth sampler disabled");
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "projection-growth-sampler");
+            t.setDaemon(true);
+            return t;
+        });
+        scheduler.scheduleWithFixedDelay(this::sampleSafely, 0, intervalMs, TimeUnit.MILLISECONDS);
+        log.info("Projection growth sampler started with {} ms interval", intervalMs);
+        if (!streamObserver.isEnabled()) {
+            log.info("NATS wallet stream observer is disabled, projection growth is not set against wallet operations");
+        }
+    }
+
+    private void sampleSafely() {
+        try {
+            sample();
+        } catch (Exception e) {
+            log.warn("Projection growth sampling failed: {}", e.getMessage());
+        }
+    }
+
+    public void sample() {
+        long operations = streamObserver.getMessageCount();
+        Sample sample = jdbcTemplate.execute((ConnectionCallback<Sample>) connection -> {
+            boolean statsCacheDisabled = disableStatsCache(connection);
+            try {
+                Map<String, TableSize> tables = readTableSizes(connection);
+                Map<String, Double> latencies = new LinkedHashMap<>();
+                for (Probe probe : PROBES) {
+                    if (!accessPaths.containsKey(probe.name())) {
+                        accessPaths.put(probe.name(), explain(connection, probe));
+                    }
+                    latencies.put(probe.name(), medianLatencyMs(connection, probe));
+                }
+                return new Sample(System.currentTimeMillis(), operations, tables, latencies);
+            } finally {
+                if (statsCacheDisabled) {
+                    restoreStatsCache(connection);
+                }
+            }
+        });
+        synchronized (samples) {
+            if (samples.size() == MAX_SAMPLES) {
+                samples.pollFirst();
+            }
+            samples.addLast(sample);
+        }
+    }
+
+    /** MySQL 8 caches information_schema table statistics for a day by default; read them fresh. */
+    private boolean disableStatsCache(Connection connection) {
+        if (statsExpiryUnsupported) {
+            return false;
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET SESSION information_schema_stats_expiry = 0");
+            return true;
+        } catch (SQLException e) {
+            statsExpiryUnsupported = true;
+            log.debug("information_schema_stats_expiry not supported, table sizes may lag: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /** The connection goes back to the shared pool, so the session setting must not outlive the sample. */
+    private void restoreStatsCache(Connection connection) {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET SESSION information_schema_stats_expiry = DEFAULT");
+        } catch (SQLException e) {
+            log.warn("Failed to reset information_schema_stats_expiry on a pooled connection: {}", e.getMessage());
+        }
+    }
+
+    private Map<String, TableSize> readTableSizes(Connection connection) throws SQLException {
+        Map<String, TableSize> tables = new LinkedHashMap<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(TABLE_SIZES_SQL)) {
+            while (rs.next()) {
+                tables.put(rs.getString(1), new TableSize(rs.getLong(2), rs.getLong(3), rs.getLong(4)));
+            }
+        }
+        return tables;
+    }
+
+    private String explain(Connection connection, Probe probe) {
+        try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + probe.sql())) {
+            statement.setString(1, probeKey);
+            try (ResultSet rs = statement.executeQuery()) {
+                if (!rs.next()) {
+                    return "unknown";
+                }
+                String type = rs.getString("type");
+                String key = rs.getString("key");
+                if (type == null) {
+                    // Resolved from the index while planning, e.g. "no matching row in const table".
+                    return rs.getString("Extra");
+                }
+                return key != null ? type + " via " + key : type + " (no index)";
+            }
+        } catch (SQLException e) {
+            log.debug("EXPLAIN for probe '{}' failed: {}", probe.name(), e.getMessage());
+            return "unknown";
+        }
+    }
+
+    private double medianLatencyMs(Connection connection, Probe probe) {
+        double[] timings = new double[probeRepetitions];
+        try (PreparedStatement statement = connection.prepareStatement(probe.sql())) {
+            statement.setString(1, probeKey);
+            for (int i = 0; i < probeRepetitions; i++) {
+                long startedAt = System.nanoTime();
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        // drain
+                    }
+                }
+                timings[i] = (System.nanoTime() - startedAt) / 1_000_000.0;
+            }
+        } catch (SQLException e) {
+            log.debug("Probe '{}' failed: {}", probe.name(), e.getMessage());
+            return -1;
+        }
+        Arrays.sort(timings);
+        return timings[timings.length / 2];
+    }
+
+    public String getReport() {
+        List<Sample> snapshot;
+        synchronized (samples) {
+            snapshot = new ArrayList<>(samples);
+        }
+        if (snapshot.size() < 2) {
+            return String.format("Samples: %d, not enough for a trend%n", snapshot.size());
+        }
+        Sample first = snapshot.get(0);
+        Sample last = snapshot.get(snapshot.size() - 1);
+        double seconds = Math.max(1, last.atMillis() - first.atMillis()) / 1000.0;
+        boolean countsOperations = streamObserver.isEnabled();
+        long opsDelta = countsOperations ? last.operations() - first.operations() : 0;
+
+        StringBuilder sb = new StringBuilder();
+        if (countsOperations) {
+            sb.append(String.format("Samples: %d over %.0f s, wallet operations (NATS stream): %d -> %d, %.1f ops/s%n",
+                    snapshot.size(), seconds, first.operations(), last.operations(), opsDelta / seconds));
+        } else {
+            sb.append(String.format("Samples: %d over %.0f s, wallet operations: no operation source "
+                    + "(NATS wallet stream observer disabled), per-operation columns omitted%n", snapshot.size(), seconds));
+        }
+
+        sb.append("Tables (estimated rows, data / index MB):\n");
+        for (Map.Entry<String, TableSize> entry : last.tables().entrySet()) {
+            TableSize end = entry.getValue();
+            TableSize start = first.tables().getOrDefault(entry.getKey(), end);
+            long rowsDelta = end.rows() - start.rows();
+            sb.append(String.format("  %s: rows %d -> %d (%.1f/s%s), data %.1f -> %.1f, index %.1f -> %.1f, index/data %.2f%n",
+                    entry.getKey(), start.rows(), end.rows(), rowsDelta / seconds,
+                    opsDelta > 0 ? String.format(", %.2f/op", (double) rowsDelta / opsDelta) : "",
+                    start.dataLength() / BYTES_PER_MB, end.dataLength() / BYTES_PER_MB,
+                    start.indexLength() / BYTES_PER_MB, end.indexLength() / BYTES_PER_MB,
+                    end.dataLength() > 0 ? (double) end.indexLength() / end.dataLength() : 0.0));
+        }
+
+        sb.append("Lookups (median ms, first -> last, max):\n");
+        List<String> flagged = new ArrayList<>();
+        for (Probe probe : PROBES) {
+            double start = first.latenciesMs().getOrDefault(probe.name(), -1.0);
+            double end = last.latenciesMs().getOrDefault(probe.name(), -1.0);
+            double max = snapshot.stream().mapToDouble(s -> s.latenciesMs().getOrDefault(probe.name(), -1.0)).max().orElse(-1);
+            String accessPath = accessPaths.getOrDefault(probe.name(), "unknown");
+            sb.append(String.format("  %s: %.2f -> %.2f, max %.2f%s, %s%n", probe.name(), start, end, max,
+                    opsDelta > 0 && start >= 0 && end >= 0
+                            ? String.format(", %+.3f ms per 10k ops", (end - start) * 10_000 / opsDelta) : "",
+                    accessPath));
+            if (accessPath.endsWith("(no index)")) {
+                flagged.add(probe.name() + ": no index used");
+            } else if (start >= 0 && end > latencyGrowthFactor * Math.max(start, MIN_BASELINE_MS)) {
+                flagged.add(String.format("%s: latency grew %.1fx", probe.name(), end / Math.max(start, MIN_BASELINE_MS)));
+            }
+        }
+        if (!flagged.isEmpty()) {
+            sb.append("Degrading:\n");
+            flagged.forEach(line -> sb.append("  ").append(line).append('\n'));
+        }
+        return sb.toString();
+    }
+
+    public void attachReport() {
+        attachmentService.attachText("Projection Growth Report", getReport());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+        log.info("Projection growth sampler report:\n{}", getReport());
+    }
+
+    private record Probe(String name, String sql) {
+    }
+
+    private record TableSize(long rows, long dataLength, long indexLength) {
+    }
+
+    private record Sample(long atMillis, long operations, Map<String, TableSize> tables, Map<String, Double> latenciesMs) {
+    }
+}
@@ -0,0 +1,105 @@
+package com.uplatform.wallet_tests.api.db.metrics;
+
+import com.uplatform.wallet_tests.api.attachment.AllureAttachmentService;
+import com.uplatform.wallet_tests.api.nats.NatsWalletStreamObserver;
+import com.uplatform.wallet_tests.config.DatabaseInstanceConfig;
+import com.uplatform.wallet_tests.config.EnvironmentConfig;
+import com.uplatform.wallet_tests.config.EnvironmentConfigurationProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.dao.DataAccessException;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@Tag("Unit")
+class ProjectionGrowthSamplerTest {
+
+    private static final String DISABLE = "SET SESSION information_schema_stats_expiry = 0";
+    private static final String RESTORE = "SET SESSION information_schema_stats_expiry = DEFAULT";
+
+    private final Connection connection = mock(Connection.class);
+    private final Statement statement = mock(Statement.class);
+    private final NatsWalletStreamObserver streamObserver = mock(NatsWalletStreamObserver.class);
+    private ProjectionGrowthSampler sampler;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        PreparedStatement probe = mock(PreparedStatement.class);
+        when(probe.executeQuery()).thenReturn(mock(ResultSet.class));
+        when(connection.prepareStatement(anyString())).thenReturn(probe);
+
+        EnvironmentConfig environment = new EnvironmentConfig();
+        environment.setDatabases(Map.of("wallet", new DatabaseInstanceConfig()));
+        EnvironmentConfigurationProvider configProvider = mock(EnvironmentConfigurationProvider.class);
+        when(configProvider.getEnvironmentConfig()).thenReturn(environment);
+        sampler = new ProjectionGrowthSampler(dataSource, streamObserver,
+                mock(AllureAttachmentService.class), configProvider);
+    }
+
+    @Test
+    void resetsStatsExpiryBeforeReturningTheConnection() throws Exception {
+        when(statement.executeQuery(anyString())).thenReturn(mock(ResultSet.class));
+
+        sampler.sample();
+
+        InOrder order = inOrder(statement, connection);
+        order.verify(statement).execute(DISABLE);
+        order.verify(statement).executeQuery(startsWith("SELECT TABLE_NAME"));
+        order.verify(statement).execute(RESTORE);
+        order.verify(connection).close();
+    }
+
+    @Test
+    void resetsStatsExpiryWhenTheSampleFails() throws Exception {
+        when(statement.executeQuery(anyString())).thenThrow(new SQLException("information_schema unavailable"));
+
+        assertThrows(DataAccessException.class, sampler::sample);
+
+        verify(statement).execute(RESTORE);
+        verify(connection).close();
+    }
+
+    @Test
+    void skipsResetWhenTheSettingIsUnsupported() throws Exception {
+        when(statement.execute(DISABLE)).thenThrow(new SQLException("Unknown system variable"));
+        when(statement.executeQuery(anyString())).thenReturn(mock(ResultSet.class));
+
+        sampler.sample();
+        sampler.sample();
+
+        verify(statement, times(1)).execute(DISABLE);
+        verify(statement, never()).execute(RESTORE);
+    }
+
+    @Test
+    void reportNamesTheMissingOperationSource() throws Exception {
+        when(statement.executeQuery(anyString())).thenAnswer(invocation -> mock(ResultSet.class));
+        sampler.sample();
+        sampler.sample();
+
+        when(streamObserver.isEnabled()).thenReturn(false);
+        String withoutObserver = sampler.getReport();
+        when(streamObserver.isEnabled()).thenReturn(true);
+        String withObserver = sampler.getReport();
+
+        assertTrue(withoutObserver.contains("no operation source"), withoutObserver);
+        assertFalse(withoutObserver.contains("per 10k ops"), withoutObserver);
+        assertTrue(withObserver.contains("wallet operations (NATS stream): 0 -> 0"), withObserver);
+    }
+}
@@ -0,0 +1,140 @@
+package com.uplatform.wallet_tests.api.db.metrics;
+
+import com.uplatform.wallet_tests.api.attachment.AllureAttachmentService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Per-statement-shape timing for the instrumented datasources. Statements are grouped by
+ * their SQL with literals replaced and IN lists collapsed, so the coalesced polls of
+ * different sizes land in one shape. Connection acquisition is tracked per datasource.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StatementMetrics {
+
+    private static final int MAX_SHAPES = 500;
+    private static final int TOP_SHAPES = 15;
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final String OTHER_SHAPE = "<other statements>";
+
+    private final AllureAttachmentService attachmentService;
+    private final Map<String, StatementShapeStats> shapes = new ConcurrentHashMap<>();
+    private final Map<String, StatementShapeStats> connectionAcquires = new ConcurrentHashMap<>();
+
+    public DataSource instrument(String name, DataSource dataSource) {
+        return instrument(name, dataSource, ConnectionAcquireListener.NONE);
+    }
+
+    public DataSource instrument(String name, DataSource dataSource, ConnectionAcquireListener acquireListener) {
+        log.info("Statement metrics enabled for datasource '{}'", name);
+        return InstrumentedDataSourceHandler.wrap(name, dataSource, this, acquireListener);
+    }
+
+    StatementShapeStats shape(String dataSource, String sql) {
+        String shape = normalize(sql);
+        String key = dataSource + '|' + shape;
+        StatementShapeStats stats = shapes.get(key);
+        if (stats != null) {
+            return stats;
+        }
+        if (shapes.size() >= MAX_SHAPES) {
+            return shapes.computeIfAbsent(dataSource + '|' + OTHER_SHAPE, k -> new StatementShapeStats(dataSource, OTHER_SHAPE));
+        }
+        return shapes.computeIfAbsent(key, k -> new StatementShapeStats(dataSource, shape));
+    }
+
+    void recordConnectionAcquire(String dataSource, long nanos, boolean failed) {
+        connectionAcquires.computeIfAbsent(dataSource, k -> new StatementShapeStats(dataSource, "connection acquire"))
+                .record(nanos, failed);
+    }
+
+    static String normalize(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("in (...)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+
+    /** Copy of the current counters, so a later summary can report only what ran after it. */
+    public Snapshot snapshot() {
+        return new Snapshot(copy(shapes), copy(connectionAcquires));
+    }
+
+    private static Map<String, StatementShapeStats> copy(Map<String, StatementShapeStats> stats) {
+        Map<String, StatementShapeStats> copy = new HashMap<>();
+        stats.forEach((key, value) -> copy.put(key, value.copy()));
+        return copy;
+    }
+
+    private static Collection<StatementShapeStats> since(Map<String, StatementShapeStats> current,
+                                                         Map<String, StatementShapeStats> before) {
+        return current.entrySet().stream()
+                .map(entry -> entry.getValue().since(before.get(entry.getKey())))
+                .filter(delta -> delta.getCount() > 0)
+                .toList();
+    }
+
+    public String getSummary() {
+        return summarize(connectionAcquires.values(), shapes.values());
+    }
+
+    /** Statements executed since {@code before} was taken, by any thread. */
+    public String getSummarySince(Snapshot before) {
+        return summarize(since(connectionAcquires, before.connectionAcquires), since(shapes, before.shapes));
+    }
+
+    private static String summarize(Collection<StatementShapeStats> acquires, Collection<StatementShapeStats> shapeStats) {
+        StringBuilder sb = new StringBuilder();
+        acquires.stream()
+                .sorted(Comparator.comparing(StatementShapeStats::getDataSource))
+                .forEach(stats -> sb.append(stats.describe()).append('\n'));
+
+        List<StatementShapeStats> byTotalTime = shapeStats.stream()
+                .sorted(Comparator.comparingLong(StatementShapeStats::getTotalNanos).reversed())
+                .toList();
+        long statements = byTotalTime.stream().mapToLong(StatementShapeStats::getCount).sum();
+        long totalMs = TimeUnit.NANOSECONDS.toMillis(byTotalTime.stream().mapToLong(StatementShapeStats::getTotalNanos).sum());
+        sb.append(String.format("Statements: %d in %d shapes, %d ms total%n", statements, byTotalTime.size(), totalMs));
+        byTotalTime.stream().limit(TOP_SHAPES).forEach(stats -> sb.append(stats.describe()).append('\n'));
+        if (byTotalTime.size() > TOP_SHAPES) {
+            sb.append("... and ").append(byTotalTime.size() - TOP_SHAPES).append(" more shapes\n");
+        }
+        return sb.toString();
+    }
+
+    public void attachSummary(Snapshot before) {
+        attachmentService.attachText("DB Statement Metrics (during this test)", getSummarySince(before));
+    }
+
+    @PreDestroy
+    public void logSummary() {
+        log.info("DB statement metrics:\n{}", getSummary());
+    }
+
+    public static final class Snapshot {
+        private final Map<String, StatementShapeStats> shapes;
+        private final Map<String, StatementShapeStats> connectionAcquires;
+
+        private Snapshot(Map<String, StatementShapeStats> shapes, Map<String, StatementShapeStats> connectionAcquires) {
+            this.shapes = shapes;
+            this.connectionAcquires = connectionAcquires;
+        }
+    }
+}
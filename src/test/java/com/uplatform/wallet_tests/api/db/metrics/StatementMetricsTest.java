@@ -0,0 +1,126 @@
+package com.uplatform.wallet_tests.api.db.metrics;
+
+import com.uplatform.wallet_tests.api.attachment.AllureAttachmentService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@Tag("Unit")
+class StatementMetricsTest {
+
+    private final StatementMetrics metrics = new StatementMetrics(mock(AllureAttachmentService.class));
+
+    @Test
+    void normalizesLiteralsAndInLists() {
+        assertEquals("select * from t where a = ? and b in (...) and c = ?",
+                StatementMetrics.normalize("select *  from t\n where a = 'x''y' and b in (?, ?,?) and c = 42"));
+    }
+
+    @Test
+    void recordsStatementsAndRowsPerShape() throws Exception {
+        DataSource target = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, true, false);
+
+        DataSource instrumented = metrics.instrument("wallet", target);
+        for (int size : new int[]{2, 3}) {
+            String sql = "select uuid from h where uuid in (" + "?,".repeat(size - 1) + "?)";
+            try (Connection c = instrumented.getConnection(); PreparedStatement ps = c.prepareStatement(sql);
+                 ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    assertNotSame(resultSet, rs);
+                }
+            }
+            reset(resultSet);
+            when(resultSet.next()).thenReturn(true, true, false);
+        }
+
+        String summary = metrics.getSummary();
+        assertTrue(summary.contains("Statements: 2 in 1 shapes"), summary);
+        assertTrue(summary.contains("rows=4 | select uuid from h where uuid in (...)"), summary);
+        assertTrue(summary.contains("[wallet] count=2, errors=0"), summary);
+    }
+
+    @Test
+    void statementsAndResultSetsReturnTheirProxies() throws Exception {
+        DataSource target = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(statement.getConnection()).thenReturn(connection);
+        when(resultSet.getStatement()).thenReturn(statement);
+
+        Connection c = metrics.instrument("wallet", target).getConnection();
+        PreparedStatement ps = c.prepareStatement("select 1");
+        ResultSet rs = ps.executeQuery();
+
+        assertSame(c, ps.getConnection());
+        assertSame(ps, rs.getStatement());
+    }
+
+    @Test
+    void summarySinceASnapshotCoversOnlyLaterStatements() throws Exception {
+        DataSource target = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        DataSource instrumented = metrics.instrument("wallet", target);
+
+        try (Connection c = instrumented.getConnection()) {
+            c.prepareStatement("select a from t").executeUpdate();
+            c.prepareStatement("select b from t").executeUpdate();
+        }
+        StatementMetrics.Snapshot before = metrics.snapshot();
+        try (Connection c = instrumented.getConnection()) {
+            c.prepareStatement("select b from t").executeUpdate();
+        }
+
+        String since = metrics.getSummarySince(before);
+        assertTrue(since.contains("Statements: 1 in 1 shapes"), since);
+        assertTrue(since.contains("rows=0 | select b from t"), since);
+        assertFalse(since.contains("select a from t"), since);
+        assertTrue(since.contains("[wallet] count=1, errors=0"), since);
+        assertTrue(metrics.getSummary().contains("Statements: 3 in 2 shapes"), metrics.getSummary());
+    }
+
+    @Test
+    void closingTheProxyClosesThePool() throws Exception {
+        HikariDataSource pool = mock(HikariDataSource.class);
+
+        DataSource instrumented = metrics.instrument("core", pool);
+
+        assertInstanceOf(Closeable.class, instrumented);
+        ((Closeable) instrumented).close();
+        verify(pool).close();
+    }
+
+    @Test
+    void closingTheProxyReachesAPoolBehindAnotherWrapper() throws Exception {
+        DataSource wrapper = mock(DataSource.class);
+        HikariDataSource pool = mock(HikariDataSource.class);
+        when(wrapper.isWrapperFor(AutoCloseable.class)).thenReturn(true);
+        when(wrapper.unwrap(AutoCloseable.class)).thenReturn(pool);
+
+        ((Closeable) metrics.instrument("core", wrapper)).close();
+
+        verify(pool).close();
+    }
+}
@@ -0,0 +1,136 @@
+package com.uplatform.wallet_tests.api.db.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Timing histogram for one statement shape (SQL with literals and IN lists collapsed)
+ * or for connection acquisition on one datasource.
+ */
+class StatementShapeStats {
+
+    static final long[] BUCKET_BOUNDS_MS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 5000};
+
+    private final String dataSource;
+    private final String shape;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder[] buckets = new LongAdder[BUCKET_BOUNDS_MS.length + 1];
+    private final boolean maxIsBucketBound;
+
+    StatementShapeStats(String dataSource, String shape) {
+        this(dataSource, shape, false);
+    }
+
+    private StatementShapeStats(String dataSource, String shape, boolean maxIsBucketBound) {
+        this.dataSource = dataSource;
+        this.shape = shape;
+        this.maxIsBucketBound = maxIsBucketBound;
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    void record(long nanos, boolean failed) {
+        count.increment();
+        if (failed) {
+            errors.increment();
+        }
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+        long ms = TimeUnit.NANOSECONDS.toMillis(nanos);
+        int bucket = 0;
+        while (bucket < BUCKET_BOUNDS_MS.length && ms >= BUCKET_BOUNDS_MS[bucket]) {
+            bucket++;
+        }
+        buckets[bucket].increment();
+    }
+
+    void addRow() {
+        rows.increment();
+    }
+
+    StatementShapeStats copy() {
+        StatementShapeStats copy = new StatementShapeStats(dataSource, shape, maxIsBucketBound);
+        copy.add(this, 1);
+        copy.maxNanos.accumulate(maxNanos.get());
+        return copy;
+    }
+
+    /**
+     * Counters accumulated since {@code before} was copied from this shape. The exact maximum of
+     * that window is not known, so the delta reports the upper bound of its slowest bucket.
+     */
+    StatementShapeStats since(StatementShapeStats before) {
+        StatementShapeStats delta = new StatementShapeStats(dataSource, shape, true);
+        delta.add(this, 1);
+        if (before != null) {
+            delta.add(before, -1);
+        }
+        for (int i = delta.buckets.length - 1; i >= 0; i--) {
+            if (delta.buckets[i].sum() > 0) {
+                delta.maxNanos.accumulate(i < BUCKET_BOUNDS_MS.length
+                        ? TimeUnit.MILLISECONDS.toNanos(BUCKET_BOUNDS_MS[i]) : maxNanos.get());
+                break;
+            }
+        }
+        return delta;
+    }
+
+    private void add(StatementShapeStats other, int sign) {
+        count.add(sign * other.count.sum());
+        errors.add(sign * other.errors.sum());
+        totalNanos.add(sign * other.totalNanos.sum());
+        rows.add(sign * other.rows.sum());
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i].add(sign * other.buckets[i].sum());
+        }
+    }
+
+    String getDataSource() {
+        return dataSource;
+    }
+
+    String getShape() {
+        return shape;
+    }
+
+    long getCount() {
+        return count.sum();
+    }
+
+    long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    /** Upper bound of the bucket holding the given percentile; the max for the overflow bucket. */
+    long percentileMs(double percentile) {
+        long total = count.sum();
+        if (total == 0) {
+            return 0;
+        }
+        long threshold = (long) Math.ceil(total * percentile);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_BOUNDS_MS.length; i++) {
+            seen += buckets[i].sum();
+            if (seen >= threshold) {
+                return BUCKET_BOUNDS_MS[i];
+            }
+        }
+        return TimeUnit.NANOSECONDS.toMillis(maxNanos.get());
+    }
+
+    String describe() {
+        long n = count.sum();
+        double avgMs = n > 0 ? totalNanos.sum() / 1_000_000.0 / n : 0.0;
+        return String.format("[%s] count=%d, errors=%d, total=%d ms, avg=%.2f ms, p50<=%d ms, p99<=%d ms, max%s%d ms, rows=%d | %s",
+                dataSource, n, errors.sum(), TimeUnit.NANOSECONDS.toMillis(totalNanos.sum()), avgMs,
+                percentileMs(0.5), percentileMs(0.99), maxIsBucketBound ? "<=" : "=",
+                TimeUnit.NANOSECONDS.toMillis(maxNanos.get()),
+                rows.sum(), shape);
+    }
+}
@@ -1,9 +1,12 @@
 package com.uplatform.wallet_tests.api.db.repository.wallet;
 
 import com.uplatform.wallet_tests.api.db.entity.wallet.BettingProjectionIframeHistory;
+import com.uplatform.wallet_tests.api.db.entity.wallet.BettingProjectionIframeHistoryState;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,4 +14,8 @@ public interface BettingProjectionIframeHistoryRepository
         extends JpaRepository<BettingProjectionIframeHistory, String> {
 
     Optional<BettingProjectionIframeHistory> findFirstByUuidOrderBySeqDesc(String uuid);
-}
\ No newline at end of file
+
+    Optional<BettingProjectionIframeHistory> findByUuidAndSeq(String uuid, Long seq);
+
+    List<BettingProjectionIframeHistoryState> findStateByUuidIn(Collection<String> uuids);
+}
@@ -9,6 +9,7 @@ import org.springframework.cloud.openfeign.FeignBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import com.uplatform.wallet_tests.api.attachment.AllureAttachmentService;
+import com.uplatform.wallet_tests.api.pool.ConnectionBudgetManager;
 import java.util.concurrent.TimeUnit;
 
 @Configuration
@@ -21,13 +22,14 @@ public class AllureFeignLoggerConfig {
     }
 
     @Bean
-    public Client feignClient() {
+    public Client feignClient(ConnectionBudgetManager budgetManager) {
         okhttp3.OkHttpClient okHttpClient = new okhttp3.OkHttpClient.Builder()
                 .readTimeout(60, TimeUnit.SECONDS)
                 .connectTimeout(10, TimeUnit.SECONDS)
                 .writeTimeout(60, TimeUnit.SECONDS)
                 .retryOnConnectionFailure(true)
                 .connectionPool(new ConnectionPool(10, 5, TimeUnit.MINUTES))
+                .eventListenerFactory(budgetManager.httpEventListenerFactory("http"))
                 .build();
 
         return new OkHttpClient(okHttpClient);
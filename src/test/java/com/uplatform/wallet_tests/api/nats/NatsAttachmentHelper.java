@@ -8,6 +8,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 @Slf4j
 @RequiredArgsConstructor
@@ -22,6 +24,26 @@ public class NatsAttachmentHelper {
             return;
         }
         StringBuilder sb = new StringBuilder();
+        appendMessage(sb, natsMsg);
+        attach(name, sb.toString());
+    }
+
+    public <T> void addNatsMessagesAttachment(String name, List<NatsMessage<T>> natsMsgs) {
+        if (natsMsgs == null) {
+            log.warn("Skipping NATS attachment '{}' because message list is null.", name);
+            return;
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append("Messages: ").append(natsMsgs.size()).append("\n");
+        for (int i = 0; i < natsMsgs.size(); i++) {
+            sb.append("\n=== #").append(i + 1).append(" ===\n");
+            appendMessage(sb, natsMsgs.get(i));
+            sb.append("\n");
+        }
+        attach(name, sb.toString());
+    }
+
+    private <T> void appendMessage(StringBuilder sb, NatsMessage<T> natsMsg) {
         sb.append("Subject: ").append(natsMsg.getSubject()).append("\n");
         sb.append("Sequence: ").append(natsMsg.getSequence()).append("\n");
         if (natsMsg.getType() != null) {
@@ -30,6 +52,10 @@ public class NatsAttachmentHelper {
         if (natsMsg.getTimestamp() != null) {
             sb.append("Timestamp: ").append(natsMsg.getTimestamp().toInstant()).append(" (").append(natsMsg.getTimestamp()).append(")\n");
         }
+        if (natsMsg.getPayload() == null) {
+            sb.append("Payload: null\n");
+            return;
+        }
         sb.append("Data Type: ").append(natsMsg.getPayload().getClass().getName()).append("\n\n");
         try {
             sb.append("Payload (JSON):\n");
@@ -38,8 +64,11 @@ public class NatsAttachmentHelper {
             sb.append("Error marshalling payload: ").append(e.getMessage()).append("\n");
             sb.append("Payload (toString()):\n").append(natsMsg.getPayload().toString());
         }
+    }
+
+    private void attach(String name, String content) {
         try {
-            attachmentService.attachText(name, sb.toString());
+            attachmentService.attachText(name, content);
         } catch (Exception e) {
             log.error("Failed to add Allure attachment '{}': {}", name, e.getMessage());
         }
@@ -1,17 +1,22 @@
 package com.uplatform.wallet_tests.api.nats;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.uplatform.wallet_tests.api.attachment.AllureAttachmentService;
 import com.uplatform.wallet_tests.api.nats.dto.NatsMessage;
 import com.uplatform.wallet_tests.config.EnvironmentConfigurationProvider;
 import com.uplatform.wallet_tests.config.NatsConfig;
 
 import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiPredicate;
 
 import com.uplatform.wallet_tests.api.nats.NatsSubscriber;
 import com.uplatform.wallet_tests.api.nats.NatsAttachmentHelper;
 import com.uplatform.wallet_tests.api.nats.NatsConnectionManager;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -21,6 +26,8 @@ import org.springframework.stereotype.Component;
 public class NatsClient {
 
     private final NatsSubscriber subscriber;
+    private final NatsStreamReader streamReader;
+    private final AllureAttachmentService attachmentService;
     private final String streamPrefix;
     private final String natsBaseName;
 
@@ -28,16 +35,17 @@ public class NatsClient {
     public NatsClient(ObjectMapper objectMapper,
                       NatsAttachmentHelper attachmentHelper,
                       NatsConnectionManager connectionManager,
-                      EnvironmentConfigurationProvider configProvider) {
+                      EnvironmentConfigurationProvider configProvider,
+                      AllureAttachmentService attachmentService) {
         NatsConfig natsConfig = configProvider.getNatsConfig();
+        this.attachmentService = attachmentService;
 
         this.streamPrefix = configProvider.getEnvironmentConfig().getNatsStreamPrefix();
         this.natsBaseName = natsConfig.getStreamName();
         String streamName = this.streamPrefix + this.natsBaseName;
 
         this.subscriber = new NatsSubscriber(
-                connectionManager.getConnection(),
-                connectionManager.getJetStream(),
+                connectionManager,
                 objectMapper,
                 attachmentHelper,
                 Duration.ofSeconds(natsConfig.getSearchTimeoutSeconds()),
@@ -46,8 +54,30 @@ public class NatsClient {
                 streamName,
                 natsConfig.getSubscriptionBufferSize(),
                 natsConfig.getSubscriptionRetryCount(),
-                natsConfig.getSubscriptionRetryDelayMs()
+                natsConfig.getSubscriptionRetryDelayMs(),
+                natsConfig.getSubscriptionRetryMaxDelayMs(),
+                natsConfig.getSubscriptionSchedulerThreads()
         );
+
+        this.streamReader = new NatsStreamReader(
+                connectionManager,
+                objectMapper,
+                attachmentHelper,
+                streamName
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscriber.shutdown();
+    }
+
+    public NatsSubscriptionMetrics getSubscriptionMetrics() {
+        return subscriber.getMetrics();
+    }
+
+    public void attachSubscriptionSummary() {
+        attachmentService.attachText("NATS Subscriptions", subscriber.getMetrics().summary());
     }
 
     public String buildWalletSubject(String playerUuid, String walletUuid) {
@@ -63,4 +93,28 @@ public class NatsClient {
         return subscriber.findMessageAsync(subject, messageType, filter);
     }
 
+    public <T> CompletableFuture<List<NatsMessage<T>>> findMessagesAsync(String subject,
+                                                                         Class<T> messageType,
+                                                                         List<BiPredicate<T, String>> filters) {
+        return subscriber.findMessagesAsync(subject, messageType, filters);
+    }
+
+    public <T> CompletableFuture<List<NatsMessage<T>>> findMessagesAsync(String subject,
+                                                                         Class<T> messageType,
+                                                                         BiPredicate<T, String> filter,
+                                                                         int expectedCount) {
+        if (expectedCount < 0) {
+            throw new IllegalArgumentException("expectedCount must not be negative: " + expectedCount);
+        }
+        return subscriber.findMessagesAsync(subject, messageType, Collections.nCopies(expectedCount, filter));
+    }
+
+    public <T> Optional<NatsMessage<T>> findLastMessage(String subject, Class<T> messageType) {
+        return streamReader.getLastMessage(subject, messageType);
+    }
+
+    public <T> Optional<NatsMessage<T>> findMessageBySequence(long sequence, Class<T> messageType) {
+        return streamReader.getMessage(sequence, messageType);
+    }
+
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.uplatform.wallet_tests.api.nats;
 
+import com.uplatform.wallet_tests.api.attachment.AllureAttachmentService;
 import com.uplatform.wallet_tests.config.EnvironmentConfigurationProvider;
 import com.uplatform.wallet_tests.config.NatsConfig;
 import io.nats.client.*;
@@ -14,66 +15,169 @@ import org.springframework.stereotype.Service;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
 
 @Service
 @Slf4j
-@Getter
 public class NatsConnectionManager {
 
-    private final Connection connection;
-    private final JetStream jetStream;
+    private final List<Connection> connections;
+    private final List<JetStream> jetStreams;
+    private final List<JetStreamManagement> jetStreamManagements;
+    private final List<LongAdder> slowConsumerEvents;
+    private final AllureAttachmentService attachmentService;
+    @Getter
     private final String streamName;
+    @Getter
     private final String streamPrefix;
+    @Getter
     private final String natsBaseName;
 
     @Autowired
-    public NatsConnectionManager(EnvironmentConfigurationProvider configProvider) {
+    public NatsConnectionManager(EnvironmentConfigurationProvider configProvider,
+                                 AllureAttachmentService attachmentService) {
+        this.attachmentService = attachmentService;
         NatsConfig natsConfig = configProvider.getNatsConfig();
         this.streamPrefix = configProvider.getEnvironmentConfig().getNatsStreamPrefix();
         this.natsBaseName = natsConfig.getStreamName();
         this.streamName = this.streamPrefix + this.natsBaseName;
 
-        Options options = buildOptions(natsConfig);
-        try {
-            this.connection = Nats.connect(options);
-        } catch (Exception e) {
-            log.error("Failed to connect to NATS servers: {}", String.join(",", natsConfig.getHosts()), e);
-            throw new IllegalStateException("NATS connection failed", e);
+        int poolSize = Math.max(1, natsConfig.getConnectionPoolSize());
+        List<Connection> opened = new ArrayList<>(poolSize);
+        List<LongAdder> slowConsumerCounters = new ArrayList<>(poolSize);
+        for (int i = 0; i < poolSize; i++) {
+            LongAdder slowConsumerCounter = new LongAdder();
+            Options options = buildOptions(natsConfig, i, slowConsumerCounter);
+            try {
+                opened.add(Nats.connect(options));
+                slowConsumerCounters.add(slowConsumerCounter);
+            } catch (Exception e) {
+                log.error("Failed to open NATS connection #{} to servers: {}", i, String.join(",", natsConfig.getHosts()), e);
+                opened.forEach(this::closeConnection);
+                throw new IllegalStateException("NATS connection failed", e);
+            }
         }
+        this.connections = Collections.unmodifiableList(opened);
+        this.slowConsumerEvents = Collections.unmodifiableList(slowConsumerCounters);
 
         try {
-            this.jetStream = initJetStream();
+            List<JetStreamManagement> managements = new ArrayList<>(poolSize);
+            List<JetStream> contexts = new ArrayList<>(poolSize);
+            for (Connection connection : connections) {
+                managements.add(connection.jetStreamManagement());
+                contexts.add(connection.jetStream());
+            }
+            validateStreamExists(managements.get(0));
+            this.jetStreamManagements = Collections.unmodifiableList(managements);
+            this.jetStreams = Collections.unmodifiableList(contexts);
         } catch (Exception e) {
             log.error("Failed to create JetStream context or validate stream '{}'", this.streamName, e);
             gracefulClose();
             throw new IllegalStateException("Failed to initialize JetStream for stream " + this.streamName, e);
         }
+        log.info("NATS connection pool initialized: size={}, pinnedPerHost={}", poolSize, natsConfig.isConnectionPinnedPerHost());
+    }
+
+    public Connection getConnection() {
+        return connections.get(0);
+    }
+
+    public JetStream getJetStream() {
+        return jetStreams.get(0);
+    }
+
+    public JetStreamManagement getJetStreamManagement() {
+        return jetStreamManagements.get(0);
+    }
+
+    public Connection getConnection(String routingKey) {
+        return connections.get(indexFor(routingKey));
+    }
+
+    public JetStream getJetStream(String routingKey) {
+        return jetStreams.get(indexFor(routingKey));
+    }
+
+    public JetStreamManagement getJetStreamManagement(String routingKey) {
+        return jetStreamManagements.get(indexFor(routingKey));
+    }
+
+    public int getPoolSize() {
+        return connections.size();
     }
 
-    private Options buildOptions(NatsConfig cfg) {
-        return new Options.Builder()
-                .servers(cfg.getHosts().toArray(new String[0]))
+    private int indexFor(String routingKey) {
+        return indexFor(routingKey, connections.size());
+    }
+
+    static int indexFor(String routingKey, int poolSize) {
+        if (routingKey == null || poolSize == 1) {
+            return 0;
+        }
+        return Math.floorMod(routingKey.hashCode(), poolSize);
+    }
+
+    public String describePool() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < connections.size(); i++) {
+            Connection conn = connections.get(i);
+            Statistics stats = conn.getStatistics();
+            sb.append(String.format("#%d status=%s url=%s inMsgs=%d outMsgs=%d inBytes=%d outBytes=%d reconnects=%d slowConsumers=%d%n",
+                    i,
+                    conn.getStatus(),
+                    conn.getConnectedUrl(),
+                    stats.getInMsgs(),
+                    stats.getOutMsgs(),
+                    stats.getInBytes(),
+                    stats.getOutBytes(),
+                    stats.getReconnects(),
+                    slowConsumerEvents.get(i).sum()));
+        }
+        return sb.toString();
+    }
+
+    public void attachPoolSummary() {
+        attachmentService.attachText("NATS Connection Pool", describePool());
+    }
+
+    private Options buildOptions(NatsConfig cfg, int index, LongAdder slowConsumerCounter) {
+        List<String> hosts = hostsForConnection(cfg.getHosts(), index, cfg.isConnectionPinnedPerHost());
+        Options.Builder builder = new Options.Builder();
+        if (cfg.isConnectionPinnedPerHost() && !hosts.isEmpty()) {
+            builder.noRandomize();
+        }
+        return builder
+                .servers(hosts.toArray(new String[0]))
+                .connectionName("wallet-tests-" + index)
                 .reconnectWait(Duration.ofSeconds(cfg.getConnectReconnectWaitSeconds()))
                 .maxReconnects(cfg.getConnectMaxReconnects())
                 .connectionListener(this::connectionListener)
-                .errorListener(new SimpleErrorListener())
+                .errorListener(new SimpleErrorListener(slowConsumerCounter))
                 .build();
     }
 
-    private JetStream initJetStream() throws IOException, JetStreamApiException {
-        JetStream jetStream = connection.jetStream();
-        validateStreamExists();
-        return jetStream;
+    /** Pinned connections start from a different host each, so the pool spreads over the cluster. */
+    static List<String> hostsForConnection(List<String> configuredHosts, int index, boolean pinnedPerHost) {
+        List<String> hosts = new ArrayList<>(configuredHosts);
+        if (pinnedPerHost && !hosts.isEmpty()) {
+            Collections.rotate(hosts, -(index % hosts.size()));
+        }
+        return hosts;
     }
 
-    private void validateStreamExists() throws IOException, JetStreamApiException {
+    private void validateStreamExists(JetStreamManagement jetStreamManagement) throws IOException, JetStreamApiException {
         try {
-            JetStreamManagement jsm = connection.jetStreamManagement();
-            StreamInfo streamInfo = jsm.getStreamInfo(this.streamName);
+            StreamInfo streamInfo = jetStreamManagement.getStreamInfo(this.streamName);
             log.info("Successfully validated NATS stream: {}", streamInfo.getConfiguration().getName());
+            if (!streamInfo.getConfiguration().getAllowDirect()) {
+                log.warn("NATS stream '{}' has direct get disabled; last-message lookups will use the JetStream API instead.", this.streamName);
+            }
         } catch (JetStreamApiException e) {
             if (e.getMessage() != null && e.getMessage().contains("stream not found")) {
                 log.error("NATS Stream '{}' was not found!", this.streamName);
@@ -99,6 +203,12 @@ public class NatsConnectionManager {
     }
 
     static class SimpleErrorListener implements ErrorListener {
+        private final LongAdder slowConsumerCounter;
+
+        SimpleErrorListener(LongAdder slowConsumerCounter) {
+            this.slowConsumerCounter = slowConsumerCounter;
+        }
+
         @Override public void errorOccurred(Connection conn, String error) {
             log.error("NATS Error: {} (Connection URL: {})", error, conn != null ? conn.getConnectedUrl() : "N/A");
         }
@@ -106,12 +216,22 @@ public class NatsConnectionManager {
             log.error("NATS Exception: {} (Connection URL: {})", exp.getMessage(), conn != null ? conn.getConnectedUrl() : "N/A", exp);
         }
         @Override public void slowConsumerDetected(Connection conn, Consumer consumer) {
+            slowConsumerCounter.increment();
             log.warn("NATS Slow Consumer detected: Consumer='{}' (Connection URL: {})", consumer != null ? consumer.toString() : "N/A", conn != null ? conn.getConnectedUrl() : "N/A");
         }
     }
 
     @PreDestroy
     public void gracefulClose() {
+        if (connections == null) {
+            log.warn("NATS connection pool was not initialized, nothing to close.");
+            return;
+        }
+        log.info("NATS connection pool statistics before close:\n{}", describePool());
+        connections.forEach(this::closeConnection);
+    }
+
+    private void closeConnection(Connection connection) {
         if (connection != null && connection.getStatus() == Connection.Status.CONNECTED) {
             try {
                 CompletableFuture<Boolean> drained = connection.drain(Duration.ofSeconds(5));
@@ -0,0 +1,47 @@
+package com.uplatform.wallet_tests.api.nats;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("Unit")
+class NatsConnectionManagerTest {
+
+    @Test
+    void routesSameSubjectToSameConnection() {
+        String subject = "beta.wallet.*.player-1.wallet-1";
+
+        int index = NatsConnectionManager.indexFor(subject, 4);
+
+        assertTrue(index >= 0 && index < 4);
+        assertEquals(index, NatsConnectionManager.indexFor(subject, 4));
+        assertEquals(0, NatsConnectionManager.indexFor(null, 4));
+        assertEquals(0, NatsConnectionManager.indexFor(subject, 1));
+    }
+
+    @Test
+    void spreadsSubjectsOverThePool() {
+        long used = IntStream.range(0, 200)
+                .map(i -> NatsConnectionManager.indexFor("beta.wallet.*.player-" + i + ".wallet", 4))
+                .distinct()
+                .count();
+
+        assertEquals(4, used);
+    }
+
+    @Test
+    void pinnedConnectionsStartFromDifferentHosts() {
+        List<String> hosts = List.of("nats://a:4222", "nats://b:4222", "nats://c:4222");
+
+        assertEquals(hosts, NatsConnectionManager.hostsForConnection(hosts, 0, true));
+        assertEquals(List.of("nats://b:4222", "nats://c:4222", "nats://a:4222"),
+                NatsConnectionManager.hostsForConnection(hosts, 1, true));
+        assertEquals(List.of("nats://a:4222", "nats://b:4222", "nats://c:4222"),
+                NatsConnectionManager.hostsForConnection(hosts, 3, true));
+        assertEquals(hosts, NatsConnectionManager.hostsForConnection(hosts, 2, false));
+    }
+}
@@ -0,0 +1,42 @@
+package com.uplatform.wallet_tests.api.nats;
+
+import com.uplatform.wallet_tests.api.nats.dto.NatsMessage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiPredicate;
+
+class NatsMessageCollector<T> {
+
+    private final List<BiPredicate<T, String>> filters;
+    private final List<NatsMessage<T>> collected;
+
+    NatsMessageCollector(List<BiPredicate<T, String>> filters) {
+        this.filters = List.copyOf(filters);
+        this.collected = new ArrayList<>(filters.size());
+    }
+
+    synchronized boolean offer(NatsMessage<T> message) {
+        if (collected.size() >= filters.size()) {
+            return false;
+        }
+        BiPredicate<T, String> next = filters.get(collected.size());
+        if (!next.test(message.getPayload(), message.getType())) {
+            return false;
+        }
+        collected.add(message);
+        return true;
+    }
+
+    synchronized boolean isComplete() {
+        return collected.size() == filters.size();
+    }
+
+    synchronized List<NatsMessage<T>> snapshot() {
+        return List.copyOf(collected);
+    }
+
+    int expectedCount() {
+        return filters.size();
+    }
+}
@@ -0,0 +1,64 @@
+package com.uplatform.wallet_tests.api.nats;
+
+import com.uplatform.wallet_tests.api.nats.dto.NatsMessage;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiPredicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("Unit")
+class NatsMessageCollectorTest {
+
+    private static NatsMessage<String> message(String type, long sequence) {
+        return NatsMessage.<String>builder().payload("payload-" + sequence).type(type).sequence(sequence).build();
+    }
+
+    private static BiPredicate<String, String> ofType(String type) {
+        return (payload, messageType) -> type.equals(messageType);
+    }
+
+    @Test
+    void collectsMessagesInPredicateOrder() {
+        NatsMessageCollector<String> collector = new NatsMessageCollector<>(List.of(ofType("bet"), ofType("win")));
+
+        assertFalse(collector.offer(message("win", 1)), "win before bet must be skipped");
+        assertTrue(collector.offer(message("bet", 2)));
+        assertFalse(collector.isComplete());
+        assertFalse(collector.offer(message("bet", 3)), "second bet does not satisfy the win predicate");
+        assertTrue(collector.offer(message("win", 4)));
+
+        assertTrue(collector.isComplete());
+        assertEquals(List.of(2L, 4L), collector.snapshot().stream().map(NatsMessage::getSequence).toList());
+    }
+
+    @Test
+    void completesAfterExpectedCountOfSamePredicate() {
+        NatsMessageCollector<String> collector = new NatsMessageCollector<>(Collections.nCopies(3, ofType("bet")));
+
+        for (long seq = 1; seq <= 4; seq++) {
+            collector.offer(message(seq % 2 == 0 ? "win" : "bet", seq));
+        }
+        assertFalse(collector.isComplete(), "only sequences 1 and 3 are bets");
+
+        assertTrue(collector.offer(message("bet", 5)));
+        assertTrue(collector.isComplete());
+        assertEquals(List.of(1L, 3L, 5L), collector.snapshot().stream().map(NatsMessage::getSequence).toList());
+        assertFalse(collector.offer(message("bet", 6)), "a complete collector accepts nothing more");
+    }
+
+    @Test
+    void snapshotKeepsPartialProgressAndIsImmutable() {
+        NatsMessageCollector<String> collector = new NatsMessageCollector<>(List.of(ofType("bet"), ofType("win")));
+        collector.offer(message("bet", 7));
+
+        List<NatsMessage<String>> snapshot = collector.snapshot();
+
+        assertEquals(1, snapshot.size());
+        assertEquals(2, collector.expectedCount());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.add(message("win", 8)));
+    }
+}
@@ -0,0 +1,91 @@
+package com.uplatform.wallet_tests.api.nats;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.uplatform.wallet_tests.api.nats.dto.NatsMessage;
+import io.nats.client.JetStreamApiException;
+import io.nats.client.api.MessageInfo;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+
+@Slf4j
+class NatsStreamReader {
+
+    private static final int NOT_FOUND_CODE = 404;
+    private static final int NO_MESSAGE_FOUND_API_CODE = 10037;
+
+    private final NatsConnectionManager connectionManager;
+    private final ObjectMapper objectMapper;
+    private final NatsAttachmentHelper attachmentHelper;
+    private final String streamName;
+
+    NatsStreamReader(NatsConnectionManager connectionManager,
+                     ObjectMapper objectMapper,
+                     NatsAttachmentHelper attachmentHelper,
+                     String streamName) {
+        this.connectionManager = connectionManager;
+        this.objectMapper = objectMapper;
+        this.attachmentHelper = attachmentHelper;
+        this.streamName = streamName;
+    }
+
+    <T> Optional<NatsMessage<T>> getLastMessage(String subject, Class<T> messageType) {
+        String logPrefix = String.format("NATS GET LAST [%s -> %s]", this.streamName, subject);
+        try {
+            MessageInfo info = connectionManager.getJetStreamManagement(subject)
+                    .getLastMessage(this.streamName, subject);
+            return Optional.of(toNatsMessage(info, messageType, logPrefix));
+        } catch (JetStreamApiException e) {
+            return handleApiException(e, logPrefix);
+        } catch (IOException e) {
+            log.error("{} | I/O error while fetching last message: {}", logPrefix, e.getMessage());
+            throw new IllegalStateException("NATS get last message failed for " + subject, e);
+        }
+    }
+
+    <T> Optional<NatsMessage<T>> getMessage(long sequence, Class<T> messageType) {
+        String logPrefix = String.format("NATS GET BY SEQ [%s -> %d]", this.streamName, sequence);
+        try {
+            MessageInfo info = connectionManager.getJetStreamManagement(Long.toString(sequence))
+                    .getMessage(this.streamName, sequence);
+            return Optional.of(toNatsMessage(info, messageType, logPrefix));
+        } catch (JetStreamApiException e) {
+            return handleApiException(e, logPrefix);
+        } catch (IOException e) {
+            log.error("{} | I/O error while fetching message: {}", logPrefix, e.getMessage());
+            throw new IllegalStateException("NATS get message failed for sequence " + sequence, e);
+        }
+    }
+
+    private <T> Optional<NatsMessage<T>> handleApiException(JetStreamApiException e, String logPrefix) {
+        if (e.getErrorCode() == NOT_FOUND_CODE || e.getApiErrorCode() == NO_MESSAGE_FOUND_API_CODE) {
+            log.info("{} | No message found", logPrefix);
+            return Optional.empty();
+        }
+        log.error("{} | JetStream API error: {}", logPrefix, e.getMessage());
+        throw new IllegalStateException(logPrefix + " failed: " + e.getMessage(), e);
+    }
+
+    private <T> NatsMessage<T> toNatsMessage(MessageInfo info, Class<T> messageType, String logPrefix) {
+        JavaType javaType = objectMapper.getTypeFactory().constructType(messageType);
+        T payload;
+        try {
+            payload = objectMapper.readValue(info.getData(), javaType);
+        } catch (IOException e) {
+            log.error("{} | Failed JSON unmarshal seq={}: {}", logPrefix, info.getSeq(), e.getMessage());
+            throw new IllegalStateException(logPrefix + " returned a payload that could not be deserialized", e);
+        }
+
+        String msgType = info.getHeaders() != null ? info.getHeaders().getFirst("type") : null;
+        OffsetDateTime timestamp = info.getTime() != null ? info.getTime().toOffsetDateTime() : null;
+
+        NatsMessage<T> result = NatsMessage.<T>builder()
+                .payload(payload).subject(info.getSubject()).type(msgType)
+                .sequence(info.getSeq()).timestamp(timestamp).build();
+        attachmentHelper.addNatsAttachment("NATS Message Fetched", result);
+        return result;
+    }
+}
@@ -0,0 +1,78 @@
+package com.uplatform.wallet_tests.api.nats;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.uplatform.wallet_tests.api.nats.dto.NatsMessage;
+import io.nats.client.JetStreamApiException;
+import io.nats.client.JetStreamManagement;
+import io.nats.client.api.MessageInfo;
+import io.nats.client.impl.Headers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@Tag("Unit")
+class NatsStreamReaderTest {
+
+    private static final String STREAM = "beta_wallet";
+    private static final String SUBJECT = "beta.wallet.*.player.wallet";
+
+    private JetStreamManagement management;
+    private NatsAttachmentHelper attachmentHelper;
+    private NatsStreamReader reader;
+
+    @BeforeEach
+    void setUp() {
+        NatsConnectionManager connectionManager = mock(NatsConnectionManager.class);
+        management = mock(JetStreamManagement.class);
+        attachmentHelper = mock(NatsAttachmentHelper.class);
+        when(connectionManager.getJetStreamManagement(anyString())).thenReturn(management);
+        reader = new NatsStreamReader(connectionManager, new ObjectMapper(), attachmentHelper, STREAM);
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void mapsLastMessageWithTypeHeaderAndSequence() throws Exception {
+        MessageInfo info = mock(MessageInfo.class);
+        when(info.getData()).thenReturn("{\"uuid\":\"abc\"}".getBytes(StandardCharsets.UTF_8));
+        when(info.getHeaders()).thenReturn(new Headers().add("type", "betted_from_iframe"));
+        when(info.getSubject()).thenReturn("beta.wallet.x.player.wallet");
+        when(info.getSeq()).thenReturn(42L);
+        when(management.getLastMessage(STREAM, SUBJECT)).thenReturn(info);
+
+        Optional<NatsMessage<Map>> result = reader.getLastMessage(SUBJECT, Map.class);
+
+        assertTrue(result.isPresent());
+        assertEquals("abc", result.get().getPayload().get("uuid"));
+        assertEquals("betted_from_iframe", result.get().getType());
+        assertEquals(42L, result.get().getSequence());
+        verify(attachmentHelper).addNatsAttachment(eq("NATS Message Fetched"), any(NatsMessage.class));
+    }
+
+    @Test
+    void returnsEmptyWhenNoMessageFound() throws Exception {
+        JetStreamApiException notFound = mock(JetStreamApiException.class);
+        when(notFound.getApiErrorCode()).thenReturn(10037);
+        when(management.getMessage(STREAM, 7L)).thenThrow(notFound);
+
+        assertTrue(reader.getMessage(7L, Map.class).isEmpty());
+    }
+
+    @Test
+    void propagatesOtherApiErrors() throws Exception {
+        JetStreamApiException denied = mock(JetStreamApiException.class);
+        when(denied.getErrorCode()).thenReturn(503);
+        when(denied.getApiErrorCode()).thenReturn(10008);
+        when(management.getLastMessage(STREAM, SUBJECT)).thenThrow(denied);
+
+        assertThrows(IllegalStateException.class, () -> reader.getLastMessage(SUBJECT, Map.class));
+    }
+}
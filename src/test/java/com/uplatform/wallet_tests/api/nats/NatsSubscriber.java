@@ -1,12 +1,12 @@
 package com.uplatform.wallet_tests.api.nats;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.uplatform.wallet_tests.api.nats.dto.NatsMessage;
+import com.uplatform.wallet_tests.api.nats.exception.NatsMessagesNotFoundException;
 import io.nats.client.api.AckPolicy;
+import io.nats.client.Connection;
 import io.nats.client.Dispatcher;
-import io.nats.client.JetStream;
 import io.nats.client.JetStreamApiException;
 import io.nats.client.Message;
 import io.nats.client.MessageHandler;
@@ -22,16 +22,22 @@ import java.io.IOException;
 import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 
 @Slf4j
 class NatsSubscriber {
 
-    private final io.nats.client.Connection nc;
-    private final JetStream js;
+    private final NatsConnectionManager connectionManager;
     private final ObjectMapper objectMapper;
     private final NatsAttachmentHelper attachmentHelper;
     private final Duration searchTimeout;
@@ -41,9 +47,11 @@ class NatsSubscriber {
     private final int subscriptionBufferSize;
     private final int subscriptionRetryCount;
     private final long subscriptionRetryDelayMs;
+    private final long subscriptionRetryMaxDelayMs;
+    private final ScheduledExecutorService subscriptionScheduler;
+    private final NatsSubscriptionMetrics metrics = new NatsSubscriptionMetrics();
 
-    NatsSubscriber(io.nats.client.Connection nc,
-                   JetStream js,
+    NatsSubscriber(NatsConnectionManager connectionManager,
                    ObjectMapper objectMapper,
                    NatsAttachmentHelper attachmentHelper,
                    Duration searchTimeout,
@@ -52,9 +60,10 @@ class NatsSubscriber {
                    String streamName,
                    int subscriptionBufferSize,
                    int subscriptionRetryCount,
-                   long subscriptionRetryDelayMs) {
-        this.nc = nc;
-        this.js = js;
+                   long subscriptionRetryDelayMs,
+                   long subscriptionRetryMaxDelayMs,
+                   int subscriptionSchedulerThreads) {
+        this.connectionManager = connectionManager;
         this.objectMapper = objectMapper;
         this.attachmentHelper = attachmentHelper;
         this.searchTimeout = searchTimeout;
@@ -64,6 +73,26 @@ class NatsSubscriber {
         this.subscriptionBufferSize = subscriptionBufferSize;
         this.subscriptionRetryCount = subscriptionRetryCount;
         this.subscriptionRetryDelayMs = subscriptionRetryDelayMs;
+        this.subscriptionRetryMaxDelayMs = Math.max(subscriptionRetryMaxDelayMs, subscriptionRetryDelayMs);
+        this.subscriptionScheduler = createScheduler(Math.max(1, subscriptionSchedulerThreads));
+    }
+
+    NatsSubscriptionMetrics getMetrics() {
+        return metrics;
+    }
+
+    void shutdown() {
+        subscriptionScheduler.shutdownNow();
+        log.info("NATS subscription metrics [{}]: {}", this.streamName, metrics.summary());
+    }
+
+    private static ScheduledExecutorService createScheduler(int threads) {
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newScheduledThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "nats-subscribe-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     <T> CompletableFuture<NatsMessage<T>> findMessageAsync(String subject,
@@ -71,77 +100,148 @@ class NatsSubscriber {
                                                            BiPredicate<T, String> filter) {
         CompletableFuture<NatsMessage<T>> future = new CompletableFuture<>();
         String logPrefix = String.format("NATS SEARCH ASYNC [%s -> %s]", this.streamName, subject);
+        JavaType javaType = objectMapper.getTypeFactory().constructType(messageType);
 
-        retryUntilSubscribed(subject, messageType, filter, future, logPrefix);
+        retryUntilSubscribed(subject, future, logPrefix, (dispatcher, subHolder) -> msg ->
+                handleIncomingMessage(msg, javaType, filter, future, dispatcher, subHolder, logPrefix));
 
         return future;
     }
 
-    private <T> Dispatcher startSubscription(String subject,
-                                             Class<T> messageType,
-                                             BiPredicate<T, String> filter,
-                                             CompletableFuture<NatsMessage<T>> future,
-                                             String logPrefix) throws IOException, JetStreamApiException {
-        Dispatcher dispatcher = nc.createDispatcher();
+    <T> CompletableFuture<List<NatsMessage<T>>> findMessagesAsync(String subject,
+                                                                  Class<T> messageType,
+                                                                  List<BiPredicate<T, String>> filters) {
+        if (filters == null || filters.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+        CompletableFuture<List<NatsMessage<T>>> future = new CompletableFuture<>();
+        String logPrefix = String.format("NATS SEARCH MANY ASYNC [%s -> %s, expected=%d]",
+                this.streamName, subject, filters.size());
         JavaType javaType = objectMapper.getTypeFactory().constructType(messageType);
-        final Dispatcher dispatcherRef = dispatcher;
+        NatsMessageCollector<T> collector = new NatsMessageCollector<>(filters);
+
+        retryUntilSubscribed(subject, future, logPrefix, (dispatcher, subHolder) -> msg ->
+                handleIncomingMessages(msg, javaType, collector, future, dispatcher, subHolder, logPrefix));
+
+        return future.handle((result, ex) -> {
+            if (ex == null) {
+                return result;
+            }
+            Throwable cause = ex instanceof CompletionException && ex.getCause() != null
+                    ? ex.getCause() : ex;
+            if (cause instanceof TimeoutException) {
+                List<NatsMessage<T>> collected = collector.snapshot();
+                attachmentHelper.addNatsMessagesAttachment(
+                        String.format("NATS Messages NOT Found (collected %d of %d)", collected.size(), collector.expectedCount()),
+                        collected);
+                throw new NatsMessagesNotFoundException(String.format(
+                        "Collected %d of %d expected NATS messages on '%s' within %s",
+                        collected.size(), collector.expectedCount(), subject, searchTimeout),
+                        collector.expectedCount(), collected, cause);
+            }
+            throw cause instanceof RuntimeException re ? re : new CompletionException(cause);
+        });
+    }
+
+    private void startSubscription(String subject,
+                                         CompletableFuture<?> future,
+                                         String logPrefix,
+                                         BiFunction<Dispatcher, Subscription[], MessageHandler> handlerFactory)
+            throws IOException, JetStreamApiException {
+        Connection connection = connectionManager.getConnection(subject);
+        Dispatcher dispatcher = connection.createDispatcher();
         final Subscription[] subHolder = new Subscription[1];
+        try {
+            MessageHandler handler = handlerFactory.apply(dispatcher, subHolder);
+            subHolder[0] = createSubscription(subject, dispatcher, handler);
+        } catch (IOException | JetStreamApiException | RuntimeException e) {
+            closeDispatcherQuietly(connection, dispatcher, logPrefix);
+            throw e;
+        }
 
-        MessageHandler handler = msg ->
-                handleIncomingMessage(msg, javaType, filter, future, dispatcherRef, subHolder, logPrefix);
+        awaitMessageFuture(future, dispatcher, subHolder[0], logPrefix);
+    }
 
-        subHolder[0] = createSubscription(subject, dispatcherRef, handler);
+    private void closeDispatcherQuietly(Connection connection, Dispatcher dispatcher, String logPrefix) {
+        try {
+            connection.closeDispatcher(dispatcher);
+        } catch (Exception closeEx) {
+            log.warn("{} | Failed to close dispatcher after error: {}", logPrefix, closeEx.getMessage());
+        }
+    }
 
-        awaitMessageFuture(future, dispatcherRef, subHolder[0], logPrefix);
-        return dispatcher;
+    private void retryUntilSubscribed(String subject,
+                                      CompletableFuture<?> future,
+                                      String logPrefix,
+                                      BiFunction<Dispatcher, Subscription[], MessageHandler> handlerFactory) {
+        metrics.recordRequested();
+        long startedAt = System.nanoTime();
+        try {
+            subscriptionScheduler.execute(() ->
+                    attemptSubscription(subject, future, logPrefix, handlerFactory, 1, startedAt));
+        } catch (RuntimeException e) {
+            metrics.recordFailed();
+            log.error("{} | Failed to schedule NATS subscription: {}", logPrefix, e.getMessage());
+            future.completeExceptionally(
+                    new RuntimeException("NATS Subscription could not be scheduled for " + subject, e));
+        }
     }
 
-    private <T> void retryUntilSubscribed(String subject,
-                                          Class<T> messageType,
-                                          BiPredicate<T, String> filter,
-                                          CompletableFuture<NatsMessage<T>> future,
-                                          String logPrefix) {
-        for (int attempt = 1; attempt <= this.subscriptionRetryCount; attempt++) {
-            Dispatcher dispatcher = null;
-            try {
-                dispatcher = startSubscription(subject, messageType, filter, future, logPrefix);
-                return;
-            } catch (JetStreamApiException | IOException e) {
-                if (dispatcher != null) {
-                    try {
-                        nc.closeDispatcher(dispatcher);
-                    } catch (Exception closeEx) {
-                        log.warn("{} | Failed to close dispatcher after error: {}", logPrefix, closeEx.getMessage());
-                    }
-                }
+    private void attemptSubscription(String subject,
+                                     CompletableFuture<?> future,
+                                     String logPrefix,
+                                     BiFunction<Dispatcher, Subscription[], MessageHandler> handlerFactory,
+                                     int attempt,
+                                     long startedAt) {
+        if (future.isDone()) {
+            return;
+        }
+        try {
+            startSubscription(subject, future, logPrefix, handlerFactory);
+            metrics.recordEstablished(System.nanoTime() - startedAt);
+            if (attempt > 1) {
+                log.info("{} | NATS subscription established on attempt {}/{} after {}ms",
+                        logPrefix, attempt, this.subscriptionRetryCount,
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            }
+        } catch (JetStreamApiException | IOException | RuntimeException e) {
+            log.warn("{} | Attempt {}/{} to create NATS subscription failed: {}",
+                    logPrefix, attempt, this.subscriptionRetryCount, e.getMessage());
 
-                log.warn("{} | Attempt {}/{} to create NATS subscription failed: {}",
-                        logPrefix, attempt, this.subscriptionRetryCount, e.getMessage());
-
-                if (attempt == this.subscriptionRetryCount) {
-                    log.error("{} | All {} subscription attempts failed for subject '{}'. Giving up.",
-                            logPrefix, this.subscriptionRetryCount, subject, e);
-                    future.completeExceptionally(
-                            new RuntimeException(
-                                    "NATS Subscription failed for " + subject +
-                                            " after " + this.subscriptionRetryCount + " attempts", e));
-                    return;
-                }
+            if (attempt >= this.subscriptionRetryCount) {
+                metrics.recordFailed();
+                log.error("{} | All {} subscription attempts failed for subject '{}'. Giving up.",
+                        logPrefix, this.subscriptionRetryCount, subject, e);
+                future.completeExceptionally(
+                        new RuntimeException(
+                                "NATS Subscription failed for " + subject +
+                                        " after " + this.subscriptionRetryCount + " attempts", e));
+                return;
+            }
 
-                try {
-                    TimeUnit.MILLISECONDS.sleep(this.subscriptionRetryDelayMs);
-                } catch (InterruptedException ie) {
-                    Thread.currentThread().interrupt();
-                    log.error("{} | Subscription retry delay was interrupted.", logPrefix, ie);
-                    future.completeExceptionally(
-                            new RuntimeException("Subscription retry interrupted for " + subject, ie));
-                    return;
-                }
+            metrics.recordRetry();
+            long delayMs = backoffDelayMs(attempt);
+            try {
+                subscriptionScheduler.schedule(() ->
+                                attemptSubscription(subject, future, logPrefix, handlerFactory, attempt + 1, startedAt),
+                        delayMs, TimeUnit.MILLISECONDS);
+            } catch (RuntimeException scheduleEx) {
+                metrics.recordFailed();
+                log.error("{} | Failed to schedule subscription retry: {}", logPrefix, scheduleEx.getMessage());
+                future.completeExceptionally(
+                        new RuntimeException("Subscription retry could not be scheduled for " + subject, scheduleEx));
             }
         }
+    }
 
-        future.completeExceptionally(
-                new IllegalStateException("Exited subscription retry loop unexpectedly for " + subject));
+    private long backoffDelayMs(int failedAttempt) {
+        int shift = Math.min(failedAttempt - 1, 30);
+        long exponential = Math.min(this.subscriptionRetryMaxDelayMs, this.subscriptionRetryDelayMs << shift);
+        if (exponential <= 1) {
+            return Math.max(exponential, 0);
+        }
+        long half = exponential / 2;
+        return half + ThreadLocalRandom.current().nextLong(exponential - half + 1);
     }
 
     private Subscription createSubscription(String subject, Dispatcher dispatcher, MessageHandler handler)
@@ -158,7 +258,7 @@ class NatsSubscriber {
                                 .replayPolicy(ReplayPolicy.Instant)
                                 .build()
                 ).build();
-        return js.subscribe(subject, dispatcher, handler, false, pso);
+        return connectionManager.getJetStream(subject).subscribe(subject, dispatcher, handler, false, pso);
     }
 
     private <T> void handleIncomingMessage(Message msg,
@@ -168,53 +268,89 @@ class NatsSubscriber {
                                            Dispatcher dispatcher,
                                            Subscription[] subHolder,
                                            String logPrefix) {
-        long msgSeq = -1L;
-        String msgType = null;
-        OffsetDateTime timestamp = null;
-
         try {
-            if (msg.isJetStream()) {
-                NatsJetStreamMetaData meta = msg.metaData();
-                if (meta != null) {
-                    msgSeq = meta.streamSequence();
-                    ZonedDateTime ts = meta.timestamp();
-                    if (ts != null) {
-                        timestamp = ts.toOffsetDateTime();
-                    }
-                } else {
-                    log.warn("{} | Received JetStream message without metadata object!", logPrefix);
-                }
-            } else {
-                log.warn("{} | Received non-JetStream message", logPrefix); return;
-            }
-
-            msgType = msg.getHeaders() != null ? msg.getHeaders().getFirst("type") : null;
-
-            T payload;
-            try {
-                payload = objectMapper.readValue(msg.getData(), javaType);
-            } catch (JsonProcessingException e) {
-                log.warn("{} | Failed JSON unmarshal seq={}: {}. Nacking msg.", logPrefix, msgSeq, e.getMessage());
-                safeNack(msg);
+            NatsMessage<T> result = decodeMessage(msg, javaType, logPrefix);
+            if (result == null) {
                 return;
             }
 
-            if (filter.test(payload, msgType)) {
+            if (filter.test(result.getPayload(), result.getType())) {
                 safeAck(msg);
-                NatsMessage<T> result = NatsMessage.<T>builder()
-                        .payload(payload).subject(msg.getSubject()).type(msgType)
-                        .sequence(msgSeq).timestamp(timestamp).build();
                 attachmentHelper.addNatsAttachment("NATS Message Found", result);
                 future.complete(result);
                 unsubscribeSafely(dispatcher, subHolder[0], logPrefix + " after match");
             }
         } catch (Exception e) {
-            log.error("{} | Error processing NATS msg (seq≈{}, type≈{}): {}", logPrefix, msgSeq, msgType, e.getMessage(), e);
+            log.error("{} | Error processing NATS msg subj={}: {}", logPrefix, msg.getSubject(), e.getMessage(), e);
             safeNack(msg);
         }
     }
 
-    private <T> void awaitMessageFuture(CompletableFuture<NatsMessage<T>> future,
+    private <T> void handleIncomingMessages(Message msg,
+                                            JavaType javaType,
+                                            NatsMessageCollector<T> collector,
+                                            CompletableFuture<List<NatsMessage<T>>> future,
+                                            Dispatcher dispatcher,
+                                            Subscription[] subHolder,
+                                            String logPrefix) {
+        try {
+            NatsMessage<T> result = decodeMessage(msg, javaType, logPrefix);
+            if (result == null || future.isDone()) {
+                return;
+            }
+
+            if (collector.offer(result)) {
+                safeAck(msg);
+                if (collector.isComplete()) {
+                    List<NatsMessage<T>> collected = collector.snapshot();
+                    attachmentHelper.addNatsMessagesAttachment(
+                            String.format("NATS Messages Found (%d)", collected.size()), collected);
+                    future.complete(collected);
+                    unsubscribeSafely(dispatcher, subHolder[0], logPrefix + " after last match");
+                }
+            }
+        } catch (Exception e) {
+            log.error("{} | Error processing NATS msg subj={}: {}", logPrefix, msg.getSubject(), e.getMessage(), e);
+            safeNack(msg);
+        }
+    }
+
+    private <T> NatsMessage<T> decodeMessage(Message msg, JavaType javaType, String logPrefix) {
+        long msgSeq = -1L;
+        OffsetDateTime timestamp = null;
+
+        if (msg.isJetStream()) {
+            NatsJetStreamMetaData meta = msg.metaData();
+            if (meta != null) {
+                msgSeq = meta.streamSequence();
+                ZonedDateTime ts = meta.timestamp();
+                if (ts != null) {
+                    timestamp = ts.toOffsetDateTime();
+                }
+            } else {
+                log.warn("{} | Received JetStream message without metadata object!", logPrefix);
+            }
+        } else {
+            log.warn("{} | Received non-JetStream message", logPrefix); return null;
+        }
+
+        String msgType = msg.getHeaders() != null ? msg.getHeaders().getFirst("type") : null;
+
+        T payload;
+        try {
+            payload = objectMapper.readValue(msg.getData(), javaType);
+        } catch (IOException e) {
+            log.warn("{} | Failed JSON unmarshal seq={}: {}. Nacking msg.", logPrefix, msgSeq, e.getMessage());
+            safeNack(msg);
+            return null;
+        }
+
+        return NatsMessage.<T>builder()
+                .payload(payload).subject(msg.getSubject()).type(msgType)
+                .sequence(msgSeq).timestamp(timestamp).build();
+    }
+
+    private void awaitMessageFuture(CompletableFuture<?> future,
                                         Dispatcher dispatcher,
                                         Subscription subscription,
                                         String logPrefix) {
@@ -0,0 +1,89 @@
+package com.uplatform.wallet_tests.api.nats;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.nats.client.Connection;
+import io.nats.client.Dispatcher;
+import io.nats.client.JetStream;
+import io.nats.client.JetStreamSubscription;
+import io.nats.client.MessageHandler;
+import io.nats.client.PushSubscribeOptions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@Tag("Unit")
+class NatsSubscriberTest {
+
+    private static final String SUBJECT = "beta.wallet.*.player.wallet";
+    private static final int RETRY_COUNT = 3;
+    private static final long DEADLINE_SECONDS = 30;
+
+    private Connection connection;
+    private JetStream jetStream;
+    private NatsSubscriber subscriber;
+
+    @BeforeEach
+    void setUp() {
+        NatsConnectionManager connectionManager = mock(NatsConnectionManager.class);
+        connection = mock(Connection.class);
+        jetStream = mock(JetStream.class);
+        when(connectionManager.getConnection(anyString())).thenReturn(connection);
+        when(connectionManager.getJetStream(anyString())).thenReturn(jetStream);
+        when(connection.createDispatcher()).thenAnswer(invocation -> mock(Dispatcher.class));
+        subscriber = new NatsSubscriber(connectionManager, new ObjectMapper(), mock(NatsAttachmentHelper.class),
+                Duration.ofSeconds(5), Duration.ofSeconds(5), Duration.ofSeconds(5), "beta_wallet",
+                100, RETRY_COUNT, 1, 5, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        subscriber.shutdown();
+    }
+
+    @Test
+    void closesDispatcherOfEveryFailedAttempt() throws Exception {
+        when(jetStream.subscribe(anyString(), any(Dispatcher.class), any(MessageHandler.class), anyBoolean(),
+                any(PushSubscribeOptions.class))).thenThrow(new IOException("cluster busy"));
+
+        CompletableFuture<?> future = subscriber.findMessageAsync(SUBJECT, Map.class, (payload, type) -> true);
+
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> future.get(DEADLINE_SECONDS, TimeUnit.SECONDS));
+        assertTrue(failure.getCause().getMessage().contains("after " + RETRY_COUNT + " attempts"));
+        verify(connection, times(RETRY_COUNT)).createDispatcher();
+        verify(connection, times(RETRY_COUNT)).closeDispatcher(any(Dispatcher.class));
+        assertEquals(RETRY_COUNT - 1, subscriber.getMetrics().getRetries());
+        assertEquals(1, subscriber.getMetrics().getFailed());
+    }
+
+    @Test
+    void keepsDispatcherOfEstablishedSubscription() throws Exception {
+        when(jetStream.subscribe(anyString(), any(Dispatcher.class), any(MessageHandler.class), anyBoolean(),
+                any(PushSubscribeOptions.class)))
+                .thenThrow(new IOException("cluster busy"))
+                .thenReturn(mock(JetStreamSubscription.class));
+
+        CompletableFuture<?> future = subscriber.findMessageAsync(SUBJECT, Map.class, (payload, type) -> true);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(DEADLINE_SECONDS);
+        while (subscriber.getMetrics().getEstablished() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(1, subscriber.getMetrics().getEstablished());
+        assertEquals(1, subscriber.getMetrics().getRetries());
+        verify(connection, times(2)).createDispatcher();
+        verify(connection, times(1)).closeDispatcher(any(Dispatcher.class));
+        assertFalse(future.isDone(), "the future waits for a matching message");
+        future.cancel(true);
+    }
+}
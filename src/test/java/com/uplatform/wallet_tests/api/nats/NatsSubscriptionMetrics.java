@@ -0,0 +1,64 @@
+package com.uplatform.wallet_tests.api.nats;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+public class NatsSubscriptionMetrics {
+
+    private final LongAdder requested = new LongAdder();
+    private final LongAdder established = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder establishLatencyTotalNanos = new LongAdder();
+    private final LongAccumulator establishLatencyMaxNanos = new LongAccumulator(Math::max, 0L);
+
+    void recordRequested() {
+        requested.increment();
+    }
+
+    void recordRetry() {
+        retries.increment();
+    }
+
+    void recordEstablished(long latencyNanos) {
+        established.increment();
+        establishLatencyTotalNanos.add(latencyNanos);
+        establishLatencyMaxNanos.accumulate(latencyNanos);
+    }
+
+    void recordFailed() {
+        failed.increment();
+    }
+
+    public long getRequested() {
+        return requested.sum();
+    }
+
+    public long getEstablished() {
+        return established.sum();
+    }
+
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    public long getRetries() {
+        return retries.sum();
+    }
+
+    public double getAverageEstablishLatencyMs() {
+        long count = established.sum();
+        return count == 0 ? 0.0 : establishLatencyTotalNanos.sum() / (double) count / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public double getMaxEstablishLatencyMs() {
+        return establishLatencyMaxNanos.get() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public String summary() {
+        return String.format("requested=%d, established=%d, failed=%d, retries=%d, establishLatencyAvg=%.1fms, establishLatencyMax=%.1fms",
+                getRequested(), getEstablished(), getFailed(), getRetries(),
+                getAverageEstablishLatencyMs(), getMaxEstablishLatencyMs());
+    }
+}
@@ -0,0 +1,241 @@
+package com.uplatform.wallet_tests.api.nats;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.uplatform.wallet_tests.config.EnvironmentConfigurationProvider;
+import com.uplatform.wallet_tests.config.NatsConfig;
+import io.nats.client.Dispatcher;
+import io.nats.client.JetStreamSubscription;
+import io.nats.client.Message;
+import io.nats.client.PushSubscribeOptions;
+import io.nats.client.api.AckPolicy;
+import io.nats.client.api.ConsumerConfiguration;
+import io.nats.client.api.DeliverPolicy;
+import io.nats.client.impl.NatsJetStreamMetaData;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Background consumer of the whole wallet stream. The wallet payloads carry no per-wallet
+ * sequence, so the checks use what every message does carry: the JetStream metadata and the
+ * payload {@code created_at}. Per wallet subject it flags redeliveries (delivered count above
+ * one), missed deliveries (gaps in the consumer sequence) and events whose {@code created_at}
+ * goes back in time compared with the previous event of the same wallet in stream order.
+ */
+@Component
+@Slf4j
+public class NatsWalletStreamObserver {
+
+    private static final String CREATED_AT_FIELD = "created_at";
+    private static final int DEFAULT_MAX_ANOMALIES = 200;
+
+    private final NatsConnectionManager connectionManager;
+    private final JsonFactory jsonFactory;
+    private final boolean enabled;
+    private final int maxAnomalies;
+    private final Duration ackWait;
+    private final Duration inactiveThreshold;
+    private final int maxAckPending;
+    private final String subject;
+
+    private final WalletSequenceTable table = new WalletSequenceTable(4096);
+    private final Deque<String> anomalies = new ArrayDeque<>();
+    private final LongAdder messages = new LongAdder();
+    private final LongAdder redeliveries = new LongAdder();
+    private final LongAdder missedDeliveries = new LongAdder();
+    private final LongAdder outOfOrder = new LongAdder();
+    private long lastConsumerSeq = WalletSequenceTable.MISSING;
+
+    private Dispatcher dispatcher;
+    private JetStreamSubscription subscription;
+
+    public NatsWalletStreamObserver(NatsConnectionManager connectionManager,
+                                    ObjectMapper objectMapper,
+                                    EnvironmentConfigurationProvider configProvider) {
+        NatsConfig natsConfig = configProvider.getNatsConfig();
+        this.connectionManager = connectionManager;
+        this.jsonFactory = objectMapper.getFactory();
+        this.enabled = natsConfig.isSequenceObserverEnabled();
+        this.maxAnomalies = natsConfig.getSequenceObserverMaxAnomalies() > 0
+                ? natsConfig.getSequenceObserverMaxAnomalies()
+                : DEFAULT_MAX_ANOMALIES;
+        this.ackWait = Duration.ofSeconds(natsConfig.getSubscriptionAckWaitSeconds());
+        this.inactiveThreshold = Duration.ofSeconds(natsConfig.getSubscriptionInactiveThresholdSeconds());
+        this.maxAckPending = natsConfig.getSubscriptionBufferSize();
+        this.subject = connectionManager.getStreamPrefix() + "." + connectionManager.getNatsBaseName() + ".>";
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            log.info("NATS wallet stream observer is disabled.");
+            return;
+        }
+        try {
+            dispatcher = connectionManager.getConnection(subject).createDispatcher();
+            PushSubscribeOptions pso = PushSubscribeOptions.builder()
+                    .stream(connectionManager.getStreamName())
+                    .configuration(ConsumerConfiguration.builder()
+                            .ackPolicy(AckPolicy.Explicit)
+                            .ackWait(ackWait)
+                            .maxAckPending(maxAckPending)
+                            .inactiveThreshold(inactiveThreshold)
+                            .deliverPolicy(DeliverPolicy.New)
+                            .build())
+                    .build();
+            subscription = connectionManager.getJetStream(subject)
+                    .subscribe(subject, dispatcher, this::onMessage, true, pso);
+            log.info("NATS wallet stream observer started on '{}'", subject);
+        } catch (Exception e) {
+            log.error("Failed to start NATS wallet stream observer on '{}': {}", subject, e.getMessage(), e);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            if (subscription != null && subscription.isActive()) {
+                dispatcher.unsubscribe(subscription);
+            }
+        } catch (Exception e) {
+            log.warn("Error while stopping NATS wallet stream observer: {}", e.getMessage());
+        }
+        log.info("NATS wallet stream sequence report:\n{}", getReport());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    private void onMessage(Message msg) {
+        NatsJetStreamMetaData meta = msg.isJetStream() ? msg.metaData() : null;
+        if (meta == null) {
+            return;
+        }
+        String walletKey = walletKey(msg.getSubject());
+        if (walletKey == null) {
+            return;
+        }
+        record(walletKey, meta.streamSequence(), meta.consumerSequence(), meta.deliveredCount(),
+                extractCreatedAt(msg.getData()));
+    }
+
+    void record(String walletKey, long streamSeq, long consumerSeq, long deliveredCount, long createdAt) {
+        messages.increment();
+        synchronized (table) {
+            if (lastConsumerSeq != WalletSequenceTable.MISSING && consumerSeq > lastConsumerSeq + 1) {
+                missedDeliveries.add(consumerSeq - lastConsumerSeq - 1);
+                recordAnomaly("MISSED deliveries", walletKey, lastConsumerSeq, consumerSeq);
+            }
+            lastConsumerSeq = Math.max(lastConsumerSeq, consumerSeq);
+
+            long previousStreamSeq = table.getStreamSeq(walletKey);
+            if (deliveredCount > 1 || (previousStreamSeq != WalletSequenceTable.MISSING && streamSeq <= previousStreamSeq)) {
+                redeliveries.increment();
+                recordAnomaly("REDELIVERED stream_seq", walletKey, previousStreamSeq, streamSeq);
+                return;
+            }
+
+            long previousCreatedAt = table.getEventTime(walletKey);
+            if (createdAt != WalletSequenceTable.MISSING && previousCreatedAt != WalletSequenceTable.MISSING
+                    && createdAt < previousCreatedAt) {
+                outOfOrder.increment();
+                recordAnomaly("OUT_OF_ORDER created_at", walletKey, previousCreatedAt, createdAt);
+            }
+            table.put(walletKey, streamSeq,
+                    createdAt != WalletSequenceTable.MISSING ? Math.max(createdAt, previousCreatedAt) : previousCreatedAt);
+        }
+    }
+
+    private void recordAnomaly(String kind, String walletKey, long previous, long current) {
+        String entry = String.format("%s wallet=%s previous=%d current=%d", kind, walletKey, previous, current);
+        log.warn("NATS wallet stream anomaly: {}", entry);
+        anomalies.addLast(entry);
+        while (anomalies.size() > maxAnomalies) {
+            anomalies.pollFirst();
+        }
+    }
+
+    private static String walletKey(String subject) {
+        if (subject == null) {
+            return null;
+        }
+        int last = subject.lastIndexOf('.');
+        int beforeLast = last > 0 ? subject.lastIndexOf('.', last - 1) : -1;
+        return beforeLast < 0 ? null : subject.substring(beforeLast + 1);
+    }
+
+    long extractCreatedAt(byte[] data) {
+        if (data == null || data.length == 0) {
+            return WalletSequenceTable.MISSING;
+        }
+        try (JsonParser parser = jsonFactory.createParser(data)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return WalletSequenceTable.MISSING;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (CREATED_AT_FIELD.equals(field) && value == JsonToken.VALUE_NUMBER_INT) {
+                    return parser.getLongValue();
+                }
+                parser.skipChildren();
+            }
+        } catch (IOException e) {
+            log.trace("Could not scan NATS payload for {}: {}", CREATED_AT_FIELD, e.getMessage());
+        }
+        return WalletSequenceTable.MISSING;
+    }
+
+    public long getMessageCount() {
+        return messages.sum();
+    }
+
+    public long getRedeliveryCount() {
+        return redeliveries.sum();
+    }
+
+    public long getMissedDeliveryCount() {
+        return missedDeliveries.sum();
+    }
+
+    public long getOutOfOrderCount() {
+        return outOfOrder.sum();
+    }
+
+    public String getReport() {
+        List<String> recent;
+        int wallets;
+        synchronized (table) {
+            recent = new ArrayList<>(anomalies);
+            wallets = table.size();
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append("Subject: ").append(subject).append("\n");
+        sb.append("Messages: ").append(getMessageCount()).append("\n");
+        sb.append("Wallets tracked: ").append(wallets).append("\n");
+        sb.append("Redeliveries: ").append(getRedeliveryCount()).append("\n");
+        sb.append("Missed deliveries (consumer sequence gaps): ").append(getMissedDeliveryCount()).append("\n");
+        sb.append("Out of order (created_at): ").append(getOutOfOrderCount()).append("\n");
+        if (!recent.isEmpty()) {
+            sb.append("\nRecent anomalies (up to ").append(maxAnomalies).append("):\n");
+            recent.forEach(a -> sb.append(a).append("\n"));
+        }
+        return sb.toString();
+    }
+}
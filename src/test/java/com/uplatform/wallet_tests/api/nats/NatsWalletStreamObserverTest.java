@@ -0,0 +1,88 @@
+package com.uplatform.wallet_tests.api.nats;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.uplatform.wallet_tests.config.EnvironmentConfigurationProvider;
+import com.uplatform.wallet_tests.config.NatsConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@Tag("Unit")
+class NatsWalletStreamObserverTest {
+
+    private static final long MISSING = WalletSequenceTable.MISSING;
+
+    private NatsWalletStreamObserver observer;
+
+    @BeforeEach
+    void setUp() {
+        NatsConfig natsConfig = new NatsConfig();
+        natsConfig.setSequenceObserverMaxAnomalies(10);
+        natsConfig.setSubscriptionAckWaitSeconds(5);
+        natsConfig.setSubscriptionInactiveThresholdSeconds(60);
+        natsConfig.setSubscriptionBufferSize(100);
+        EnvironmentConfigurationProvider configProvider = mock(EnvironmentConfigurationProvider.class);
+        when(configProvider.getNatsConfig()).thenReturn(natsConfig);
+        NatsConnectionManager connectionManager = mock(NatsConnectionManager.class);
+        when(connectionManager.getStreamPrefix()).thenReturn("beta");
+        when(connectionManager.getNatsBaseName()).thenReturn("wallet");
+        observer = new NatsWalletStreamObserver(connectionManager, new ObjectMapper(), configProvider);
+    }
+
+    @Test
+    void inOrderDeliveriesRaiseNoAnomalies() {
+        observer.record("p1.w1", 10, 1, 1, 1_700_000_000L);
+        observer.record("p2.w2", 11, 2, 1, 1_700_000_000L);
+        observer.record("p1.w1", 12, 3, 1, 1_700_000_001L);
+
+        assertEquals(3, observer.getMessageCount());
+        assertEquals(0, observer.getRedeliveryCount());
+        assertEquals(0, observer.getMissedDeliveryCount());
+        assertEquals(0, observer.getOutOfOrderCount());
+    }
+
+    @Test
+    void flagsRedeliveryByDeliveredCountAndByRepeatedStreamSequence() {
+        observer.record("p1.w1", 10, 1, 1, 1_700_000_000L);
+        observer.record("p1.w1", 10, 2, 2, 1_700_000_000L);
+        observer.record("p1.w1", 9, 3, 1, 1_700_000_000L);
+
+        assertEquals(2, observer.getRedeliveryCount());
+        assertEquals(0, observer.getOutOfOrderCount());
+        assertTrue(observer.getReport().contains("REDELIVERED stream_seq wallet=p1.w1"));
+    }
+
+    @Test
+    void countsConsumerSequenceGapsAsMissedDeliveries() {
+        observer.record("p1.w1", 10, 1, 1, MISSING);
+        observer.record("p1.w1", 14, 5, 1, MISSING);
+
+        assertEquals(3, observer.getMissedDeliveryCount());
+    }
+
+    @Test
+    void flagsCreatedAtGoingBackWithinOneWallet() {
+        observer.record("p1.w1", 10, 1, 1, 1_700_000_005L);
+        observer.record("p2.w2", 11, 2, 1, 1_700_000_001L);
+        observer.record("p1.w1", 12, 3, 1, 1_700_000_002L);
+        observer.record("p1.w1", 13, 4, 1, 1_700_000_004L);
+
+        assertEquals(2, observer.getOutOfOrderCount(), "both later events are older than the first one");
+    }
+
+    @Test
+    void extractsTopLevelCreatedAtSkippingNestedObjects() {
+        byte[] payload = ("{\"uuid\":\"a\",\"bet_info\":[{\"created_at\":1}],"
+                + "\"wagered_deposit_info\":{\"created_at\":2},\"created_at\":1700000000}")
+                .getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(1_700_000_000L, observer.extractCreatedAt(payload));
+        assertEquals(MISSING, observer.extractCreatedAt("{\"uuid\":\"a\"}".getBytes(StandardCharsets.UTF_8)));
+        assertEquals(MISSING, observer.extractCreatedAt(new byte[0]));
+    }
+}
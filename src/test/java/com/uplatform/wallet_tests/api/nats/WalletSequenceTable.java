@@ -0,0 +1,88 @@
+package com.uplatform.wallet_tests.api.nats;
+
+import java.util.Arrays;
+
+/** Open-addressing String -> (stream sequence, event time) table with no per-entry objects. */
+class WalletSequenceTable {
+
+    static final long MISSING = Long.MIN_VALUE;
+
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private String[] keys;
+    private long[] values;
+    private int size;
+    private int threshold;
+
+    WalletSequenceTable(int initialCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(16, initialCapacity) - 1) << 1;
+        allocate(capacity);
+    }
+
+    long getStreamSeq(String key) {
+        int slot = find(key);
+        return slot < 0 ? MISSING : values[slot * 2];
+    }
+
+    long getEventTime(String key) {
+        int slot = find(key);
+        return slot < 0 ? MISSING : values[slot * 2 + 1];
+    }
+
+    void put(String key, long streamSeq, long eventTime) {
+        int slot = slotFor(key, keys);
+        if (keys[slot] == null) {
+            keys[slot] = key;
+            if (++size > threshold) {
+                rehash();
+                slot = find(key);
+            }
+        }
+        values[slot * 2] = streamSeq;
+        values[slot * 2 + 1] = eventTime;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private int find(String key) {
+        int slot = slotFor(key, keys);
+        return keys[slot] == null ? -1 : slot;
+    }
+
+    private static int slotFor(String key, String[] table) {
+        int mask = table.length - 1;
+        int slot = mix(key.hashCode()) & mask;
+        while (table[slot] != null && !table[slot].equals(key)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int mix(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private void allocate(int capacity) {
+        keys = new String[capacity];
+        values = new long[capacity * 2];
+        Arrays.fill(values, MISSING);
+        threshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private void rehash() {
+        String[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(oldKeys.length * 2);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                int slot = slotFor(oldKeys[i], keys);
+                keys[slot] = oldKeys[i];
+                values[slot * 2] = oldValues[i * 2];
+                values[slot * 2 + 1] = oldValues[i * 2 + 1];
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.uplatform.wallet_tests.api.nats.exception;
+
+import com.uplatform.wallet_tests.api.nats.dto.NatsMessage;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class NatsMessagesNotFoundException extends RuntimeException {
+
+    private final int expectedCount;
+    private final List<? extends NatsMessage<?>> collected;
+
+    public NatsMessagesNotFoundException(String message,
+                                         int expectedCount,
+                                         List<? extends NatsMessage<?>> collected,
+                                         Throwable cause) {
+        super(message, cause);
+        this.expectedCount = expectedCount;
+        this.collected = collected;
+    }
+}
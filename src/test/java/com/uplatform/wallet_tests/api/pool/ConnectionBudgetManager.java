@@ -0,0 +1,372 @@
+package com.uplatform.wallet_tests.api.pool;
+
+import com.uplatform.wallet_tests.api.attachment.AllureAttachmentService;
+import com.uplatform.wallet_tests.api.db.metrics.ConnectionAcquireListener;
+import com.uplatform.wallet_tests.config.ConnectionBudgetConfig;
+import com.uplatform.wallet_tests.config.EnvironmentConfigurationProvider;
+import com.uplatform.wallet_tests.config.PoolBudgetConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.EventListener;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.springframework.stereotype.Component;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.sql.DataSource;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.lang.management.ManagementFactory;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Derives Redis and DB pool sizes from the JUnit parallelism and the per-pool limits in
+ * {@code connectionBudget}, tracks how long callers wait for a connection, and reports pools
+ * that run out of connections while threads are queued on them.
+ * <p>
+ * HTTP is measured but not budgeted: OkHttp's {@code ConnectionPool} only bounds how many idle
+ * connections are kept, and Feign's synchronous calls bypass the dispatcher limits, so an HTTP
+ * call never queues for a connection and there is nothing for the watchdog to check.
+ */
+@Slf4j
+@Component
+public class ConnectionBudgetManager {
+
+    private static final String PARALLELISM_PROPERTY = "junit.jupiter.execution.parallel.config.fixed.parallelism";
+    private static final String REDIS_POOL_JMX_NAME = "org.apache.commons.pool2:type=GenericObjectPool,name=";
+    private static final long EXHAUSTION_LOG_INTERVAL_MS = 10_000;
+
+    private final AllureAttachmentService attachmentService;
+    private final ConnectionBudgetConfig budgetConfig;
+    private final int parallelism;
+    private final Map<String, Integer> poolSizes = new ConcurrentHashMap<>();
+    private final Map<String, PoolWaitStats> waitStats = new ConcurrentHashMap<>();
+    private final Map<String, HikariDataSource> dataSources = new ConcurrentHashMap<>();
+    private final Map<String, Long> lastExhaustionLog = new ConcurrentHashMap<>();
+    private ScheduledExecutorService watchdog;
+
+    public ConnectionBudgetManager(AllureAttachmentService attachmentService,
+                                   EnvironmentConfigurationProvider configProvider) {
+        this.attachmentService = attachmentService;
+        ConnectionBudgetConfig config = configProvider.getEnvironmentConfig().getConnectionBudget();
+        this.budgetConfig = config != null ? config : new ConnectionBudgetConfig();
+        this.parallelism = resolveParallelism(budgetConfig.getTestParallelism());
+        log.info("Connection budget derived from test parallelism {}", parallelism);
+    }
+
+    private static int resolveParallelism(int configured) {
+        if (configured > 0) {
+            return configured;
+        }
+        String value = System.getProperty(PARALLELISM_PROPERTY);
+        if (value == null) {
+            try (InputStream in = ConnectionBudgetManager.class.getClassLoader().getResourceAsStream("junit-platform.properties")) {
+                if (in != null) {
+                    Properties properties = new Properties();
+                    properties.load(in);
+                    value = properties.getProperty(PARALLELISM_PROPERTY);
+                }
+            } catch (Exception e) {
+                log.warn("Failed to read junit-platform.properties: {}", e.getMessage());
+            }
+        }
+        try {
+            return value != null ? Integer.parseInt(value.trim()) : Runtime.getRuntime().availableProcessors();
+        } catch (NumberFormatException e) {
+            return Runtime.getRuntime().availableProcessors();
+        }
+    }
+
+    /** Pool size for {@code pool}, or {@code fallback} when the pool has no budget configured. */
+    public int poolSize(String pool, int fallback) {
+        PoolBudgetConfig budget = budgetConfig.getPools() != null ? budgetConfig.getPools().get(pool) : null;
+        if (budget == null) {
+            poolSizes.put(pool, fallback);
+            return fallback;
+        }
+        int wanted = (int) Math.ceil(parallelism * budget.getConnectionsPerTest());
+        int size = Math.max(1, Math.max(budget.getMinConnections(), wanted));
+        if (budget.getMaxConnections() > 0 && size > budget.getMaxConnections()) {
+            size = budget.getMaxConnections();
+            log.warn("Pool '{}' capped at {} connections, {} concurrent tests would need {}; expect queueing",
+                    pool, size, parallelism, wanted);
+        }
+        poolSizes.put(pool, size);
+        log.info("Pool '{}' sized to {} connections", pool, size);
+        return size;
+    }
+
+    public Duration getAcquireTimeout() {
+        return Duration.ofMillis(budgetConfig.getAcquireTimeoutMs() > 0 ? budgetConfig.getAcquireTimeoutMs() : 30_000);
+    }
+
+    private PoolWaitStats stats(String pool) {
+        return waitStats.computeIfAbsent(pool, k -> new PoolWaitStats());
+    }
+
+    /**
+     * Measures the time from call start until OkHttp hands the call a connection. Calls served by a
+     * pooled connection are recorded under {@code <pool>.reused}; calls that had to open one are
+     * recorded under {@code <pool>.connect}, whose time includes DNS, TCP and TLS.
+     */
+    public EventListener.Factory httpEventListenerFactory(String pool) {
+        PoolWaitStats reused = stats(pool + ".reused");
+        PoolWaitStats connected = stats(pool + ".connect");
+        return call -> new EventListener() {
+            private long startedAt;
+            private boolean connecting;
+
+            @Override
+            public void callStart(Call call) {
+                startedAt = System.nanoTime();
+                connecting = false;
+            }
+
+            @Override
+            public void dnsStart(Call call, String domainName) {
+                connecting = true;
+            }
+
+            @Override
+            public void connectStart(Call call, InetSocketAddress inetSocketAddress, Proxy proxy) {
+                connecting = true;
+            }
+
+            @Override
+            public void connectionAcquired(Call call, Connection connection) {
+                if (startedAt != 0) {
+                    (connecting ? connected : reused).record(System.nanoTime() - startedAt, false);
+                    startedAt = 0;
+                }
+            }
+        };
+    }
+
+    public void configureRedisPool(String pool, GenericObjectPoolConfig<?> poolConfig) {
+        int size = poolSize(pool, poolConfig.getMaxTotal());
+        poolConfig.setMaxTotal(size);
+        poolConfig.setMaxIdle(size);
+        poolConfig.setMaxWait(getAcquireTimeout());
+        poolConfig.setJmxEnabled(true);
+        poolConfig.setJmxNamePrefix(pool);
+    }
+
+    /**
+     * Applies the budget and the configured lifetimes to a Hikari datasource and registers it for
+     * the exhaustion watchdog. The datasource is returned as is; connection waits are reported
+     * through {@link #acquireListener(String)} by the statement metrics proxy.
+     */
+    public DataSource configureDataSource(String pool, DataSource dataSource) {
+        if (!(dataSource instanceof HikariDataSource hikari)) {
+            log.warn("Pool '{}' is not a Hikari pool ({}), budget not applied", pool, dataSource.getClass().getName());
+            return dataSource;
+        }
+        int size = poolSize(pool, hikari.getMaximumPoolSize());
+        hikari.setPoolName(pool);
+        hikari.setMaximumPoolSize(size);
+        hikari.setMinimumIdle(Math.min(size, Math.max(1, size / 4)));
+        hikari.setConnectionTimeout(getAcquireTimeout().toMillis());
+        PoolBudgetConfig budget = budgetConfig.getPools() != null ? budgetConfig.getPools().get(pool) : null;
+        if (budget != null && budget.getMaxLifetimeMs() > 0) {
+            hikari.setMaxLifetime(budget.getMaxLifetimeMs());
+        }
+        if (budget != null && budget.getIdleTimeoutMs() > 0) {
+            hikari.setIdleTimeout(budget.getIdleTimeoutMs());
+        }
+        dataSources.put(pool, hikari);
+        return hikari;
+    }
+
+    /** Records connection waits for {@code pool} and turns an acquire timeout into a report of the pool state. */
+    public ConnectionAcquireListener acquireListener(String pool) {
+        PoolWaitStats poolStats = stats(pool);
+        return new ConnectionAcquireListener() {
+            @Override
+            public void acquired(long nanos) {
+                poolStats.record(nanos, false);
+            }
+
+            @Override
+            public SQLException failed(long nanos, SQLException failure) {
+                poolStats.record(nanos, true);
+                HikariDataSource hikari = dataSources.get(pool);
+                if (hikari == null || !(failure instanceof SQLTransientConnectionException)) {
+                    return failure;
+                }
+                String diagnostic = String.format("Pool '%s' exhausted: %s. Budget: %d connections for %d parallel tests; "
+                                + "raise connectionBudget.pools.%s or lower parallelism",
+                        pool, describeHikari(hikari), poolSizes.getOrDefault(pool, 0), parallelism, pool);
+                log.error(diagnostic);
+                return new SQLTransientConnectionException(diagnostic, failure.getSQLState(), failure);
+            }
+        };
+    }
+
+    @PostConstruct
+    public void startWatchdog() {
+        long intervalMs = budgetConfig.getExhaustionCheckIntervalMs();
+        if (intervalMs <= 0) {
+            return;
+        }
+        watchdog = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "pool-budget-watchdog");
+            t.setDaemon(true);
+            return t;
+        });
+        watchdog.scheduleWithFixedDelay(this::checkExhaustion, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void checkExhaustion() {
+        try {
+            dataSources.forEach((pool, hikari) -> {
+                HikariPoolMXBean mxBean = hikari.getHikariPoolMXBean();
+                if (mxBean != null && mxBean.getThreadsAwaitingConnection() > 0) {
+                    reportExhaustion(pool, describeHikari(hikari));
+                }
+            });
+            for (String pool : poolSizes.keySet()) {
+                if (!pool.startsWith("redis")) {
+                    continue;
+                }
+                Map<String, Long> redis = readRedisPool(pool);
+                if (redis.getOrDefault("NumWaiters", 0L) > 0) {
+                    reportExhaustion(pool, describeRedis(redis));
+                }
+            }
+        } catch (Exception e) {
+            log.debug("Pool exhaustion check failed: {}", e.getMessage());
+        }
+    }
+
+    private void reportExhaustion(String pool, String state) {
+        stats(pool).recordExhaustion();
+        long now = System.currentTimeMillis();
+        Long last = lastExhaustionLog.get(pool);
+        if (last == null || now - last >= EXHAUSTION_LOG_INTERVAL_MS) {
+            lastExhaustionLog.put(pool, now);
+            log.warn("Pool '{}' exhausted, threads are queueing: {}. Budget: {} connections for {} parallel tests",
+                    pool, state, poolSizes.getOrDefault(pool, 0), parallelism);
+        }
+    }
+
+    private String describeHikari(HikariDataSource hikari) {
+        HikariPoolMXBean mxBean = hikari.getHikariPoolMXBean();
+        if (mxBean == null) {
+            return "not started";
+        }
+        return String.format("active=%d, idle=%d, total=%d/%d, waiting=%d",
+                mxBean.getActiveConnections(), mxBean.getIdleConnections(), mxBean.getTotalConnections(),
+                hikari.getMaximumPoolSize(), mxBean.getThreadsAwaitingConnection());
+    }
+
+    private Map<String, Long> readRedisPool(String pool) {
+        Map<String, Long> totals = new TreeMap<>();
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            Set<ObjectName> names = server.queryNames(new ObjectName(REDIS_POOL_JMX_NAME + pool + "*"), null);
+            for (ObjectName name : names) {
+                for (String attribute : new String[]{"NumActive", "NumIdle", "NumWaiters", "MaxTotal", "BorrowedCount"}) {
+                    totals.merge(attribute, ((Number) server.getAttribute(name, attribute)).longValue(), Long::sum);
+                }
+                totals.merge("MaxBorrowWaitTimeMillis",
+                        ((Number) server.getAttribute(name, "MaxBorrowWaitTimeMillis")).longValue(), Math::max);
+                long borrowed = ((Number) server.getAttribute(name, "BorrowedCount")).longValue();
+                long meanWait = ((Number) server.getAttribute(name, "MeanBorrowWaitTimeMillis")).longValue();
+                totals.merge("TotalBorrowWaitTimeMillis", borrowed * meanWait, Long::sum);
+            }
+        } catch (Exception e) {
+            log.debug("Failed to read Redis pool '{}' over JMX: {}", pool, e.getMessage());
+        }
+        return totals;
+    }
+
+    private String describeRedis(Map<String, Long> redis) {
+        if (redis.isEmpty()) {
+            return "not started";
+        }
+        long borrowed = redis.getOrDefault("BorrowedCount", 0L);
+        return String.format("active=%d, idle=%d, max=%d, waiting=%d, borrows=%d, avgWait=%.2f ms, maxWait=%d ms",
+                redis.getOrDefault("NumActive", 0L), redis.getOrDefault("NumIdle", 0L), redis.getOrDefault("MaxTotal", 0L),
+                redis.getOrDefault("NumWaiters", 0L), borrowed,
+                borrowed > 0 ? (double) redis.getOrDefault("TotalBorrowWaitTimeMillis", 0L) / borrowed : 0.0,
+                redis.getOrDefault("MaxBorrowWaitTimeMillis", 0L));
+    }
+
+    /** Copy of the wait counters, so a later summary can report only the waits after it. */
+    public Snapshot snapshot() {
+        Map<String, PoolWaitStats> copy = new HashMap<>();
+        waitStats.forEach((pool, stats) -> copy.put(pool, stats.copy()));
+        return new Snapshot(copy);
+    }
+
+    public String getSummary() {
+        return summarize(waitStats);
+    }
+
+    /** Current pool state with the waits recorded since {@code before} was taken, by any thread. */
+    public String getSummarySince(Snapshot before) {
+        Map<String, PoolWaitStats> since = new HashMap<>();
+        waitStats.forEach((pool, stats) -> since.put(pool, stats.since(before.waitStats.get(pool))));
+        return summarize(since);
+    }
+
+    private String summarize(Map<String, PoolWaitStats> waits) {
+        StringBuilder sb = new StringBuilder(String.format("Test parallelism: %d%n", parallelism));
+        Set<String> pools = new TreeSet<>(poolSizes.keySet());
+        pools.addAll(waits.keySet());
+        pools.forEach(pool -> {
+            Integer size = poolSizes.get(pool);
+            sb.append(size != null ? String.format("%s: size=%d", pool, size) : pool + ": unbudgeted");
+            HikariDataSource hikari = dataSources.get(pool);
+            if (hikari != null) {
+                sb.append(", ").append(describeHikari(hikari));
+            } else if (pool.startsWith("redis")) {
+                sb.append(", ").append(describeRedis(readRedisPool(pool)));
+            }
+            PoolWaitStats poolStats = waits.get(pool);
+            if (poolStats != null) {
+                sb.append(", ").append(poolStats.describe());
+            }
+            sb.append('\n');
+        });
+        return sb.toString();
+    }
+
+    public void attachSummary(Snapshot before) {
+        attachmentService.attachText("Connection Pool Budget (during this test)", getSummarySince(before));
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (watchdog != null) {
+            watchdog.shutdownNow();
+        }
+        log.info("Connection pool budget report:\n{}", getSummary());
+    }
+
+    public static final class Snapshot {
+        private final Map<String, PoolWaitStats> waitStats;
+
+        private Snapshot(Map<String, PoolWaitStats> waitStats) {
+            this.waitStats = waitStats;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.uplatform.wallet_tests.api.pool;
+
+import com.uplatform.wallet_tests.api.attachment.AllureAttachmentService;
+import com.uplatform.wallet_tests.api.db.metrics.ConnectionAcquireListener;
+import com.uplatform.wallet_tests.config.ConnectionBudgetConfig;
+import com.uplatform.wallet_tests.config.EnvironmentConfig;
+import com.uplatform.wallet_tests.config.EnvironmentConfigurationProvider;
+import com.uplatform.wallet_tests.config.PoolBudgetConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.EventListener;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@Tag("Unit")
+class ConnectionBudgetManagerTest {
+
+    private static PoolBudgetConfig budget(double connectionsPerTest, int min, int max) {
+        PoolBudgetConfig budget = new PoolBudgetConfig();
+        budget.setConnectionsPerTest(connectionsPerTest);
+        budget.setMinConnections(min);
+        budget.setMaxConnections(max);
+        return budget;
+    }
+
+    private static ConnectionBudgetManager manager(int parallelism, Map<String, PoolBudgetConfig> pools) {
+        ConnectionBudgetConfig budgetConfig = new ConnectionBudgetConfig();
+        budgetConfig.setTestParallelism(parallelism);
+        budgetConfig.setAcquireTimeoutMs(2_000);
+        budgetConfig.setPools(pools);
+        EnvironmentConfig environment = new EnvironmentConfig();
+        environment.setConnectionBudget(budgetConfig);
+        EnvironmentConfigurationProvider configProvider = mock(EnvironmentConfigurationProvider.class);
+        when(configProvider.getEnvironmentConfig()).thenReturn(environment);
+        return new ConnectionBudgetManager(mock(AllureAttachmentService.class), configProvider);
+    }
+
+    @Test
+    void poolSizeFollowsParallelismWithinBounds() {
+        Map<String, PoolBudgetConfig> pools = Map.of("db.wallet", budget(0.3, 5, 30));
+
+        assertEquals(5, manager(8, pools).poolSize("db.wallet", 10), "the minimum wins at low parallelism");
+        assertEquals(15, manager(50, pools).poolSize("db.wallet", 10));
+        assertEquals(30, manager(200, pools).poolSize("db.wallet", 10), "capped at maxConnections");
+        assertEquals(7, manager(200, pools).poolSize("redis.player", 7), "unbudgeted pools keep the fallback");
+    }
+
+    @Test
+    void configuresHikariInPlaceWithBudgetAndLifetimes() {
+        PoolBudgetConfig core = budget(0.2, 5, 20);
+        core.setMaxLifetimeMs(60_000);
+        core.setIdleTimeoutMs(30_000);
+        HikariDataSource hikari = new HikariDataSource();
+
+        assertSame(hikari, manager(40, Map.of("db.core", core)).configureDataSource("db.core", hikari));
+        assertEquals("db.core", hikari.getPoolName());
+        assertEquals(8, hikari.getMaximumPoolSize());
+        assertEquals(2, hikari.getMinimumIdle());
+        assertEquals(2_000, hikari.getConnectionTimeout());
+        assertEquals(60_000, hikari.getMaxLifetime());
+        assertEquals(30_000, hikari.getIdleTimeout());
+    }
+
+    @Test
+    void acquireTimeoutIsReportedWithPoolState() {
+        ConnectionBudgetManager manager = manager(4, Map.of("db.core", budget(1.0, 1, 4)));
+        manager.configureDataSource("db.core", new HikariDataSource());
+        ConnectionAcquireListener listener = manager.acquireListener("db.core");
+
+        listener.acquired(1_000_000);
+        SQLException timeout = new SQLTransientConnectionException("Connection is not available", "08001");
+        SQLException reported = listener.failed(2_000_000_000L, timeout);
+        SQLException other = new SQLException("access denied");
+
+        assertSame(timeout, reported.getCause());
+        assertTrue(reported.getMessage().startsWith("Pool 'db.core' exhausted: not started. Budget: 4 connections"),
+                reported.getMessage());
+        assertSame(other, listener.failed(1_000, other));
+        assertTrue(manager.getSummary().contains("acquires=3, avgWait="), manager.getSummary());
+        assertTrue(manager.getSummary().contains("timeouts=2"), manager.getSummary());
+    }
+
+    @Test
+    void summarySinceASnapshotCoversOnlyLaterWaits() {
+        ConnectionBudgetManager manager = manager(4, Map.of("db.core", budget(1.0, 1, 4)));
+        manager.configureDataSource("db.core", new HikariDataSource());
+        ConnectionAcquireListener listener = manager.acquireListener("db.core");
+        listener.acquired(1_000_000);
+        listener.acquired(1_000_000);
+
+        ConnectionBudgetManager.Snapshot before = manager.snapshot();
+        listener.acquired(3_000_000);
+
+        String since = manager.getSummarySince(before);
+        assertTrue(since.contains("acquires=1, avgWait=3.00 ms, timeouts=0"), since);
+        assertTrue(manager.getSummary().contains("acquires=3"), manager.getSummary());
+    }
+
+    @Test
+    void httpWaitsAreSplitByReusedAndNewConnections() {
+        ConnectionBudgetManager manager = manager(4, Map.of());
+        EventListener.Factory factory = manager.httpEventListenerFactory("http");
+        Call call = mock(Call.class);
+
+        EventListener reusing = factory.create(call);
+        reusing.callStart(call);
+        reusing.connectionAcquired(call, mock(Connection.class));
+        EventListener connecting = factory.create(call);
+        connecting.callStart(call);
+        connecting.connectStart(call, InetSocketAddress.createUnresolved("localhost", 443), Proxy.NO_PROXY);
+        connecting.connectionAcquired(call, mock(Connection.class));
+
+        String summary = manager.getSummary();
+        assertTrue(summary.contains("http.connect: unbudgeted, acquires=1"), summary);
+        assertTrue(summary.contains("http.reused: unbudgeted, acquires=1"), summary);
+    }
+}
@@ -0,0 +1,67 @@
+package com.uplatform.wallet_tests.api.pool;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+class PoolWaitStats {
+
+    private final LongAdder acquires = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder exhaustions = new LongAdder();
+    private final boolean delta;
+
+    PoolWaitStats() {
+        this(false);
+    }
+
+    private PoolWaitStats(boolean delta) {
+        this.delta = delta;
+    }
+
+    void record(long nanos, boolean timedOut) {
+        acquires.increment();
+        if (timedOut) {
+            timeouts.increment();
+        }
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    void recordExhaustion() {
+        exhaustions.increment();
+    }
+
+    PoolWaitStats copy() {
+        PoolWaitStats copy = new PoolWaitStats(delta);
+        copy.add(this, 1);
+        copy.maxNanos.accumulate(maxNanos.get());
+        return copy;
+    }
+
+    /** Waits recorded since {@code before} was copied from these stats; the window's maximum is not known. */
+    PoolWaitStats since(PoolWaitStats before) {
+        PoolWaitStats since = new PoolWaitStats(true);
+        since.add(this, 1);
+        if (before != null) {
+            since.add(before, -1);
+        }
+        return since;
+    }
+
+    private void add(PoolWaitStats other, int sign) {
+        acquires.add(sign * other.acquires.sum());
+        timeouts.add(sign * other.timeouts.sum());
+        totalNanos.add(sign * other.totalNanos.sum());
+        exhaustions.add(sign * other.exhaustions.sum());
+    }
+
+    String describe() {
+        long n = acquires.sum();
+        String maxWait = delta ? "" : String.format("maxWait=%d ms, ", TimeUnit.NANOSECONDS.toMillis(maxNanos.get()));
+        return String.format("acquires=%d, avgWait=%.2f ms, %stimeouts=%d, exhaustedChecks=%d",
+                n, n > 0 ? totalNanos.sum() / 1_000_000.0 / n : 0.0, maxWait, timeouts.sum(), exhaustions.sum());
+    }
+}
@@ -1,6 +1,8 @@
 package com.uplatform.wallet_tests.api.redis.client;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
 import com.uplatform.wallet_tests.api.redis.exception.RedisClientException;
 import com.uplatform.wallet_tests.api.redis.model.WalletFilterCriteria;
 import lombok.extern.slf4j.Slf4j;
@@ -8,28 +10,63 @@ import org.springframework.data.redis.RedisSystemException;
 import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.core.RedisTemplate;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import com.uplatform.wallet_tests.api.attachment.AllureAttachmentService;
 
 @Slf4j
 public abstract class AbstractRedisClient {
 
+    private static final int MGET_BATCH_SIZE = 500;
+    private static final int MAX_REPORTED_KEYS = 50;
+
     protected final String instanceName;
     protected final RedisTemplate<String, String> redisTemplate;
     protected final RedisRetryHelper retryHelper;
     protected final AllureAttachmentService attachmentService;
+    protected final RedisKeyspaceNotifier keyspaceNotifier;
+    protected final AsyncRedisClient asyncClient;
 
     protected AbstractRedisClient(String instanceName,
                                   RedisTemplate<String, String> redisTemplate,
                                   RedisRetryHelper retryHelper,
                                   AllureAttachmentService attachmentService) {
+        this(instanceName, redisTemplate, retryHelper, attachmentService, null);
+    }
+
+    protected AbstractRedisClient(String instanceName,
+                                  RedisTemplate<String, String> redisTemplate,
+                                  RedisRetryHelper retryHelper,
+                                  AllureAttachmentService attachmentService,
+                                  RedisKeyspaceNotifier keyspaceNotifier) {
+        this(instanceName, redisTemplate, retryHelper, attachmentService, keyspaceNotifier, null);
+    }
+
+    /**
+     * @param asyncClient optional shared multiplexed connection; when set, value reads go
+     *                    through it instead of borrowing a pooled connection per command.
+     */
+    protected AbstractRedisClient(String instanceName,
+                                  RedisTemplate<String, String> redisTemplate,
+                                  RedisRetryHelper retryHelper,
+                                  AllureAttachmentService attachmentService,
+                                  RedisKeyspaceNotifier keyspaceNotifier,
+                                  AsyncRedisClient asyncClient) {
         this.instanceName = instanceName;
         this.redisTemplate = redisTemplate;
         this.retryHelper = retryHelper;
         this.attachmentService = attachmentService;
+        this.keyspaceNotifier = keyspaceNotifier;
+        this.asyncClient = asyncClient;
         log.info("RedisClient initialized for instance: {}", this.instanceName);
         checkConnection();
     }
@@ -47,8 +84,11 @@ public abstract class AbstractRedisClient {
         }
     }
 
-    private Optional<String> getValue(String key) {
+    protected Optional<String> getValue(String key) {
         try {
+            if (asyncClient != null) {
+                return asyncClient.await(asyncClient.getValueAsync(key));
+            }
             String value = redisTemplate.opsForValue().get(key);
             return Optional.ofNullable(value).filter(s -> !s.isEmpty());
         } catch (RedisSystemException e) {
@@ -71,15 +111,26 @@ public abstract class AbstractRedisClient {
                 valueTypeRef.getType(),
                 valueTypeRef,
                 (inst, k) -> getValue(k),
-                null);
-        return result.orElseThrow(() -> new RedisClientException(String.format(
-                "[%s] Failed to get value for key '%s' after %d attempts",
+                null,
+                keyspaceNotifier);
+        T value = result.orElseThrow(() -> new RedisClientException(String.format(
+                "[%s] Failed to get value for key '%s' within %d ms",
                 instanceName,
                 key,
-                retryHelper.getRetryAttempts())));
+                retryHelper.getTimeoutMs(instanceName))));
+        onValueRead(key, value);
+        return value;
     }
 
     public <T> T getWithCheck(String key, TypeReference<T> valueTypeRef, BiFunction<T, String, CheckResult> checkFunc) {
+        return getWithCheck(key, valueTypeRef, (inst, k) -> getValue(k), null, checkFunc);
+    }
+
+    protected <T> T getWithCheck(String key,
+                                 TypeReference<T> valueTypeRef,
+                                 BiFunction<String, String, Optional<String>> valueGetter,
+                                 Function<String, CheckResult> rawPreCheck,
+                                 BiFunction<T, String, CheckResult> checkFunc) {
         if (key == null) {
             String errorMsg = String.format("[%s] Cannot check value: key is null.", instanceName);
             log.error(errorMsg); attachmentService.attachText("Redis Error", errorMsg); throw new RedisClientException(errorMsg);
@@ -89,13 +140,143 @@ public abstract class AbstractRedisClient {
                 key,
                 valueTypeRef.getType(),
                 valueTypeRef,
-                (inst, k) -> getValue(k),
-                checkFunc);
-        return result.orElseThrow(() -> new RedisClientException(String.format(
-                "[%s] Failed to get expected value for key '%s' after %d attempts",
+                valueGetter,
+                rawPreCheck,
+                checkFunc,
+                keyspaceNotifier);
+        T value = result.orElseThrow(() -> new RedisClientException(String.format(
+                "[%s] Failed to get expected value for key '%s' within %d ms",
                 instanceName,
                 key,
-                retryHelper.getRetryAttempts())));
+                retryHelper.getTimeoutMs(instanceName))));
+        onValueRead(key, value);
+        return value;
+    }
+
+    protected void onValueRead(String key, Object value) {
+    }
+
+    public <T> Map<String, T> getAllWithRetry(Collection<String> keys, TypeReference<T> valueTypeRef) {
+        Map<String, BiFunction<T, String, CheckResult>> checksByKey = new LinkedHashMap<>();
+        for (String key : keys) {
+            checksByKey.put(key, (value, rawJson) -> new CheckResult(true, "Check not required"));
+        }
+        return getAllWithCheck(checksByKey, valueTypeRef);
+    }
+
+    /**
+     * Batch counterpart of {@link #getWithCheck}: every round reads all still-unsatisfied keys
+     * with MGET and re-reads only those whose check failed, until all pass or the shared
+     * deadline of the instance's wait strategy expires.
+     */
+    public <T> Map<String, T> getAllWithCheck(Map<String, BiFunction<T, String, CheckResult>> checksByKey,
+                                              TypeReference<T> valueTypeRef) {
+        if (checksByKey == null || checksByKey.containsKey(null)) {
+            String errorMsg = String.format("[%s] Cannot check values: keys are null.", instanceName);
+            log.error(errorMsg); attachmentService.attachText("Redis Error", errorMsg); throw new RedisClientException(errorMsg);
+        }
+        JavaType javaType = retryHelper.constructType(valueTypeRef.getType());
+        Map<String, T> satisfied = new LinkedHashMap<>();
+        Map<String, String> lastErrors = new LinkedHashMap<>();
+        List<String> pending = new ArrayList<>(checksByKey.keySet());
+
+        RedisWaitStrategy waitStrategy = retryHelper.getWaitStrategy(instanceName);
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + TimeUnit.MILLISECONDS.toNanos(waitStrategy.getTimeoutMs());
+        int rounds = 0;
+        while (!pending.isEmpty()) {
+            if (rounds > 0) {
+                long now = System.nanoTime();
+                long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - now);
+                if (remainingMs <= 0) {
+                    break;
+                }
+                try {
+                    long delayMs = waitStrategy.nextDelayMs(rounds, TimeUnit.NANOSECONDS.toMillis(now - startedAt));
+                    TimeUnit.MILLISECONDS.sleep(Math.min(delayMs, remainingMs));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RedisClientException(String.format("[%s] Batch wait interrupted with %d keys pending", instanceName, pending.size()));
+                }
+            }
+            rounds++;
+
+            List<String> stillPending = new ArrayList<>();
+            for (int from = 0; from < pending.size(); from += MGET_BATCH_SIZE) {
+                List<String> chunk = pending.subList(from, Math.min(from + MGET_BATCH_SIZE, pending.size()));
+                List<String> rawValues = multiGet(chunk);
+                for (int i = 0; i < chunk.size(); i++) {
+                    String key = chunk.get(i);
+                    String rawValue = rawValues != null && i < rawValues.size() ? rawValues.get(i) : null;
+                    if (rawValue == null || rawValue.isEmpty()) {
+                        lastErrors.put(key, rawValues == null ? "MGET failed" : "Key not found or value is empty");
+                        stillPending.add(key);
+                        continue;
+                    }
+                    try {
+                        T value = retryHelper.deserializeValue(rawValue, javaType);
+                        CheckResult checkResult = value == null
+                                ? new CheckResult(false, "Deserialized data is null")
+                                : checksByKey.get(key).apply(value, rawValue);
+                        if (checkResult.isSuccess()) {
+                            satisfied.put(key, value);
+                            lastErrors.remove(key);
+                        } else {
+                            lastErrors.put(key, "Check failed: " + checkResult.getMessage());
+                            stillPending.add(key);
+                        }
+                    } catch (JsonProcessingException e) {
+                        lastErrors.put(key, "Failed to deserialize JSON: " + e.getOriginalMessage());
+                        stillPending.add(key);
+                    }
+                }
+            }
+            pending = stillPending;
+        }
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        String summary = describeBatch(checksByKey.size(), satisfied.size(), rounds, elapsedMs, lastErrors);
+        if (!pending.isEmpty()) {
+            log.error("[{}] Batch check failed: {} of {} keys unsatisfied after {} rounds in {} ms",
+                    instanceName, pending.size(), checksByKey.size(), rounds, elapsedMs);
+            attachmentService.attachText("Redis Batch Result (Failure)", summary);
+            throw new RedisClientException(String.format(
+                    "[%s] Failed to get expected values for %d of %d keys after %d rounds",
+                    instanceName, pending.size(), checksByKey.size(), rounds));
+        }
+        satisfied.forEach(this::onValueRead);
+        log.info("[{}] Batch check satisfied {} keys after {} rounds in {} ms", instanceName, satisfied.size(), rounds, elapsedMs);
+        attachmentService.attachText("Redis Batch Result", summary);
+        return satisfied;
+    }
+
+    private List<String> multiGet(List<String> keys) {
+        try {
+            if (asyncClient != null) {
+                return asyncClient.await(asyncClient.multiGetAsync(keys));
+            }
+            return redisTemplate.opsForValue().multiGet(keys);
+        } catch (Exception e) {
+            log.error("[{}] MGET of {} keys failed: {}", instanceName, keys.size(), e.getMessage());
+            return null;
+        }
+    }
+
+    private String describeBatch(int total, int satisfiedCount, int rounds, long elapsedMs, Map<String, String> lastErrors) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Redis Instance: ").append(instanceName).append("\n");
+        sb.append("Keys: ").append(total).append(", satisfied: ").append(satisfiedCount).append("\n");
+        sb.append("Rounds: ").append(rounds).append(", elapsed: ").append(elapsedMs).append(" ms\n");
+        if (!lastErrors.isEmpty()) {
+            sb.append("\nUnsatisfied keys:\n");
+            lastErrors.entrySet().stream()
+                    .limit(MAX_REPORTED_KEYS)
+                    .forEach(e -> sb.append("  ").append(e.getKey()).append(": ").append(e.getValue()).append("\n"));
+            if (lastErrors.size() > MAX_REPORTED_KEYS) {
+                sb.append("  ... and ").append(lastErrors.size() - MAX_REPORTED_KEYS).append(" more\n");
+            }
+        }
+        return sb.toString();
     }
 
     public String describeCriteria(WalletFilterCriteria criteria) {
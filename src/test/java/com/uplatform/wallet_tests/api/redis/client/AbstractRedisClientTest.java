@@ -0,0 +1,107 @@
+package com.uplatform.wallet_tests.api.redis.client;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.uplatform.wallet_tests.api.attachment.AllureAttachmentService;
+import com.uplatform.wallet_tests.api.redis.exception.RedisClientException;
+import com.uplatform.wallet_tests.config.EnvironmentConfig;
+import com.uplatform.wallet_tests.config.EnvironmentConfigurationProvider;
+import com.uplatform.wallet_tests.config.RedisAggregateConfig;
+import com.uplatform.wallet_tests.config.RedisConfig;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@Tag("Unit")
+@SuppressWarnings("unchecked")
+class AbstractRedisClientTest {
+
+    private static final TypeReference<Map<String, Integer>> VALUE_TYPE = new TypeReference<>() {};
+
+    private ValueOperations<String, String> valueOps;
+    private AllureAttachmentService attachmentService;
+    private final List<List<String>> mgetCalls = new ArrayList<>();
+
+    private AbstractRedisClient client(int retryAttempts, long retryDelayMs) {
+        RedisAggregateConfig aggregate = new RedisAggregateConfig();
+        aggregate.setRetryAttempts(retryAttempts);
+        aggregate.setRetryDelayMs(retryDelayMs);
+        RedisConfig redis = new RedisConfig();
+        redis.setAggregate(aggregate);
+        EnvironmentConfig environment = new EnvironmentConfig();
+        environment.setRedis(redis);
+        EnvironmentConfigurationProvider configProvider = mock(EnvironmentConfigurationProvider.class);
+        when(configProvider.getEnvironmentConfig()).thenReturn(environment);
+
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        valueOps = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOps);
+        attachmentService = mock(AllureAttachmentService.class);
+        RedisRetryHelper retryHelper = new RedisRetryHelper(new ObjectMapper(), attachmentService, configProvider);
+        return new AbstractRedisClient("TEST", redisTemplate, retryHelper, attachmentService) {
+        };
+    }
+
+    private static Map<String, BiFunction<Map<String, Integer>, String, CheckResult>> seqChecks(int keyCount, int expectedSeq) {
+        Map<String, BiFunction<Map<String, Integer>, String, CheckResult>> checks = new LinkedHashMap<>();
+        for (int i = 0; i < keyCount; i++) {
+            checks.put("wallet:" + i, (value, raw) -> new CheckResult(value.get("seq") >= expectedSeq, "seq=" + value.get("seq")));
+        }
+        return checks;
+    }
+
+    @Test
+    void readsKeysInChunksAndRereadsOnlyUnsatisfiedOnes() {
+        AbstractRedisClient client = client(300, 100);
+        AtomicInteger laggingReads = new AtomicInteger();
+        when(valueOps.multiGet(anyList())).thenAnswer(invocation -> {
+            List<String> keys = new ArrayList<>(invocation.<List<String>>getArgument(0));
+            mgetCalls.add(keys);
+            List<String> values = new ArrayList<>();
+            for (String key : keys) {
+                boolean lagging = key.equals("wallet:7") && laggingReads.getAndIncrement() == 0;
+                values.add(lagging ? "{\"seq\":1}" : "{\"seq\":2}");
+            }
+            return values;
+        });
+
+        Map<String, Map<String, Integer>> result = client.getAllWithCheck(seqChecks(1_200, 2), VALUE_TYPE);
+
+        assertEquals(1_200, result.size());
+        assertEquals(List.of(500, 500, 200, 1), mgetCalls.stream().map(List::size).toList());
+        assertEquals(List.of("wallet:7"), mgetCalls.get(3));
+        verify(attachmentService).attachText(eq("Redis Batch Result"), startsWith("Redis Instance: TEST"));
+    }
+
+    @Test
+    void failsWithUnsatisfiedKeysAfterDeadline() {
+        AbstractRedisClient client = client(5, 20);
+        when(valueOps.multiGet(anyList())).thenAnswer(invocation -> {
+            List<String> keys = invocation.getArgument(0);
+            List<String> values = new ArrayList<>();
+            keys.forEach(key -> values.add(key.equals("wallet:1") ? null : "{\"seq\":2}"));
+            return values;
+        });
+
+        RedisClientException error = assertThrows(RedisClientException.class,
+                () -> client.getAllWithCheck(seqChecks(3, 2), VALUE_TYPE));
+
+        assertTrue(error.getMessage().contains("1 of 3 keys"), error.getMessage());
+        verify(attachmentService).attachText(eq("Redis Batch Result (Failure)"), contains("wallet:1: Key not found"));
+    }
+}
@@ -0,0 +1,71 @@
+package com.uplatform.wallet_tests.api.redis.client;
+
+import java.util.Arrays;
+
+/**
+ * Schedules reads around the observed propagation delay: the next read is aimed at the
+ * smallest recorded time-to-success that lies beyond the current elapsed time, so waits
+ * track the environment instead of a fixed cadence. Until enough successes are recorded,
+ * or once the wait exceeds every observation, it behaves like exponential backoff with jitter.
+ */
+class AdaptiveWaitStrategy implements RedisWaitStrategy {
+
+    private static final int WINDOW = 256;
+    private static final int MIN_SAMPLES = 8;
+
+    private final long timeoutMs;
+    private final long minDelayMs;
+    private final long maxDelayMs;
+    private final long[] samples = new long[WINDOW];
+    private int count;
+    private int next;
+
+    AdaptiveWaitStrategy(long timeoutMs, long minDelayMs, long maxDelayMs) {
+        this.timeoutMs = timeoutMs;
+        this.minDelayMs = minDelayMs;
+        this.maxDelayMs = maxDelayMs;
+    }
+
+    @Override
+    public long getTimeoutMs() {
+        return timeoutMs;
+    }
+
+    @Override
+    public long nextDelayMs(int attempt, long elapsedMs) {
+        long[] sorted;
+        synchronized (samples) {
+            if (count < MIN_SAMPLES) {
+                return ExponentialJitterWaitStrategy.jittered(minDelayMs, maxDelayMs, attempt);
+            }
+            sorted = Arrays.copyOf(samples, count);
+        }
+        Arrays.sort(sorted);
+        int idx = Arrays.binarySearch(sorted, elapsedMs + 1);
+        if (idx < 0) {
+            idx = -idx - 1;
+        }
+        if (idx >= sorted.length) {
+            return ExponentialJitterWaitStrategy.jittered(minDelayMs, maxDelayMs, attempt);
+        }
+        return Math.max(minDelayMs, Math.min(maxDelayMs, sorted[idx] - elapsedMs));
+    }
+
+    @Override
+    public void recordSuccess(long elapsedMs) {
+        synchronized (samples) {
+            samples[next] = elapsedMs;
+            next = (next + 1) % WINDOW;
+            count = Math.min(count + 1, WINDOW);
+        }
+    }
+
+    @Override
+    public String describe() {
+        int samplesCount;
+        synchronized (samples) {
+            samplesCount = count;
+        }
+        return String.format("ADAPTIVE(timeout=%dms, min=%dms, max=%dms, samples=%d)", timeoutMs, minDelayMs, maxDelayMs, samplesCount);
+    }
+}
@@ -0,0 +1,52 @@
+package com.uplatform.wallet_tests.api.redis.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads selected top-level scalar fields of a JSON aggregate with a streaming parser,
+ * skipping nested objects and arrays without materializing them.
+ */
+public final class AggregateScalarReader {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private AggregateScalarReader() {
+    }
+
+    /**
+     * @return field name to textual value; numbers keep their exact textual form, JSON null maps to null.
+     * Fields that are absent or not scalars are not present in the result.
+     */
+    public static Map<String, String> read(String json, Set<String> fields) throws IOException {
+        Map<String, String> values = new HashMap<>(fields.size() * 2);
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Expected JSON object at top level");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (value.isScalarValue() && fields.contains(field)) {
+                    values.put(field, value == JsonToken.VALUE_NULL ? null : parser.getText());
+                    if (values.size() == fields.size()) {
+                        break;
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return values;
+    }
+
+    public static String readOne(String json, String field) throws IOException {
+        return read(json, Set.of(field)).get(field);
+    }
+}
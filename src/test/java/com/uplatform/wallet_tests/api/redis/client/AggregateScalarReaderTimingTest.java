@@ -0,0 +1,121 @@
+package com.uplatform.wallet_tests.api.redis.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.management.ThreadMXBean;
+import com.uplatform.wallet_tests.api.redis.model.WalletFullData;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Compares the LastSeqNumber pre-check with a full WalletFullData bind on an aggregate with
+ * 500 iframe records and 500 gambling entries. The aggregate is generated from a fixed seed
+ * and the scalar is placed after the collections, so the pre-check has to skip all of them.
+ * The assertion is on bytes allocated by the test thread, which other tests running in
+ * parallel do not affect; wall-clock times are only logged.
+ */
+@Slf4j
+@Tag("Performance")
+class AggregateScalarReaderTimingTest {
+
+    private static final int IFRAME_RECORDS = 500;
+    private static final int GAMBLING_ENTRIES = 500;
+    private static final int WARMUP_ROUNDS = 2;
+    private static final int MEASURED_ITERATIONS = 1_000;
+
+    private static String buildAggregate() {
+        Random random = new Random(42);
+        StringBuilder sb = new StringBuilder(256 * (IFRAME_RECORDS + GAMBLING_ENTRIES));
+        sb.append("{\"WalletUUID\":\"").append(new UUID(random.nextLong(), random.nextLong())).append("\",");
+        sb.append("\"Currency\":\"EUR\",\"Balance\":\"1500.25\",\"IFrameRecords\":[");
+        for (int i = 0; i < IFRAME_RECORDS; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"UUID\":\"").append(new UUID(random.nextLong(), random.nextLong()))
+                    .append("\",\"BetID\":").append(1_000_000 + i)
+                    .append(",\"Amount\":\"").append(random.nextInt(10_000)).append(".50\"")
+                    .append(",\"TotalCoeff\":\"").append(1 + random.nextInt(20)).append(".25\"")
+                    .append(",\"Time\":").append(1_700_000_000L + i)
+                    .append(",\"CreatedAt\":").append(1_700_000_000L + i).append('}');
+        }
+        sb.append("],\"Gambling\":{");
+        for (int i = 0; i < GAMBLING_ENTRIES; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append('"').append(new UUID(random.nextLong(), random.nextLong()))
+                    .append("\":{\"Amount\":\"").append(random.nextInt(10_000)).append(".75\"")
+                    .append(",\"CreatedAt\":").append(1_700_000_000L + i).append('}');
+        }
+        sb.append("},\"LastSeqNumber\":1234}");
+        return sb.toString();
+    }
+
+    private static long allocatedBytes(ThreadMXBean threads, Runnable work) {
+        long before = threads.getCurrentThreadAllocatedBytes();
+        work.run();
+        return threads.getCurrentThreadAllocatedBytes() - before;
+    }
+
+    @Test
+    void preCheckAllocatesFarLessThanFullBindOnLargeAggregate() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        String aggregate = buildAggregate();
+
+        assertEquals("1234", AggregateScalarReader.readOne(aggregate, "LastSeqNumber"));
+        WalletFullData bound = objectMapper.readValue(aggregate, WalletFullData.class);
+        assertEquals(IFRAME_RECORDS, bound.getIFrameRecords().size());
+        assertEquals(1234, bound.getLastSeqNumber());
+
+        long[] sink = {0};
+        Runnable preCheck = () -> {
+            for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+                try {
+                    sink[0] += AggregateScalarReader.readOne(aggregate, "LastSeqNumber").length();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+        Runnable bind = () -> {
+            for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+                try {
+                    sink[0] += objectMapper.readValue(aggregate, WalletFullData.class).getLastSeqNumber();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            preCheck.run();
+            bind.run();
+        }
+
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled(),
+                "per-thread allocation accounting is not available");
+        long preCheckStarted = System.nanoTime();
+        long preCheckBytes = allocatedBytes(threads, preCheck);
+        long preCheckNanos = System.nanoTime() - preCheckStarted;
+        long bindStarted = System.nanoTime();
+        long bindBytes = allocatedBytes(threads, bind);
+        long bindNanos = System.nanoTime() - bindStarted;
+
+        log.info("Aggregate of {} chars, {} iterations: pre-check {} B/op, {} us/op; full bind {} B/op, {} us/op; sink={}",
+                aggregate.length(), MEASURED_ITERATIONS,
+                preCheckBytes / MEASURED_ITERATIONS, preCheckNanos / 1_000 / MEASURED_ITERATIONS,
+                bindBytes / MEASURED_ITERATIONS, bindNanos / 1_000 / MEASURED_ITERATIONS, sink[0]);
+        assertTrue(preCheckBytes * 10 < bindBytes,
+                "pre-check allocated " + preCheckBytes + " bytes, full bind " + bindBytes + " bytes");
+    }
+}
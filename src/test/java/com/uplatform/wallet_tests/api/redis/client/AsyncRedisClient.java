@@ -0,0 +1,304 @@
+package com.uplatform.wallet_tests.api.redis.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.uplatform.wallet_tests.api.redis.exception.RedisClientException;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisNoScriptException;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.ScriptOutputType;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.StringCodec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Access to a Redis instance over a single multiplexed Lettuce connection shared by all
+ * callers, so concurrent tests pipeline their commands instead of queueing for a pooled
+ * connection. Retry delays are scheduled on a small dedicated executor, so no thread is
+ * held while an asynchronous wait is pending.
+ * <p>
+ * Callbacks run outside the test thread, so no Allure attachments are produced here;
+ * the outcome is reported through the returned future.
+ */
+@Slf4j
+public class AsyncRedisClient implements AutoCloseable {
+
+    private static final int CALLBACK_THREADS = 2;
+
+    private final String instanceName;
+    private final RedisRetryHelper retryHelper;
+    private final Supplier<StatefulRedisConnection<String, String>> connector;
+    private final Duration commandTimeout;
+    private final ScheduledExecutorService scheduler;
+    private RedisClient client;
+    private StatefulRedisConnection<String, String> connection;
+
+    public AsyncRedisClient(String instanceName, RedisProperties properties, RedisRetryHelper retryHelper) {
+        this(instanceName, retryHelper, null,
+                properties.getTimeout() != null ? properties.getTimeout() : Duration.ofSeconds(60),
+                toUri(properties));
+    }
+
+    AsyncRedisClient(String instanceName,
+                     RedisRetryHelper retryHelper,
+                     Supplier<StatefulRedisConnection<String, String>> connector,
+                     Duration commandTimeout) {
+        this(instanceName, retryHelper, connector, commandTimeout, null);
+    }
+
+    private AsyncRedisClient(String instanceName,
+                             RedisRetryHelper retryHelper,
+                             Supplier<StatefulRedisConnection<String, String>> connector,
+                             Duration commandTimeout,
+                             RedisURI redisUri) {
+        this.instanceName = instanceName;
+        this.retryHelper = retryHelper;
+        this.connector = connector != null ? connector : () -> connect(redisUri);
+        this.commandTimeout = commandTimeout;
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.scheduler = Executors.newScheduledThreadPool(CALLBACK_THREADS, r -> {
+            Thread thread = new Thread(r, "redis-async-" + instanceName + "-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static RedisURI toUri(RedisProperties properties) {
+        RedisURI.Builder builder = RedisURI.builder()
+                .withHost(properties.getHost())
+                .withPort(properties.getPort())
+                .withDatabase(properties.getDatabase())
+                .withTimeout(properties.getTimeout() != null ? properties.getTimeout() : Duration.ofSeconds(60));
+        if (properties.getPassword() != null && !properties.getPassword().isEmpty()) {
+            builder.withPassword(properties.getPassword().toCharArray());
+        }
+        return builder.build();
+    }
+
+    private synchronized StatefulRedisConnection<String, String> connect(RedisURI redisUri) {
+        if (client == null) {
+            client = RedisClient.create();
+        }
+        StatefulRedisConnection<String, String> opened = client.connect(StringCodec.UTF8, redisUri);
+        log.info("[{}] Shared Redis connection opened to {}:{}", instanceName, redisUri.getHost(), redisUri.getPort());
+        return opened;
+    }
+
+    private synchronized StatefulRedisConnection<String, String> connection() {
+        if (connection == null || !connection.isOpen()) {
+            connection = connector.get();
+        }
+        return connection;
+    }
+
+    public CompletableFuture<Optional<String>> getValueAsync(String key) {
+        try {
+            return connection().async().get(key)
+                    .toCompletableFuture()
+                    .thenApply(value -> Optional.ofNullable(value).filter(s -> !s.isEmpty()));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Values in key order, {@code null} for missing keys, as {@code MGET} returns them.
+     */
+    public CompletableFuture<List<String>> multiGetAsync(List<String> keys) {
+        try {
+            return connection().async().mget(keys.toArray(new String[0]))
+                    .toCompletableFuture()
+                    .thenApply(values -> values.stream()
+                            .map(kv -> kv.hasValue() ? kv.getValue() : null)
+                            .collect(Collectors.toList()));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    public CompletableFuture<Long> strlenAsync(String key) {
+        try {
+            return connection().async().strlen(key).toCompletableFuture();
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * {@code MEMORY USAGE} of a key; completes with {@code null} if the key does not exist.
+     */
+    public CompletableFuture<Long> memoryUsageAsync(String key) {
+        try {
+            return connection().async().memoryUsage(key).toCompletableFuture();
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Runs a script by digest and falls back to sending its body once if the server's
+     * script cache does not hold it.
+     */
+    public CompletableFuture<List<Object>> evalAsync(String sha1, String script, String key, String... args) {
+        String[] keys = {key};
+        try {
+            CompletableFuture<List<Object>> bySha = connection().async()
+                    .<List<Object>>evalsha(sha1, ScriptOutputType.MULTI, keys, args)
+                    .toCompletableFuture();
+            return bySha.handle((reply, error) -> {
+                if (error == null) {
+                    return CompletableFuture.completedFuture(reply);
+                }
+                if (unwrap(error) instanceof RedisNoScriptException) {
+                    return connection().async()
+                            .<List<Object>>eval(script, ScriptOutputType.MULTI, keys, args)
+                            .toCompletableFuture();
+                }
+                return CompletableFuture.<List<Object>>failedFuture(unwrap(error));
+            }).thenCompose(f -> f);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Blocks the caller until the command completes. Only the caller waits: the shared
+     * connection keeps serving other commands meanwhile.
+     */
+    public <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get(commandTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RedisClientException(String.format("[%s] Interrupted while waiting for Redis", instanceName));
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new RedisClientException(String.format("[%s] Redis command timed out after %d ms",
+                    instanceName, commandTimeout.toMillis()));
+        } catch (ExecutionException e) {
+            Throwable cause = unwrap(e);
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new CompletionException(cause);
+        }
+    }
+
+    public <T> CompletableFuture<T> getWithRetryAsync(String key, TypeReference<T> valueTypeRef) {
+        return getWithCheckAsync(key, valueTypeRef, null);
+    }
+
+    public <T> CompletableFuture<T> getWithCheckAsync(String key,
+                                                      TypeReference<T> valueTypeRef,
+                                                      BiFunction<T, String, CheckResult> checkFunc) {
+        if (key == null) {
+            return CompletableFuture.failedFuture(new RedisClientException(
+                    String.format("[%s] Cannot check value: key is null.", instanceName)));
+        }
+        JavaType javaType = retryHelper.constructType(valueTypeRef.getType());
+        RedisWaitStrategy waitStrategy = retryHelper.getWaitStrategy(instanceName);
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + TimeUnit.MILLISECONDS.toNanos(waitStrategy.getTimeoutMs());
+        CompletableFuture<T> result = new CompletableFuture<>();
+        attempt(key, javaType, checkFunc, waitStrategy, 1, startedAt, deadline, result);
+        return result;
+    }
+
+    private <T> void attempt(String key,
+                             JavaType javaType,
+                             BiFunction<T, String, CheckResult> checkFunc,
+                             RedisWaitStrategy waitStrategy,
+                             int attemptNum,
+                             long startedAt,
+                             long deadline,
+                             CompletableFuture<T> result) {
+        if (result.isDone()) {
+            return;
+        }
+        getValueAsync(key).whenCompleteAsync((rawValueOpt, error) -> {
+            String lastErrorMsg;
+            if (error != null) {
+                lastErrorMsg = "Redis error: " + unwrap(error).getMessage();
+            } else if (rawValueOpt.isEmpty()) {
+                lastErrorMsg = "Key not found or value is empty";
+            } else {
+                String rawValue = rawValueOpt.get();
+                try {
+                    T value = retryHelper.deserializeValue(rawValue, javaType);
+                    CheckResult checkResult = checkFunc == null
+                            ? new CheckResult(true, "Check not required")
+                            : checkFunc.apply(value, rawValue);
+                    if (checkResult.isSuccess()) {
+                        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+                        waitStrategy.recordSuccess(elapsedMs);
+                        log.info("[{}] Async value for key '{}' found after {} attempts in {} ms",
+                                instanceName, key, attemptNum, elapsedMs);
+                        result.complete(value);
+                        return;
+                    }
+                    lastErrorMsg = "Check failed: " + checkResult.getMessage();
+                } catch (JsonProcessingException e) {
+                    lastErrorMsg = "Failed to deserialize JSON: " + e.getOriginalMessage();
+                } catch (Exception e) {
+                    result.completeExceptionally(e);
+                    return;
+                }
+            }
+
+            long now = System.nanoTime();
+            long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - now);
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(now - startedAt);
+            if (remainingMs <= 0) {
+                log.error("[{}] Async wait for key '{}' failed after {} attempts in {} ms. Last error: {}",
+                        instanceName, key, attemptNum, elapsedMs, lastErrorMsg);
+                result.completeExceptionally(new RedisClientException(String.format(
+                        "[%s] Failed to get expected value for key '%s' after %d attempts: %s",
+                        instanceName, key, attemptNum, lastErrorMsg)));
+                return;
+            }
+            log.debug("[{}] Async attempt {} for key '{}': {}", instanceName, attemptNum, key, lastErrorMsg);
+            long delayMs = Math.min(waitStrategy.nextDelayMs(attemptNum, elapsedMs), remainingMs);
+            scheduler.schedule(
+                    () -> attempt(key, javaType, checkFunc, waitStrategy, attemptNum + 1, startedAt, deadline, result),
+                    delayMs, TimeUnit.MILLISECONDS);
+        }, scheduler);
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    @Override
+    public synchronized void close() {
+        scheduler.shutdownNow();
+        if (connection != null) {
+            connection.close();
+            connection = null;
+        }
+        if (client != null) {
+            client.shutdown();
+            client = null;
+        }
+    }
+}
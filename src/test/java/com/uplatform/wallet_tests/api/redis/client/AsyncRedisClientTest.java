@@ -0,0 +1,115 @@
+package com.uplatform.wallet_tests.api.redis.client;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.uplatform.wallet_tests.api.attachment.AllureAttachmentService;
+import com.uplatform.wallet_tests.api.redis.model.WalletFullData;
+import com.uplatform.wallet_tests.config.EnvironmentConfig;
+import com.uplatform.wallet_tests.config.EnvironmentConfigurationProvider;
+import com.uplatform.wallet_tests.config.RedisAggregateConfig;
+import com.uplatform.wallet_tests.config.RedisConfig;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.RedisNoScriptException;
+import io.lettuce.core.ScriptOutputType;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@Tag("Unit")
+@SuppressWarnings("unchecked")
+class AsyncRedisClientTest {
+
+    private static final String KEY = "wallet:abc";
+
+    private RedisAsyncCommands<String, String> commands;
+    private RedisRetryHelper retryHelper;
+    private AsyncRedisClient client;
+
+    private static <T> RedisFuture<T> reply(CompletableFuture<T> value) {
+        RedisFuture<T> future = mock(RedisFuture.class);
+        when(future.toCompletableFuture()).thenReturn(value);
+        return future;
+    }
+
+    @BeforeEach
+    void setUp() {
+        RedisAggregateConfig aggregate = new RedisAggregateConfig();
+        aggregate.setRetryAttempts(20);
+        aggregate.setRetryDelayMs(20);
+        RedisConfig redis = new RedisConfig();
+        redis.setAggregate(aggregate);
+        EnvironmentConfig environment = new EnvironmentConfig();
+        environment.setRedis(redis);
+        EnvironmentConfigurationProvider configProvider = mock(EnvironmentConfigurationProvider.class);
+        when(configProvider.getEnvironmentConfig()).thenReturn(environment);
+        retryHelper = new RedisRetryHelper(new ObjectMapper(), mock(AllureAttachmentService.class), configProvider);
+
+        commands = mock(RedisAsyncCommands.class);
+        StatefulRedisConnection<String, String> connection = mock(StatefulRedisConnection.class);
+        when(connection.isOpen()).thenReturn(true);
+        when(connection.async()).thenReturn(commands);
+        client = new AsyncRedisClient("WALLET", retryHelper, () -> connection, Duration.ofSeconds(2));
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+    }
+
+    @Test
+    void checkIsRetriedOnTheSchedulerUntilItPasses() throws Exception {
+        CompletableFuture<String> pendingReply = new CompletableFuture<>();
+        RedisFuture<String> behind = reply(pendingReply);
+        RedisFuture<String> reached = reply(CompletableFuture.completedFuture("{\"LastSeqNumber\":2}"));
+        when(commands.get(KEY)).thenReturn(behind, reached);
+
+        CompletableFuture<WalletFullData> result = client.getWithCheckAsync(KEY, new TypeReference<WalletFullData>() {},
+                (data, raw) -> new CheckResult(data.getLastSeqNumber() >= 2, "seq"));
+
+        assertFalse(result.isDone(), "the caller is not held while the first reply is pending");
+        pendingReply.complete("{\"LastSeqNumber\":1}");
+        assertEquals(2, result.get(2, TimeUnit.SECONDS).getLastSeqNumber());
+        verify(commands, times(2)).get(KEY);
+    }
+
+    @Test
+    void scriptIsResentOnceWhenTheDigestIsNotCached() {
+        RedisFuture<List<Object>> missing = reply(CompletableFuture.failedFuture(new RedisNoScriptException("NOSCRIPT")));
+        RedisFuture<List<Object>> evaluated = reply(CompletableFuture.completedFuture(List.of(2L)));
+        when(commands.<List<Object>>evalsha(eq("sha"), eq(ScriptOutputType.MULTI), any(String[].class), any(String[].class)))
+                .thenReturn(missing);
+        when(commands.<List<Object>>eval(eq("body"), eq(ScriptOutputType.MULTI), any(String[].class), any(String[].class)))
+                .thenReturn(evaluated);
+
+        assertEquals(List.of(2L), client.await(client.evalAsync("sha", "body", KEY, "2")));
+    }
+
+    @Test
+    void walletReadsUseTheSharedConnectionInsteadOfThePool() {
+        RedisTemplate<String, String> template = mock(RedisTemplate.class);
+        RedisFuture<List<Object>> seqReached = reply(CompletableFuture.completedFuture(
+                List.of(2L, "{\"LastSeqNumber\":2}")));
+        when(commands.<List<Object>>evalsha(anyString(), eq(ScriptOutputType.MULTI), any(String[].class), any(String[].class)))
+                .thenReturn(seqReached);
+        WalletRedisClient walletClient = new WalletRedisClient(template, retryHelper,
+                mock(AllureAttachmentService.class), null, null, client);
+
+        assertEquals(2, walletClient.getWalletDataWithSeqCheck(KEY, 2).getLastSeqNumber());
+        verify(template, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+        verify(template, never()).opsForValue();
+    }
+}
@@ -0,0 +1,42 @@
+package com.uplatform.wallet_tests.api.redis.client;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Doubles the delay after every read up to {@code maxDelayMs}, using equal jitter so that
+ * parallel tests waiting on the same projection do not retry in lockstep.
+ */
+class ExponentialJitterWaitStrategy implements RedisWaitStrategy {
+
+    private final long timeoutMs;
+    private final long initialDelayMs;
+    private final long maxDelayMs;
+
+    ExponentialJitterWaitStrategy(long timeoutMs, long initialDelayMs, long maxDelayMs) {
+        this.timeoutMs = timeoutMs;
+        this.initialDelayMs = initialDelayMs;
+        this.maxDelayMs = maxDelayMs;
+    }
+
+    @Override
+    public long getTimeoutMs() {
+        return timeoutMs;
+    }
+
+    @Override
+    public long nextDelayMs(int attempt, long elapsedMs) {
+        return jittered(initialDelayMs, maxDelayMs, attempt);
+    }
+
+    static long jittered(long initialDelayMs, long maxDelayMs, int attempt) {
+        int shift = Math.min(Math.max(attempt - 1, 0), 20);
+        long ceiling = Math.min(maxDelayMs, initialDelayMs << shift);
+        long half = ceiling / 2;
+        return half + ThreadLocalRandom.current().nextLong(ceiling - half + 1);
+    }
+
+    @Override
+    public String describe() {
+        return String.format("EXPONENTIAL_JITTER(timeout=%dms, initial=%dms, max=%dms)", timeoutMs, initialDelayMs, maxDelayMs);
+    }
+}
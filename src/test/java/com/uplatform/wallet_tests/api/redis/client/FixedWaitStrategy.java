@@ -0,0 +1,27 @@
+package com.uplatform.wallet_tests.api.redis.client;
+
+class FixedWaitStrategy implements RedisWaitStrategy {
+
+    private final long timeoutMs;
+    private final long delayMs;
+
+    FixedWaitStrategy(long timeoutMs, long delayMs) {
+        this.timeoutMs = timeoutMs;
+        this.delayMs = delayMs;
+    }
+
+    @Override
+    public long getTimeoutMs() {
+        return timeoutMs;
+    }
+
+    @Override
+    public long nextDelayMs(int attempt, long elapsedMs) {
+        return delayMs;
+    }
+
+    @Override
+    public String describe() {
+        return String.format("FIXED(timeout=%dms, delay=%dms)", timeoutMs, delayMs);
+    }
+}
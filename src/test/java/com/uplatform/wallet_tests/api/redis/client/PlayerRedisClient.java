@@ -10,6 +10,9 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.util.CollectionUtils;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -18,10 +21,46 @@ import java.util.function.BiFunction;
 @Slf4j
 public class PlayerRedisClient extends AbstractRedisClient {
 
+    private final RedisTrackingCache<Map<String, WalletData>> walletsCache;
+
     public PlayerRedisClient(@Qualifier("playerRedisTemplate") RedisTemplate<String, String> redisTemplate,
                              RedisRetryHelper retryHelper,
                              AllureAttachmentService attachmentService) {
-        super("PLAYER", redisTemplate, retryHelper, attachmentService);
+        this(redisTemplate, retryHelper, attachmentService, null, null);
+    }
+
+    public PlayerRedisClient(@Qualifier("playerRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                             RedisRetryHelper retryHelper,
+                             AllureAttachmentService attachmentService,
+                             RedisKeyspaceNotifier keyspaceNotifier) {
+        this(redisTemplate, retryHelper, attachmentService, keyspaceNotifier, null);
+    }
+
+    public PlayerRedisClient(@Qualifier("playerRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                             RedisRetryHelper retryHelper,
+                             AllureAttachmentService attachmentService,
+                             RedisKeyspaceNotifier keyspaceNotifier,
+                             RedisTrackingCache<Map<String, WalletData>> walletsCache) {
+        this(redisTemplate, retryHelper, attachmentService, keyspaceNotifier, walletsCache, null);
+    }
+
+    public PlayerRedisClient(@Qualifier("playerRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                             RedisRetryHelper retryHelper,
+                             AllureAttachmentService attachmentService,
+                             RedisKeyspaceNotifier keyspaceNotifier,
+                             RedisTrackingCache<Map<String, WalletData>> walletsCache,
+                             AsyncRedisClient asyncClient) {
+        super("PLAYER", redisTemplate, retryHelper, attachmentService, keyspaceNotifier, asyncClient);
+        this.walletsCache = walletsCache;
+    }
+
+    /**
+     * Copier for the client-side cache: an unmodifiable map of fresh wallet instances.
+     */
+    public static Map<String, WalletData> copyWallets(Map<String, WalletData> wallets) {
+        Map<String, WalletData> copy = new LinkedHashMap<>();
+        wallets.forEach((walletId, wallet) -> copy.put(walletId, wallet == null ? null : wallet.copy()));
+        return Collections.unmodifiableMap(copy);
     }
 
     private boolean matchesCriteria(WalletData wallet, WalletFilterCriteria criteria) {
@@ -33,6 +72,20 @@ public class PlayerRedisClient extends AbstractRedisClient {
                 && criteria.getStatus().map(s -> Objects.equals(s, wallet.getStatus())).orElse(true);
     }
 
+    private Optional<WalletData> findCachedWallet(String playerId, WalletFilterCriteria criteria) {
+        if (walletsCache == null || !walletsCache.isActive()) {
+            return Optional.empty();
+        }
+        return walletsCache.get(playerId)
+                .flatMap(walletsMap -> walletsMap.values().stream()
+                        .filter(wallet -> matchesCriteria(wallet, criteria))
+                        .findFirst());
+    }
+
+    public String describeCacheMetrics() {
+        return walletsCache == null ? "disabled" : walletsCache.describeMetrics();
+    }
+
     public WalletData getPlayerWalletByCriteria(String playerId, WalletFilterCriteria criteria) {
         if (playerId == null) { throw new RedisClientException("[PLAYER] Cannot get wallet: playerId is null."); }
         if (criteria == null) { throw new RedisClientException("[PLAYER] Cannot get wallet: criteria is null."); }
@@ -40,6 +93,20 @@ public class PlayerRedisClient extends AbstractRedisClient {
         TypeReference<Map<String, WalletData>> mapTypeRef = new TypeReference<>() {};
         String criteriaDesc = describeCriteria(criteria);
 
+        Optional<WalletData> cachedWallet = findCachedWallet(playerId, criteria);
+        if (cachedWallet.isPresent()) {
+            WalletData wallet = cachedWallet.get();
+            log.info("<<< Found wallet {} matching criteria {} for player {} (client-side cache) >>>", wallet.getWalletUUID(), criteriaDesc, playerId);
+            attachmentService.attachText("Found Player Wallet (cached)", retryHelper.createAttachmentContent(
+                    instanceName,
+                    playerId + " [Criteria: " + criteriaDesc + "]",
+                    wallet,
+                    null,
+                    "Wallet found matching criteria in client-side cache"
+            ));
+            return wallet;
+        }
+
         BiFunction<Map<String, WalletData>, String, CheckResult> checkMapAndCriteria = (walletsMap, rawJson) -> {
             if (CollectionUtils.isEmpty(walletsMap)) {
                 return new CheckResult(false, "Wallets map is null or empty");
@@ -72,4 +139,30 @@ public class PlayerRedisClient extends AbstractRedisClient {
         ));
         return wallet;
     }
+
+    public Map<String, WalletData> getPlayerWalletsByCriteria(Collection<String> playerIds, WalletFilterCriteria criteria) {
+        if (playerIds == null) { throw new RedisClientException("[PLAYER] Cannot get wallets: playerIds is null."); }
+        if (criteria == null) { throw new RedisClientException("[PLAYER] Cannot get wallets: criteria is null."); }
+
+        String criteriaDesc = describeCriteria(criteria);
+        BiFunction<Map<String, WalletData>, String, CheckResult> checkMapAndCriteria = (walletsMap, rawJson) -> {
+            boolean matchFound = !CollectionUtils.isEmpty(walletsMap)
+                    && walletsMap.values().stream().anyMatch(wallet -> matchesCriteria(wallet, criteria));
+            return new CheckResult(matchFound, matchFound
+                    ? "Map contains matching wallet for criteria: " + criteriaDesc
+                    : "No wallet matches criteria: " + criteriaDesc);
+        };
+        Map<String, BiFunction<Map<String, WalletData>, String, CheckResult>> checksByKey = new LinkedHashMap<>();
+        playerIds.forEach(playerId -> checksByKey.put(playerId, checkMapAndCriteria));
+
+        Map<String, Map<String, WalletData>> walletsByPlayer = getAllWithCheck(checksByKey, new TypeReference<Map<String, WalletData>>() {});
+
+        Map<String, WalletData> result = new LinkedHashMap<>();
+        walletsByPlayer.forEach((playerId, walletsMap) -> walletsMap.values().stream()
+                .filter(wallet -> matchesCriteria(wallet, criteria))
+                .findFirst()
+                .ifPresent(wallet -> result.put(playerId, wallet)));
+        log.info("<<< Found {} wallets matching criteria {} for {} players >>>", result.size(), criteriaDesc, playerIds.size());
+        return result;
+    }
 }
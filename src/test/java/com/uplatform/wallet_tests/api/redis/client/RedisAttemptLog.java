@@ -0,0 +1,39 @@
+package com.uplatform.wallet_tests.api.redis.client;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compact in-memory history of the reads made during one wait, rendered into a single
+ * attachment when the wait finishes.
+ */
+class RedisAttemptLog {
+
+    private static final int MAX_ENTRIES = 200;
+
+    private final long startedAt;
+    private final StringBuilder entries = new StringBuilder();
+    private int recorded;
+    private int omitted;
+
+    RedisAttemptLog(long startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    void record(int attempt, String status) {
+        if (recorded >= MAX_ENTRIES) {
+            omitted++;
+            return;
+        }
+        recorded++;
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        entries.append(String.format("#%-3d +%5d ms  %s%n", attempt, elapsedMs, status));
+    }
+
+    String render() {
+        StringBuilder sb = new StringBuilder("Attempts:\n").append(entries);
+        if (omitted > 0) {
+            sb.append("... ").append(omitted).append(" more attempts not shown\n");
+        }
+        return sb.toString();
+    }
+}
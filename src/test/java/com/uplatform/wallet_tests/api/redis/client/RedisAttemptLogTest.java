@@ -0,0 +1,65 @@
+package com.uplatform.wallet_tests.api.redis.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.uplatform.wallet_tests.api.attachment.AllureAttachmentService;
+import com.uplatform.wallet_tests.config.EnvironmentConfig;
+import com.uplatform.wallet_tests.config.EnvironmentConfigurationProvider;
+import com.uplatform.wallet_tests.config.RedisAggregateConfig;
+import com.uplatform.wallet_tests.config.RedisConfig;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@Tag("Unit")
+class RedisAttemptLogTest {
+
+    @Test
+    void capsRenderedEntries() {
+        RedisAttemptLog attemptLog = new RedisAttemptLog(System.nanoTime());
+        for (int attempt = 1; attempt <= 205; attempt++) {
+            attemptLog.record(attempt, "Sequence mismatch");
+        }
+
+        String rendered = attemptLog.render();
+
+        assertTrue(rendered.startsWith("Attempts:\n"));
+        assertTrue(rendered.contains("#200"));
+        assertFalse(rendered.contains("#201"));
+        assertTrue(rendered.endsWith("... 5 more attempts not shown\n"), rendered);
+    }
+
+    @Test
+    void waitProducesSingleAttachmentWithEveryAttempt() {
+        RedisAggregateConfig aggregate = new RedisAggregateConfig();
+        aggregate.setRetryAttempts(50);
+        aggregate.setRetryDelayMs(5);
+        RedisConfig redis = new RedisConfig();
+        redis.setAggregate(aggregate);
+        EnvironmentConfig environment = new EnvironmentConfig();
+        environment.setRedis(redis);
+        EnvironmentConfigurationProvider configProvider = mock(EnvironmentConfigurationProvider.class);
+        when(configProvider.getEnvironmentConfig()).thenReturn(environment);
+        AllureAttachmentService attachmentService = mock(AllureAttachmentService.class);
+        RedisRetryHelper helper = new RedisRetryHelper(new ObjectMapper(), attachmentService, configProvider);
+
+        AtomicInteger reads = new AtomicInteger();
+        Optional<Map<?, ?>> result = helper.waitForValue("WALLET", "wallet:abc", Map.class, Map.class,
+                (instance, key) -> reads.incrementAndGet() < 3 ? Optional.empty() : Optional.of("{\"seq\":2}"),
+                (Map<?, ?> value, String raw) -> new CheckResult(true, "Sequence match"));
+
+        assertTrue(result.isPresent());
+        ArgumentCaptor<String> content = ArgumentCaptor.forClass(String.class);
+        verify(attachmentService, times(1)).attachText(anyString(), content.capture());
+        assertTrue(content.getValue().contains("Key not found or empty"), content.getValue());
+        assertTrue(content.getValue().contains("#3"), content.getValue());
+        assertTrue(content.getValue().contains("Sequence match"), content.getValue());
+    }
+}
@@ -0,0 +1,111 @@
+package com.uplatform.wallet_tests.api.redis.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.Properties;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+public class RedisKeyspaceNotifier implements AutoCloseable {
+
+    private static final String NOTIFY_CONFIG_KEY = "notify-keyspace-events";
+
+    private final String instanceName;
+    private final String channelPrefix;
+    private final RedisMessageListenerContainer container;
+    private final boolean active;
+
+    public RedisKeyspaceNotifier(String instanceName,
+                                 RedisConnectionFactory connectionFactory,
+                                 int database,
+                                 boolean enabled) {
+        this.instanceName = instanceName;
+        this.channelPrefix = "__keyspace@" + database + "__:";
+        this.active = enabled && checkNotificationsEnabled(connectionFactory);
+
+        if (active) {
+            this.container = new RedisMessageListenerContainer();
+            this.container.setConnectionFactory(connectionFactory);
+            this.container.afterPropertiesSet();
+            this.container.start();
+            log.info("[{}] Keyspace notifications enabled, listening on '{}*'", instanceName, channelPrefix);
+        } else {
+            this.container = null;
+            log.info("[{}] Keyspace notifications unavailable, Redis waits will poll", instanceName);
+        }
+    }
+
+    public boolean isActive() {
+        return active && container != null && container.isRunning();
+    }
+
+    public KeyWatch watch(String key) {
+        KeyWatch watch = new KeyWatch(new ChannelTopic(channelPrefix + key));
+        container.addMessageListener(watch, watch.topic);
+        return watch;
+    }
+
+    @Override
+    public void close() {
+        if (container != null) {
+            try {
+                container.stop();
+                container.destroy();
+            } catch (Exception e) {
+                log.warn("[{}] Failed to stop keyspace notification listener: {}", instanceName, e.getMessage());
+            }
+        }
+    }
+
+    private boolean checkNotificationsEnabled(RedisConnectionFactory connectionFactory) {
+        try (RedisConnection conn = connectionFactory.getConnection()) {
+            Properties config = conn.serverCommands().getConfig(NOTIFY_CONFIG_KEY);
+            String flags = config != null ? config.getProperty(NOTIFY_CONFIG_KEY, "") : "";
+            boolean enabled = flags.contains("K") && (flags.contains("A") || flags.contains("$"));
+            if (!enabled) {
+                log.warn("[{}] Server {}='{}' does not publish keyspace events for string keys", instanceName, NOTIFY_CONFIG_KEY, flags);
+            }
+            return enabled;
+        } catch (Exception e) {
+            log.warn("[{}] Could not read {} from server: {}", instanceName, NOTIFY_CONFIG_KEY, e.getMessage());
+            return false;
+        }
+    }
+
+    public class KeyWatch implements MessageListener, AutoCloseable {
+
+        private final ChannelTopic topic;
+        private final Semaphore changes = new Semaphore(0);
+
+        private KeyWatch(ChannelTopic topic) {
+            this.topic = topic;
+        }
+
+        @Override
+        public void onMessage(Message message, byte[] pattern) {
+            changes.release();
+        }
+
+        public boolean awaitChange(long timeoutMs) throws InterruptedException {
+            boolean changed = changes.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS);
+            changes.drainPermits();
+            return changed;
+        }
+
+        @Override
+        public void close() {
+            try {
+                container.removeMessageListener(this, topic);
+            } catch (Exception e) {
+                log.warn("[{}] Failed to unsubscribe from '{}': {}", instanceName, topic.getTopic(), e.getMessage());
+            }
+        }
+    }
+}
@@ -9,9 +9,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.StringJoiner;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import com.uplatform.wallet_tests.api.attachment.AllureAttachmentService;
 import com.uplatform.wallet_tests.api.redis.client.CheckResult;
@@ -24,6 +29,9 @@ public class RedisRetryHelper {
     private final AllureAttachmentService attachmentService;
     private final int retryAttempts;
     private final long retryDelayMs;
+    private final boolean verboseAttachments;
+    private final RedisWaitStrategy defaultWaitStrategy;
+    private final Map<String, RedisWaitStrategy> waitStrategies = new HashMap<>();
 
     public RedisRetryHelper(ObjectMapper objectMapper,
                            AllureAttachmentService attachmentService,
@@ -40,8 +48,32 @@ public class RedisRetryHelper {
 
         this.retryAttempts = aggregateConfig.getRetryAttempts();
         this.retryDelayMs = aggregateConfig.getRetryDelayMs();
+        this.verboseAttachments = aggregateConfig.isVerboseAttachments();
+        this.defaultWaitStrategy = RedisWaitStrategy.fromConfig(null, retryAttempts, retryDelayMs);
+        if (aggregateConfig.getWaits() != null) {
+            aggregateConfig.getWaits().forEach((instance, waitConfig) -> waitStrategies.put(
+                    instance.toUpperCase(Locale.ROOT),
+                    RedisWaitStrategy.fromConfig(waitConfig, retryAttempts, retryDelayMs)));
+        }
+
+        log.info("RedisRetryHelper initialized with default wait {} and per-instance waits {}",
+                defaultWaitStrategy.describe(), describeWaitStrategies());
+    }
+
+    public RedisWaitStrategy getWaitStrategy(String instance) {
+        return instance == null
+                ? defaultWaitStrategy
+                : waitStrategies.getOrDefault(instance.toUpperCase(Locale.ROOT), defaultWaitStrategy);
+    }
+
+    public long getTimeoutMs(String instance) {
+        return getWaitStrategy(instance).getTimeoutMs();
+    }
 
-        log.info("RedisRetryHelper initialized with {} attempts and {}ms delay", retryAttempts, retryDelayMs);
+    private String describeWaitStrategies() {
+        StringJoiner joiner = new StringJoiner(", ", "{", "}");
+        waitStrategies.forEach((instance, strategy) -> joiner.add(instance + "=" + strategy.describe()));
+        return joiner.toString();
     }
 
     public int getRetryAttempts() {
@@ -52,11 +84,14 @@ public class RedisRetryHelper {
         return retryDelayMs;
     }
 
+    public JavaType constructType(Type valueType) {
+        return objectMapper.constructType(valueType);
+    }
+
     public <T> T deserializeValue(String rawValue, JavaType javaType) throws JsonProcessingException {
         return objectMapper.readValue(rawValue, javaType);
     }
 
-    @SuppressWarnings("unchecked")
     public <T> Optional<T> waitForValue(
             String instance,
             String key,
@@ -64,6 +99,34 @@ public class RedisRetryHelper {
             Object valueTypeInfo,
             BiFunction<String, String, Optional<String>> valueGetter,
             BiFunction<T, String, CheckResult> checkFunc) {
+        return waitForValue(instance, key, valueType, valueTypeInfo, valueGetter, checkFunc, null);
+    }
+
+    public <T> Optional<T> waitForValue(
+            String instance,
+            String key,
+            Type valueType,
+            Object valueTypeInfo,
+            BiFunction<String, String, Optional<String>> valueGetter,
+            BiFunction<T, String, CheckResult> checkFunc,
+            RedisKeyspaceNotifier notifier) {
+        return waitForValue(instance, key, valueType, valueTypeInfo, valueGetter, null, checkFunc, notifier);
+    }
+
+    /**
+     * @param rawPreCheck optional check on the raw value, evaluated before deserialization;
+     *                    a failed pre-check skips binding for that attempt entirely.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Optional<T> waitForValue(
+            String instance,
+            String key,
+            Type valueType,
+            Object valueTypeInfo,
+            BiFunction<String, String, Optional<String>> valueGetter,
+            Function<String, CheckResult> rawPreCheck,
+            BiFunction<T, String, CheckResult> checkFunc,
+            RedisKeyspaceNotifier notifier) {
 
         String typeName = (valueTypeInfo instanceof Class<?> ? ((Class<?>) valueTypeInfo).getSimpleName() : valueTypeInfo.toString())
                 .replace("com.fasterxml.jackson.core.type.TypeReference<", "")
@@ -76,83 +139,130 @@ public class RedisRetryHelper {
         String lastRawValue = null;
         T lastDeserializedValue = null;
         boolean interrupted = false;
+        int attemptsMade = 0;
 
-        for (int i = 0; i < retryAttempts; i++) {
-            final int attemptNum = i + 1;
-            if (i > 0) {
-                try {
-                    TimeUnit.MILLISECONDS.sleep(retryDelayMs);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    log.warn("[{}] Wait interrupted before attempt {} for key '{}'", instance, attemptNum, key);
-                    lastErrorMsg = "Thread interrupted during wait";
-                    interrupted = true;
-                    break;
-                }
-            }
+        RedisKeyspaceNotifier.KeyWatch watch = notifier != null && notifier.isActive() ? notifier.watch(key) : null;
+        RedisWaitStrategy waitStrategy = getWaitStrategy(instance);
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + TimeUnit.MILLISECONDS.toNanos(waitStrategy.getTimeoutMs());
+        RedisAttemptLog attemptLog = new RedisAttemptLog(startedAt);
+        String successTitle = null;
+        String successStatus = null;
 
-            try {
-                Optional<String> rawValueOpt = valueGetter.apply(instance, key);
-                if (rawValueOpt.isEmpty()) {
-                    lastErrorMsg = "Key not found or value is empty";
-                    log.warn("[{}] Attempt {}: Key '{}' not found or empty.", instance, attemptNum, key);
-                    attachmentService.attachText(String.format("Attempt %d: Status", attemptNum), "Key not found or empty");
-                } else {
-                    String rawValue = rawValueOpt.get();
-                    lastRawValue = rawValue;
+        try {
+            for (int i = 0; ; i++) {
+                final int attemptNum = i + 1;
+                if (i > 0) {
+                    long now = System.nanoTime();
+                    long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - now);
+                    if (remainingMs <= 0) {
+                        break;
+                    }
+                    long delayMs = Math.min(waitStrategy.nextDelayMs(i, TimeUnit.NANOSECONDS.toMillis(now - startedAt)), remainingMs);
                     try {
-                        T deserializedValue = deserializeValue(rawValue, javaType);
-                        lastDeserializedValue = deserializedValue;
+                        if (watch != null) {
+                            watch.awaitChange(delayMs);
+                        } else {
+                            TimeUnit.MILLISECONDS.sleep(delayMs);
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        log.warn("[{}] Wait interrupted before attempt {} for key '{}'", instance, attemptNum, key);
+                        attemptLog.record(attemptNum, "Interrupted during wait");
+                        lastErrorMsg = "Thread interrupted during wait";
+                        interrupted = true;
+                        break;
+                    }
+                }
+                attemptsMade = attemptNum;
 
-                        if (checkFunc != null) {
-                            CheckResult checkResult = runCheck(checkFunc, deserializedValue, rawValue);
-                            if (!checkResult.isSuccess()) {
-                                log.warn("[{}] Attempt {}: Check result: success=false, message='{}'", instance, attemptNum, checkResult.getMessage());
+                try {
+                    Optional<String> rawValueOpt = valueGetter.apply(instance, key);
+                    if (rawValueOpt.isEmpty()) {
+                        lastErrorMsg = "Key not found or value is empty";
+                        log.warn("[{}] Attempt {}: Key '{}' not found or empty.", instance, attemptNum, key);
+                        attemptLog.record(attemptNum, "Key not found or empty");
+                    } else {
+                        String rawValue = rawValueOpt.get();
+                        lastRawValue = rawValue;
+                        if (rawPreCheck != null) {
+                            CheckResult preCheckResult = rawPreCheck.apply(rawValue);
+                            if (!preCheckResult.isSuccess()) {
+                                lastErrorMsg = "Check failed: " + preCheckResult.getMessage();
+                                lastDeserializedValue = null;
+                                log.warn("[{}] Attempt {}: Pre-check result: success=false, message='{}'", instance, attemptNum, preCheckResult.getMessage());
+                                attemptLog.record(attemptNum, preCheckResult.getMessage());
+                                continue;
                             }
-                            attachmentService.attachText(String.format("Attempt %d: Check Result", attemptNum), checkResult.getMessage());
+                        }
+                        try {
+                            T deserializedValue = deserializeValue(rawValue, javaType);
+                            lastDeserializedValue = deserializedValue;
+
+                            if (checkFunc != null) {
+                                CheckResult checkResult = runCheck(checkFunc, deserializedValue, rawValue);
+                                if (!checkResult.isSuccess()) {
+                                    log.warn("[{}] Attempt {}: Check result: success=false, message='{}'", instance, attemptNum, checkResult.getMessage());
+                                }
+                                attemptLog.record(attemptNum, checkResult.getMessage());
 
-                            if (checkResult.isSuccess()) {
+                                if (checkResult.isSuccess()) {
+                                    result = Optional.of(deserializedValue);
+                                    successTitle = "Redis Value Found & Validated (attempt " + attemptNum + ")";
+                                    successStatus = checkResult.getMessage();
+                                    break;
+                                } else {
+                                    lastErrorMsg = "Check failed: " + checkResult.getMessage();
+                                }
+                            } else {
                                 result = Optional.of(deserializedValue);
-                                attachValue("Redis Value Found & Validated (attempt " + attemptNum + ")", instance, key, deserializedValue, rawValue, checkResult.getMessage());
+                                attemptLog.record(attemptNum, "Value found, check not required");
+                                successTitle = "Redis Value Found (attempt " + attemptNum + ")";
+                                successStatus = "Check not required";
                                 break;
-                            } else {
-                                lastErrorMsg = "Check failed: " + checkResult.getMessage();
                             }
-                        } else {
-                            result = Optional.of(deserializedValue);
-                            attachValue("Redis Value Found (attempt " + attemptNum + ")", instance, key, deserializedValue, rawValue, "Check not required");
+                        } catch (JsonProcessingException e) {
+                            lastErrorMsg = "Failed to deserialize JSON: " + e.getMessage();
+                            log.error("[{}] Attempt {}: Failed to deserialize JSON to type {}. Error: {}", instance, attemptNum, typeName, e.getMessage());
+                            lastDeserializedValue = null;
+                            attemptLog.record(attemptNum, "Deserialization error: " + e.getOriginalMessage());
+                        } catch (Exception e) {
+                            lastErrorMsg = "Unexpected error during value processing: " + e.getMessage();
+                            log.error("[{}] Attempt {}: Unexpected error processing key '{}'. Error: {}", instance, attemptNum, key, e.getMessage(), e);
+                            attemptLog.record(attemptNum, "Unexpected processing error: " + e.getMessage());
+                            interrupted = true;
                             break;
                         }
-                    } catch (JsonProcessingException e) {
-                        lastErrorMsg = "Failed to deserialize JSON: " + e.getMessage();
-                        log.error("[{}] Attempt {}: Failed to deserialize JSON to type {}. Error: {}", instance, attemptNum, typeName, e.getMessage());
-                        attachmentService.attachText(String.format("Attempt %d: Deserialization Error", attemptNum), e.getMessage());
-                        attachmentService.attachText(String.format("Attempt %d: Raw Value (Failed)", attemptNum), rawValue);
-                    } catch (Exception e) {
-                        lastErrorMsg = "Unexpected error during value processing: " + e.getMessage();
-                        log.error("[{}] Attempt {}: Unexpected error processing key '{}'. Error: {}", instance, attemptNum, key, e.getMessage(), e);
-                        attachmentService.attachText(String.format("Attempt %d: Unexpected Processing Error", attemptNum), e.getMessage());
-                        interrupted = true;
-                        break;
                     }
+                } catch (Exception e) {
+                    lastErrorMsg = "Unexpected error during attempt: " + e.getMessage();
+                    log.error("[{}] Unexpected error occurred during attempt {}: {}", instance, attemptNum, e.getMessage(), e);
+                    attemptLog.record(attemptNum, "Unexpected error: " + e.getMessage());
+                    interrupted = true;
+                    break;
                 }
-            } catch (Exception e) {
-                lastErrorMsg = "Unexpected error during attempt: " + e.getMessage();
-                log.error("[{}] Unexpected error occurred during attempt {}: {}", instance, attemptNum, e.getMessage(), e);
-                attachmentService.attachText(String.format("Attempt %d: Unexpected Error", attemptNum), e.getMessage());
-                interrupted = true;
-                break;
+            }
+        } finally {
+            if (watch != null) {
+                watch.close();
             }
         }
 
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
         if (result.isPresent()) {
-            log.info("Successfully found value for key '{}' in Redis instance [{}]", key, instance);
+            waitStrategy.recordSuccess(elapsedMs);
+            log.info("Successfully found value for key '{}' in Redis instance [{}] after {} attempts in {} ms", key, instance, attemptsMade, elapsedMs);
+            String content = verboseAttachments
+                    ? createAttachmentContent(instance, key, result.get(), lastRawValue, successStatus)
+                    : createSummaryContent(instance, key, result.get(), lastRawValue, successStatus);
+            attachmentService.attachText(successTitle, content + "\n\n" + attemptLog.render());
         } else {
-            log.error("Failed to find expected value for key '{}' in Redis instance [{}] after {} attempts. Last error: {}", key, instance, retryAttempts, lastErrorMsg);
-            if (!interrupted) {
-                attachmentService.attachText("Final State (Failure)", createAttachmentContent(instance, key, lastDeserializedValue, lastRawValue,
-                        "Failure after all attempts. Last error: " + lastErrorMsg));
-            }
+            log.error("Failed to find expected value for key '{}' in Redis instance [{}] after {} attempts in {} ms. Last error: {}", key, instance, attemptsMade, elapsedMs, lastErrorMsg);
+            String status = interrupted
+                    ? "Aborted. Last error: " + lastErrorMsg
+                    : "Failure after all attempts. Last error: " + lastErrorMsg;
+            attachmentService.attachText("Final State (Failure)",
+                    createAttachmentContent(instance, key, lastDeserializedValue, lastRawValue, status) + "\n\n" + attemptLog.render());
         }
         return result;
     }
@@ -161,8 +271,12 @@ public class RedisRetryHelper {
         return checkFunc.apply(value, rawValue);
     }
 
-    private <T> void attachValue(String title, String instance, String key, T value, String rawValue, String status) {
-        attachmentService.attachText(title, createAttachmentContent(instance, key, value, rawValue, status));
+    private <T> String createSummaryContent(String instance, String key, T value, String rawValue, String statusMessage) {
+        return "Redis Instance: " + instance + "\n" +
+                "Key: " + key + "\n" +
+                "Status: " + statusMessage + "\n" +
+                "Deserialized Type: " + value.getClass().getName() + "\n" +
+                "Raw Value Size: " + (rawValue != null ? rawValue.length() : 0) + " chars";
     }
 
     public <T> String createAttachmentContent(String instance, String key, T deserializedValue, String rawValue, String statusMessage) {
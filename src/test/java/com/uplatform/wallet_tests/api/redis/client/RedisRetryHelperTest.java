@@ -0,0 +1,88 @@
+package com.uplatform.wallet_tests.api.redis.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.uplatform.wallet_tests.api.attachment.AllureAttachmentService;
+import com.uplatform.wallet_tests.config.EnvironmentConfig;
+import com.uplatform.wallet_tests.config.EnvironmentConfigurationProvider;
+import com.uplatform.wallet_tests.config.RedisAggregateConfig;
+import com.uplatform.wallet_tests.config.RedisConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@Tag("Unit")
+class RedisRetryHelperTest {
+
+    private static final String INSTANCE = "WALLET";
+    private static final String KEY = "wallet:abc";
+    private static final long RETRY_DELAY_MS = 2_000;
+
+    private RedisRetryHelper helper;
+
+    @BeforeEach
+    void setUp() {
+        RedisAggregateConfig aggregate = new RedisAggregateConfig();
+        aggregate.setRetryAttempts(5);
+        aggregate.setRetryDelayMs(RETRY_DELAY_MS);
+        RedisConfig redis = new RedisConfig();
+        redis.setAggregate(aggregate);
+        EnvironmentConfig environment = new EnvironmentConfig();
+        environment.setRedis(redis);
+        EnvironmentConfigurationProvider configProvider = mock(EnvironmentConfigurationProvider.class);
+        when(configProvider.getEnvironmentConfig()).thenReturn(environment);
+        helper = new RedisRetryHelper(new ObjectMapper(), mock(AllureAttachmentService.class), configProvider);
+    }
+
+    private static BiFunction<String, String, Optional<String>> valueOnRead(int readNumber) {
+        AtomicInteger reads = new AtomicInteger();
+        return (instance, key) -> reads.incrementAndGet() >= readNumber
+                ? Optional.of("{\"seq\":2}")
+                : Optional.of("{\"seq\":1}");
+    }
+
+    private static CheckResult seqReached(Map<?, ?> value, String raw) {
+        boolean reached = ((Number) value.get("seq")).intValue() >= 2;
+        return new CheckResult(reached, reached ? "reached" : "behind");
+    }
+
+    @Test
+    void changeEventWakesWaitBeforePollInterval() throws Exception {
+        RedisKeyspaceNotifier notifier = mock(RedisKeyspaceNotifier.class);
+        RedisKeyspaceNotifier.KeyWatch watch = mock(RedisKeyspaceNotifier.KeyWatch.class);
+        when(notifier.isActive()).thenReturn(true);
+        when(notifier.watch(KEY)).thenReturn(watch);
+        when(watch.awaitChange(anyLong())).thenReturn(true);
+
+        long startedAt = System.nanoTime();
+        Optional<Map<?, ?>> result = helper.waitForValue(INSTANCE, KEY, Map.class, Map.class,
+                valueOnRead(2), RedisRetryHelperTest::seqReached, notifier);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        assertTrue(result.isPresent());
+        assertTrue(elapsedMs < RETRY_DELAY_MS, "woken after " + elapsedMs + " ms");
+        verify(watch).awaitChange(RETRY_DELAY_MS);
+        verify(watch).close();
+    }
+
+    @Test
+    void inactiveNotifierFallsBackToPolling() {
+        RedisKeyspaceNotifier notifier = mock(RedisKeyspaceNotifier.class);
+        when(notifier.isActive()).thenReturn(false);
+
+        Optional<Map<?, ?>> result = helper.waitForValue(INSTANCE, KEY, Map.class, Map.class,
+                valueOnRead(1), RedisRetryHelperTest::seqReached, notifier);
+
+        assertTrue(result.isPresent());
+        verify(notifier, never()).watch(KEY);
+    }
+}
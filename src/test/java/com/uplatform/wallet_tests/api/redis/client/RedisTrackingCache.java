@@ -0,0 +1,250 @@
+package com.uplatform.wallet_tests.api.redis.client;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.RedisChannelHandler;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisConnectionStateListener;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.ProtocolVersion;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+
+import java.net.SocketAddress;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+
+/**
+ * Bounded local cache of Redis values kept coherent by server-assisted
+ * invalidation (CLIENT TRACKING over RESP3). Values are always read through the tracking
+ * connection so the server knows which keys to invalidate. If tracking cannot be enabled
+ * or the connection drops, the cache switches itself off and {@link #get} returns empty.
+ * Entries hold the bound value, which is bound once per load; every read hands out a copy
+ * made by the supplied copier, so callers never share mutable objects with the cache or
+ * with each other.
+ */
+@Slf4j
+public class RedisTrackingCache<T> implements AutoCloseable {
+
+    private static final Object LOADING = new Object();
+
+    private final String instanceName;
+    private final RedisRetryHelper retryHelper;
+    private final JavaType javaType;
+    private final UnaryOperator<T> copier;
+    private final Map<String, Object> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private RedisClient client;
+    private StatefulRedisConnection<String, String> connection;
+    private volatile boolean active;
+
+    public RedisTrackingCache(String instanceName,
+                              RedisProperties properties,
+                              RedisRetryHelper retryHelper,
+                              TypeReference<T> valueTypeRef,
+                              UnaryOperator<T> copier,
+                              int maxEntries,
+                              boolean enabled) {
+        this.instanceName = instanceName;
+        this.retryHelper = retryHelper;
+        this.javaType = retryHelper.constructType(valueTypeRef.getType());
+        this.copier = copier;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Object> eldest) {
+                boolean evict = size() > maxEntries;
+                if (evict) {
+                    evictions.increment();
+                }
+                return evict;
+            }
+        };
+        if (enabled) {
+            this.active = connect(properties);
+        }
+    }
+
+    RedisTrackingCache(String instanceName,
+                       RedisRetryHelper retryHelper,
+                       TypeReference<T> valueTypeRef,
+                       UnaryOperator<T> copier,
+                       int maxEntries,
+                       StatefulRedisConnection<String, String> connection) {
+        this(instanceName, null, retryHelper, valueTypeRef, copier, maxEntries, false);
+        this.connection = connection;
+        this.active = true;
+    }
+
+    private boolean connect(RedisProperties properties) {
+        RedisURI.Builder builder = RedisURI.builder()
+                .withHost(properties.getHost())
+                .withPort(properties.getPort())
+                .withDatabase(properties.getDatabase())
+                .withTimeout(properties.getTimeout() != null ? properties.getTimeout() : Duration.ofSeconds(60));
+        if (properties.getPassword() != null && !properties.getPassword().isEmpty()) {
+            builder.withPassword(properties.getPassword().toCharArray());
+        }
+        try {
+            client = RedisClient.create(builder.build());
+            client.setOptions(ClientOptions.builder()
+                    .protocolVersion(ProtocolVersion.RESP3)
+                    .autoReconnect(false)
+                    .build());
+            client.addListener(new RedisConnectionStateListener() {
+                @Override
+                public void onRedisDisconnected(RedisChannelHandler<?, ?> channel) {
+                    disable("tracking connection lost");
+                }
+
+                @Override
+                public void onRedisConnected(RedisChannelHandler<?, ?> channel, SocketAddress address) {
+                }
+            });
+            connection = client.connect(StringCodec.UTF8);
+            connection.addListener(this::onPushMessage);
+            connection.sync().clientTracking(TrackingArgs.Builder.enabled());
+            log.info("[{}] Client-side cache enabled with server-assisted invalidation", instanceName);
+            return true;
+        } catch (Exception e) {
+            log.warn("[{}] Client-side cache disabled, CLIENT TRACKING unavailable: {}", instanceName, e.getMessage());
+            shutdownClient();
+            return false;
+        }
+    }
+
+    void onPushMessage(PushMessage message) {
+        if (!"invalidate".equals(message.getType())) {
+            return;
+        }
+        List<Object> content = message.getContent(StringCodec.UTF8::decodeKey);
+        Object keys = content.size() > 1 ? content.get(1) : null;
+        synchronized (entries) {
+            if (keys instanceof List<?> keyList) {
+                for (Object key : keyList) {
+                    if (entries.remove(String.valueOf(key)) != null) {
+                        invalidations.increment();
+                    }
+                }
+            } else {
+                invalidations.add(entries.size());
+                entries.clear();
+            }
+        }
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    /**
+     * @return the cached value, loading it through the tracking connection on a miss;
+     * empty if the key does not exist, the value cannot be read, or the cache is inactive.
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<T> get(String key) {
+        if (!active || key == null) {
+            return Optional.empty();
+        }
+        T cachedValue = null;
+        synchronized (entries) {
+            Object cached = entries.get(key);
+            if (cached != null && cached != LOADING) {
+                cachedValue = (T) cached;
+            } else {
+                entries.put(key, LOADING);
+            }
+        }
+        if (cachedValue != null) {
+            hits.increment();
+            return Optional.of(copier.apply(cachedValue));
+        }
+        misses.increment();
+
+        Optional<T> value = Optional.empty();
+        try {
+            String rawValue = connection.sync().get(key);
+            if (rawValue != null && !rawValue.isEmpty()) {
+                value = bind(key, rawValue);
+            }
+        } catch (Exception e) {
+            log.warn("[{}] Client-side cache load failed for key '{}': {}", instanceName, key, e.getMessage());
+        }
+
+        synchronized (entries) {
+            // An invalidation that raced with the read removed the marker; the value must not be kept.
+            if (value.isPresent() && entries.get(key) == LOADING) {
+                entries.put(key, value.get());
+            } else if (entries.get(key) == LOADING) {
+                entries.remove(key);
+            }
+        }
+        return value.map(copier);
+    }
+
+    private Optional<T> bind(String key, String rawValue) {
+        try {
+            return Optional.ofNullable(retryHelper.deserializeValue(rawValue, javaType));
+        } catch (Exception e) {
+            log.warn("[{}] Client-side cache could not bind value of key '{}': {}", instanceName, key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void invalidate(String key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    public String describeMetrics() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return String.format("active=%s, size=%d, hits=%d, misses=%d, invalidations=%d, evictions=%d",
+                active, size, hits.sum(), misses.sum(), invalidations.sum(), evictions.sum());
+    }
+
+    private void disable(String reason) {
+        if (active) {
+            active = false;
+            log.warn("[{}] Client-side cache disabled: {}", instanceName, reason);
+        }
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    private void shutdownClient() {
+        if (connection != null) {
+            connection.close();
+            connection = null;
+        }
+        if (client != null) {
+            client.shutdown();
+            client = null;
+        }
+    }
+
+    @Override
+    public void close() {
+        log.info("[{}] Client-side cache stats: {}", instanceName, describeMetrics());
+        active = false;
+        shutdownClient();
+    }
+}
@@ -0,0 +1,116 @@
+package com.uplatform.wallet_tests.api.redis.client;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.uplatform.wallet_tests.api.attachment.AllureAttachmentService;
+import com.uplatform.wallet_tests.api.redis.model.WalletData;
+import com.uplatform.wallet_tests.config.EnvironmentConfig;
+import com.uplatform.wallet_tests.config.EnvironmentConfigurationProvider;
+import com.uplatform.wallet_tests.config.RedisAggregateConfig;
+import com.uplatform.wallet_tests.config.RedisConfig;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.api.sync.RedisCommands;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@Tag("Unit")
+@SuppressWarnings("unchecked")
+class RedisTrackingCacheTest {
+
+    private static final String PLAYER = "player-1";
+    private static final String WALLETS_V1 = "{\"w1\":{\"wallet_uuid\":\"w1\",\"currency\":\"EUR\",\"status\":1}}";
+    private static final String WALLETS_V2 = "{\"w1\":{\"wallet_uuid\":\"w1\",\"currency\":\"EUR\",\"status\":2}}";
+
+    private RedisCommands<String, String> commands;
+    private RedisRetryHelper retryHelper;
+    private RedisTrackingCache<Map<String, WalletData>> cache;
+
+    @BeforeEach
+    void setUp() {
+        RedisAggregateConfig aggregate = new RedisAggregateConfig();
+        aggregate.setRetryAttempts(1);
+        aggregate.setRetryDelayMs(1);
+        RedisConfig redis = new RedisConfig();
+        redis.setAggregate(aggregate);
+        EnvironmentConfig environment = new EnvironmentConfig();
+        environment.setRedis(redis);
+        EnvironmentConfigurationProvider configProvider = mock(EnvironmentConfigurationProvider.class);
+        when(configProvider.getEnvironmentConfig()).thenReturn(environment);
+        retryHelper = spy(new RedisRetryHelper(new ObjectMapper(), mock(AllureAttachmentService.class), configProvider));
+
+        StatefulRedisConnection<String, String> connection = mock(StatefulRedisConnection.class);
+        commands = mock(RedisCommands.class);
+        when(connection.sync()).thenReturn(commands);
+        cache = new RedisTrackingCache<>("PLAYER", retryHelper, new TypeReference<>() {},
+                PlayerRedisClient::copyWallets, 100, connection);
+    }
+
+    private static PushMessage invalidate(Object keys) {
+        PushMessage message = mock(PushMessage.class);
+        when(message.getType()).thenReturn("invalidate");
+        when(message.getContent(any())).thenReturn(Arrays.asList("invalidate", keys));
+        return message;
+    }
+
+    @Test
+    void servesHitsWithoutSharingMutableValues() {
+        when(commands.get(PLAYER)).thenReturn(WALLETS_V1);
+
+        Map<String, WalletData> first = cache.get(PLAYER).orElseThrow();
+        first.get("w1").setStatus(99);
+        assertThrows(UnsupportedOperationException.class, first::clear);
+        Map<String, WalletData> second = cache.get(PLAYER).orElseThrow();
+
+        assertEquals(1, second.get("w1").getStatus());
+        assertNotSame(first.get("w1"), second.get("w1"));
+        verify(commands, times(1)).get(PLAYER);
+        assertTrue(cache.describeMetrics().contains("hits=1, misses=1"), cache.describeMetrics());
+    }
+
+    @Test
+    void hitsAreNotDeserializedAgain() throws Exception {
+        when(commands.get(PLAYER)).thenReturn(WALLETS_V1);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(1, cache.get(PLAYER).orElseThrow().get("w1").getStatus());
+        }
+
+        verify(retryHelper, times(1)).deserializeValue(anyString(), any());
+    }
+
+    @Test
+    void invalidationOfKeyForcesReload() {
+        when(commands.get(PLAYER)).thenReturn(WALLETS_V1, WALLETS_V2);
+        assertEquals(1, cache.get(PLAYER).orElseThrow().get("w1").getStatus());
+
+        cache.onPushMessage(invalidate(List.of(PLAYER)));
+
+        assertEquals(2, cache.get(PLAYER).orElseThrow().get("w1").getStatus());
+        verify(commands, times(2)).get(PLAYER);
+        assertTrue(cache.describeMetrics().contains("invalidations=1"), cache.describeMetrics());
+    }
+
+    @Test
+    void flushInvalidationClearsAllEntries() {
+        when(commands.get(anyString())).thenReturn(WALLETS_V1);
+        cache.get(PLAYER);
+        cache.get("player-2");
+
+        cache.onPushMessage(invalidate(null));
+
+        assertTrue(cache.describeMetrics().contains("size=0"), cache.describeMetrics());
+        cache.get(PLAYER);
+        verify(commands, times(2)).get(PLAYER);
+    }
+}
@@ -0,0 +1,41 @@
+package com.uplatform.wallet_tests.api.redis.client;
+
+import com.uplatform.wallet_tests.config.RedisWaitConfig;
+
+import java.util.Locale;
+
+/**
+ * Decides how long to wait before the next read of a Redis value that has not yet
+ * reached the expected state. Waits are bounded by an overall deadline, not an attempt count.
+ */
+public interface RedisWaitStrategy {
+
+    long getTimeoutMs();
+
+    /**
+     * @param attempt   number of reads already made (1 after the first read)
+     * @param elapsedMs time since the wait started
+     */
+    long nextDelayMs(int attempt, long elapsedMs);
+
+    default void recordSuccess(long elapsedMs) {
+    }
+
+    String describe();
+
+    static RedisWaitStrategy fromConfig(RedisWaitConfig config, int fallbackAttempts, long fallbackDelayMs) {
+        long fallbackTimeoutMs = fallbackAttempts * fallbackDelayMs;
+        if (config == null || config.getStrategy() == null) {
+            return new FixedWaitStrategy(fallbackTimeoutMs, fallbackDelayMs);
+        }
+        long timeoutMs = config.getTimeoutMs() > 0 ? config.getTimeoutMs() : fallbackTimeoutMs;
+        long initialDelayMs = config.getInitialDelayMs() > 0 ? config.getInitialDelayMs() : fallbackDelayMs;
+        long maxDelayMs = Math.max(initialDelayMs, config.getMaxDelayMs() > 0 ? config.getMaxDelayMs() : initialDelayMs);
+        return switch (config.getStrategy().toUpperCase(Locale.ROOT)) {
+            case "FIXED" -> new FixedWaitStrategy(timeoutMs, initialDelayMs);
+            case "EXPONENTIAL_JITTER" -> new ExponentialJitterWaitStrategy(timeoutMs, initialDelayMs, maxDelayMs);
+            case "ADAPTIVE" -> new AdaptiveWaitStrategy(timeoutMs, initialDelayMs, maxDelayMs);
+            default -> throw new IllegalStateException("Unknown Redis wait strategy: " + config.getStrategy());
+        };
+    }
+}
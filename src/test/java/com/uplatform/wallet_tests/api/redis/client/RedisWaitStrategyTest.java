@@ -0,0 +1,73 @@
+package com.uplatform.wallet_tests.api.redis.client;
+
+import com.uplatform.wallet_tests.config.RedisWaitConfig;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("Unit")
+class RedisWaitStrategyTest {
+
+    private static RedisWaitConfig config(String strategy, long timeoutMs, long initialDelayMs, long maxDelayMs) {
+        RedisWaitConfig config = new RedisWaitConfig();
+        config.setStrategy(strategy);
+        config.setTimeoutMs(timeoutMs);
+        config.setInitialDelayMs(initialDelayMs);
+        config.setMaxDelayMs(maxDelayMs);
+        return config;
+    }
+
+    @Test
+    void missingConfigFallsBackToFixedAttemptsTimesDelay() {
+        RedisWaitStrategy strategy = RedisWaitStrategy.fromConfig(null, 10, 200);
+
+        assertInstanceOf(FixedWaitStrategy.class, strategy);
+        assertEquals(2_000, strategy.getTimeoutMs());
+        assertEquals(200, strategy.nextDelayMs(5, 1_000));
+    }
+
+    @Test
+    void unknownStrategyIsRejected() {
+        assertThrows(IllegalStateException.class,
+                () -> RedisWaitStrategy.fromConfig(config("linear", 0, 0, 0), 10, 200));
+    }
+
+    @Test
+    void exponentialJitterStaysWithinDoublingCeiling() {
+        RedisWaitStrategy strategy = RedisWaitStrategy.fromConfig(config("exponential_jitter", 5_000, 50, 400), 10, 200);
+
+        for (int i = 0; i < 200; i++) {
+            long first = strategy.nextDelayMs(1, 0);
+            long third = strategy.nextDelayMs(3, 0);
+            long tenth = strategy.nextDelayMs(10, 0);
+            assertTrue(first >= 25 && first <= 50, "attempt 1 delay " + first);
+            assertTrue(third >= 100 && third <= 200, "attempt 3 delay " + third);
+            assertTrue(tenth >= 200 && tenth <= 400, "attempt 10 delay " + tenth);
+        }
+    }
+
+    @Test
+    void adaptiveAimsAtNextObservedTimeToSuccess() {
+        RedisWaitStrategy strategy = RedisWaitStrategy.fromConfig(config("adaptive", 5_000, 10, 1_000), 10, 200);
+        for (long sample : new long[]{120, 150, 150, 300, 310, 320, 600, 900}) {
+            strategy.recordSuccess(sample);
+        }
+
+        assertEquals(120, strategy.nextDelayMs(1, 0));
+        assertEquals(30, strategy.nextDelayMs(2, 120));
+        assertEquals(100, strategy.nextDelayMs(3, 500));
+        assertTrue(strategy.describe().contains("samples=8"), strategy.describe());
+    }
+
+    @Test
+    void adaptiveBacksOffBeyondEveryObservation() {
+        RedisWaitStrategy strategy = RedisWaitStrategy.fromConfig(config("adaptive", 5_000, 10, 80), 10, 200);
+        for (int i = 0; i < 8; i++) {
+            strategy.recordSuccess(100);
+        }
+
+        long delay = strategy.nextDelayMs(4, 2_000);
+        assertTrue(delay >= 40 && delay <= 80, "delay " + delay);
+    }
+}
@@ -0,0 +1,197 @@
+package com.uplatform.wallet_tests.api.redis.client;
+
+import com.uplatform.wallet_tests.api.attachment.AllureAttachmentService;
+import com.uplatform.wallet_tests.config.EnvironmentConfigurationProvider;
+import com.uplatform.wallet_tests.config.RedisAggregateConfig;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically samples the Redis footprint (STRLEN and MEMORY USAGE, pipelined over the shared
+ * connection) of the wallet aggregates read during the run. The operation count is the
+ * LastSeqNumber last bound by the wallet client, so sampling never reads the aggregates
+ * themselves. Wallets whose aggregate keeps growing as operations are applied are flagged.
+ */
+@Slf4j
+@Component
+public class WalletAggregateSizeSampler {
+
+    private static final int KEYS_PER_ROUND = 200;
+    private static final int MAX_SAMPLES_PER_WALLET = 32;
+    private static final int MAX_REPORTED_WALLETS = 50;
+    private static final long UNKNOWN = -1L;
+
+    private final AsyncRedisClient redisClient;
+    private final AllureAttachmentService attachmentService;
+    private final long intervalMs;
+    private final int growthWindow;
+    private final Map<String, Deque<long[]>> samplesByWallet = new ConcurrentHashMap<>();
+    private final Map<String, Long> lastSeqByWallet = new ConcurrentHashMap<>();
+    private ScheduledExecutorService scheduler;
+
+    public WalletAggregateSizeSampler(@Qualifier("walletAsyncRedisClient") AsyncRedisClient redisClient,
+                                      AllureAttachmentService attachmentService,
+                                      EnvironmentConfigurationProvider configProvider) {
+        this.redisClient = redisClient;
+        this.attachmentService = attachmentService;
+        RedisAggregateConfig aggregateConfig = configProvider.getEnvironmentConfig().getRedis().getAggregate();
+        this.intervalMs = aggregateConfig.getSizeSamplerIntervalMs();
+        this.growthWindow = Math.max(2, aggregateConfig.getSizeSamplerGrowthWindow());
+    }
+
+    @PostConstruct
+    public void start() {
+        if (intervalMs <= 0) {
+            log.info("Wallet aggregate size sampler disabled");
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "wallet-size-sampler");
+            t.setDaemon(true);
+            return t;
+        });
+        scheduler.scheduleWithFixedDelay(this::sampleSafely, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        log.info("Wallet aggregate size sampler started with {} ms interval", intervalMs);
+    }
+
+    /**
+     * @param lastSeqNumber LastSeqNumber of the value just read, or {@code null} if unknown
+     */
+    public void track(String walletKey, Integer lastSeqNumber) {
+        if (scheduler != null && walletKey != null) {
+            samplesByWallet.putIfAbsent(walletKey, new ArrayDeque<>());
+            if (lastSeqNumber != null) {
+                lastSeqByWallet.merge(walletKey, lastSeqNumber.longValue(), Math::max);
+            }
+        }
+    }
+
+    private void sampleSafely() {
+        try {
+            sample();
+        } catch (Exception e) {
+            log.warn("Wallet aggregate size sampling failed: {}", e.getMessage());
+        }
+    }
+
+    public void sample() {
+        List<String> keys = new ArrayList<>(samplesByWallet.keySet());
+        for (int from = 0; from < keys.size(); from += KEYS_PER_ROUND) {
+            List<String> chunk = keys.subList(from, Math.min(from + KEYS_PER_ROUND, keys.size()));
+            List<CompletableFuture<Long>> strlens = new ArrayList<>(chunk.size());
+            List<CompletableFuture<Long>> memoryUsages = new ArrayList<>(chunk.size());
+            for (String key : chunk) {
+                strlens.add(redisClient.strlenAsync(key));
+                memoryUsages.add(redisClient.memoryUsageAsync(key));
+            }
+            for (int i = 0; i < chunk.size(); i++) {
+                String key = chunk.get(i);
+                Long strlen = redisClient.await(strlens.get(i));
+                if (strlen == null || strlen <= 0) {
+                    continue;
+                }
+                Long memoryUsage = redisClient.await(memoryUsages.get(i));
+                record(key, lastSeqByWallet.getOrDefault(key, UNKNOWN), strlen,
+                        memoryUsage != null ? memoryUsage : UNKNOWN);
+            }
+        }
+    }
+
+    private void record(String key, long ops, long strlen, long memoryUsage) {
+        Deque<long[]> samples = samplesByWallet.get(key);
+        synchronized (samples) {
+            long[] last = samples.peekLast();
+            if (last != null && last[0] == ops && last[1] == strlen) {
+                return;
+            }
+            if (samples.size() == MAX_SAMPLES_PER_WALLET) {
+                samples.pollFirst();
+            }
+            samples.addLast(new long[]{ops, strlen, memoryUsage});
+        }
+    }
+
+    /**
+     * A wallet is growing when its last {@code growthWindow} samples show both more operations
+     * and a larger aggregate each time; bounded aggregates plateau once trimming kicks in.
+     */
+    private boolean isGrowing(List<long[]> samples) {
+        if (samples.size() < growthWindow) {
+            return false;
+        }
+        for (int i = samples.size() - growthWindow + 1; i < samples.size(); i++) {
+            long[] previous = samples.get(i - 1);
+            long[] current = samples.get(i);
+            if (current[0] <= previous[0] || current[1] <= previous[1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public String getReport() {
+        StringBuilder flagged = new StringBuilder();
+        int growing = 0;
+        long maxStrlen = 0;
+        long maxMemory = 0;
+        for (Map.Entry<String, Deque<long[]>> entry : samplesByWallet.entrySet()) {
+            List<long[]> samples;
+            synchronized (entry.getValue()) {
+                samples = new ArrayList<>(entry.getValue());
+            }
+            if (samples.isEmpty()) {
+                continue;
+            }
+            long[] first = samples.get(0);
+            long[] last = samples.get(samples.size() - 1);
+            maxStrlen = Math.max(maxStrlen, last[1]);
+            maxMemory = Math.max(maxMemory, last[2]);
+            if (isGrowing(samples)) {
+                growing++;
+                if (growing <= MAX_REPORTED_WALLETS) {
+                    long opsDelta = last[0] - first[0];
+                    flagged.append(String.format("  %s: ops %d -> %d, strlen %d -> %d, memory %d -> %d, %.1f bytes/op%n",
+                            entry.getKey(), first[0], last[0], first[1], last[1], first[2], last[2],
+                            opsDelta > 0 ? (double) (last[1] - first[1]) / opsDelta : 0.0));
+                }
+            }
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Wallets sampled: %d, max strlen: %d, max memory usage: %d, growing: %d%n",
+                samplesByWallet.size(), maxStrlen, maxMemory, growing));
+        if (growing > 0) {
+            sb.append("Growing aggregates:\n").append(flagged);
+            if (growing > MAX_REPORTED_WALLETS) {
+                sb.append("  ... and ").append(growing - MAX_REPORTED_WALLETS).append(" more\n");
+            }
+        }
+        return sb.toString();
+    }
+
+    public void attachReport() {
+        attachmentService.attachText("Wallet Aggregate Size Report", getReport());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+        log.info("Wallet aggregate size sampler report:\n{}", getReport());
+    }
+}
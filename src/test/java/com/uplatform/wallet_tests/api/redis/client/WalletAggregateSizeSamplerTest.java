@@ -0,0 +1,107 @@
+package com.uplatform.wallet_tests.api.redis.client;
+
+import com.uplatform.wallet_tests.api.attachment.AllureAttachmentService;
+import com.uplatform.wallet_tests.config.EnvironmentConfig;
+import com.uplatform.wallet_tests.config.EnvironmentConfigurationProvider;
+import com.uplatform.wallet_tests.config.RedisAggregateConfig;
+import com.uplatform.wallet_tests.config.RedisConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@Tag("Unit")
+@SuppressWarnings("unchecked")
+class WalletAggregateSizeSamplerTest {
+
+    /** Per wallet and sampling round: {strlen, memoryUsage, lastSeqNumber}. */
+    private static final Map<String, long[][]> ROUNDS = Map.of(
+            "wallet:growing", new long[][]{{100, 160, 1}, {200, 260, 2}, {300, 360, 3}},
+            "wallet:bounded", new long[][]{{100, 160, 1}, {200, 260, 2}, {200, 260, 3}},
+            "wallet:missing", new long[][]{{0, -1, 1}, {0, -1, 2}, {0, -1, 3}});
+
+    private AsyncRedisClient redisClient;
+    private WalletAggregateSizeSampler sampler;
+
+    @BeforeEach
+    void setUp() {
+        RedisAggregateConfig aggregate = new RedisAggregateConfig();
+        aggregate.setSizeSamplerIntervalMs(3_600_000);
+        aggregate.setSizeSamplerGrowthWindow(3);
+        RedisConfig redis = new RedisConfig();
+        redis.setAggregate(aggregate);
+        EnvironmentConfig environment = new EnvironmentConfig();
+        environment.setRedis(redis);
+        EnvironmentConfigurationProvider configProvider = mock(EnvironmentConfigurationProvider.class);
+        when(configProvider.getEnvironmentConfig()).thenReturn(environment);
+
+        redisClient = mock(AsyncRedisClient.class);
+        when(redisClient.await(any())).thenAnswer(invocation -> invocation.<CompletableFuture<?>>getArgument(0).join());
+        sampler = new WalletAggregateSizeSampler(redisClient, mock(AllureAttachmentService.class), configProvider);
+        sampler.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sampler.stop();
+    }
+
+    @Test
+    void flagsOnlyAggregatesThatGrowWithEveryOperation() {
+        AtomicInteger round = new AtomicInteger();
+        when(redisClient.strlenAsync(anyString())).thenAnswer(invocation ->
+                CompletableFuture.completedFuture(ROUNDS.get(invocation.<String>getArgument(0))[round.get()][0]));
+        when(redisClient.memoryUsageAsync(anyString())).thenAnswer(invocation ->
+                CompletableFuture.completedFuture(ROUNDS.get(invocation.<String>getArgument(0))[round.get()][1]));
+
+        for (int i = 0; i < 3; i++) {
+            round.set(i);
+            ROUNDS.forEach((key, rounds) -> sampler.track(key, (int) rounds[round.get()][2]));
+            sampler.sample();
+        }
+        String report = sampler.getReport();
+
+        assertTrue(report.startsWith("Wallets sampled: 3, max strlen: 300, max memory usage: 360, growing: 1"), report);
+        assertTrue(report.contains("wallet:growing: ops 1 -> 3, strlen 100 -> 300"), report);
+        assertFalse(report.contains("wallet:bounded:"), report);
+        verify(redisClient, times(9)).strlenAsync(anyString());
+        verify(redisClient, times(9)).memoryUsageAsync(anyString());
+    }
+
+    @Test
+    void walletsWithoutAKnownSequenceAreNeverFlagged() {
+        AtomicInteger size = new AtomicInteger(100);
+        when(redisClient.strlenAsync(anyString())).thenAnswer(invocation ->
+                CompletableFuture.completedFuture((long) size.getAndAdd(100)));
+        when(redisClient.memoryUsageAsync(anyString())).thenReturn(CompletableFuture.completedFuture(null));
+        sampler.track("wallet:untyped", null);
+
+        for (int i = 0; i < 5; i++) {
+            sampler.sample();
+        }
+
+        assertTrue(sampler.getReport().contains("growing: 0"), sampler.getReport());
+    }
+
+    @Test
+    void repeatedIdenticalSamplesAreNotCountedAsGrowth() {
+        when(redisClient.strlenAsync(anyString())).thenReturn(CompletableFuture.completedFuture(100L));
+        when(redisClient.memoryUsageAsync(anyString())).thenReturn(CompletableFuture.completedFuture(160L));
+        sampler.track("wallet:idle", 1);
+
+        for (int i = 0; i < 5; i++) {
+            sampler.sample();
+        }
+
+        assertTrue(sampler.getReport().contains("growing: 0"), sampler.getReport());
+    }
+}
@@ -0,0 +1,171 @@
+package com.uplatform.wallet_tests.api.redis.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.uplatform.wallet_tests.api.attachment.AllureAttachmentService;
+import com.uplatform.wallet_tests.api.redis.exception.RedisClientException;
+import com.uplatform.wallet_tests.api.redis.model.WalletFullData;
+import com.uplatform.wallet_tests.api.redis.model.WalletVerificationReport;
+import com.uplatform.wallet_tests.config.EnvironmentConfigurationProvider;
+import com.uplatform.wallet_tests.config.RedisAggregateConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bulk verification of wallet aggregates. Keys are streamed (SCAN or a given collection),
+ * read with MGET in batches and checked in parallel; the number of batches in flight is
+ * bounded, so memory use does not depend on the number of keys.
+ */
+@Slf4j
+@Component
+public class WalletAggregateVerifier {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_REPORTED_VIOLATIONS = 200;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectReader walletReader;
+    private final AllureAttachmentService attachmentService;
+    private final RedisAggregateConfig aggregateConfig;
+    private final int parallelism;
+
+    public WalletAggregateVerifier(@Qualifier("walletRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                                   ObjectMapper objectMapper,
+                                   AllureAttachmentService attachmentService,
+                                   EnvironmentConfigurationProvider configProvider) {
+        this.redisTemplate = redisTemplate;
+        this.walletReader = objectMapper.readerFor(WalletFullData.class);
+        this.attachmentService = attachmentService;
+        this.aggregateConfig = configProvider.getEnvironmentConfig().getRedis().getAggregate();
+        this.parallelism = Math.max(2, Runtime.getRuntime().availableProcessors());
+    }
+
+    public List<WalletInvariant> defaultInvariants() {
+        return WalletInvariant.defaults(aggregateConfig.getMaxGamblingCount(), aggregateConfig.getMaxIframeCount());
+    }
+
+    public WalletVerificationReport verifyAll(String matchPattern, List<WalletInvariant> invariants) {
+        ScanOptions options = ScanOptions.scanOptions().match(matchPattern).count(BATCH_SIZE).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            return verify(cursor, invariants, "SCAN " + matchPattern);
+        }
+    }
+
+    public WalletVerificationReport verifyKeys(Collection<String> keys, List<WalletInvariant> invariants) {
+        return verify(keys.iterator(), invariants, keys.size() + " keys");
+    }
+
+    private WalletVerificationReport verify(Iterator<String> keys, List<WalletInvariant> invariants, String source) {
+        LongAdder keysRead = new LongAdder();
+        LongAdder verified = new LongAdder();
+        LongAdder missing = new LongAdder();
+        LongAdder unreadable = new LongAdder();
+        LongAdder violationCount = new LongAdder();
+        AtomicInteger reported = new AtomicInteger();
+        ConcurrentLinkedQueue<WalletVerificationReport.Violation> violations = new ConcurrentLinkedQueue<>();
+
+        Semaphore inFlight = new Semaphore(parallelism * 2);
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, r -> {
+            Thread t = new Thread(r, "wallet-verifier");
+            t.setDaemon(true);
+            return t;
+        });
+        long startedAt = System.nanoTime();
+        try {
+            while (keys.hasNext()) {
+                List<String> batch = new ArrayList<>(BATCH_SIZE);
+                while (keys.hasNext() && batch.size() < BATCH_SIZE) {
+                    batch.add(keys.next());
+                }
+                List<String> values = redisTemplate.opsForValue().multiGet(batch);
+                keysRead.add(batch.size());
+                inFlight.acquire();
+                executor.execute(() -> {
+                    try {
+                        for (int i = 0; i < batch.size(); i++) {
+                            String key = batch.get(i);
+                            String rawValue = values != null && i < values.size() ? values.get(i) : null;
+                            if (rawValue == null || rawValue.isEmpty()) {
+                                missing.increment();
+                                continue;
+                            }
+                            WalletFullData data;
+                            try {
+                                data = walletReader.readValue(rawValue);
+                            } catch (Exception e) {
+                                unreadable.increment();
+                                report(violations, reported, key, "Unreadable aggregate: " + e.getMessage());
+                                continue;
+                            }
+                            verified.increment();
+                            for (WalletInvariant invariant : invariants) {
+                                Optional<String> violation;
+                                try {
+                                    violation = invariant.check(key, data);
+                                } catch (RuntimeException e) {
+                                    violation = Optional.of(String.format("Invariant '%s' failed: %s", invariant.name(), e));
+                                }
+                                if (violation.isPresent()) {
+                                    violationCount.increment();
+                                    report(violations, reported, key, violation.get());
+                                }
+                            }
+                        }
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+            executor.shutdown();
+            if (!executor.awaitTermination(1, TimeUnit.HOURS)) {
+                throw new RedisClientException("[WALLET] Aggregate verification did not finish within 1 hour");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RedisClientException("[WALLET] Aggregate verification interrupted");
+        } finally {
+            executor.shutdownNow();
+        }
+
+        WalletVerificationReport report = WalletVerificationReport.builder()
+                .keysRead(keysRead.sum())
+                .verified(verified.sum())
+                .missing(missing.sum())
+                .unreadable(unreadable.sum())
+                .violationCount(violationCount.sum())
+                .violations(List.copyOf(violations))
+                .elapsedMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt))
+                .build();
+        log.info("[WALLET] Aggregate verification of {}: read={}, verified={}, missing={}, unreadable={}, violations={}, {} ms ({} keys/s)",
+                source, report.getKeysRead(), report.getVerified(), report.getMissing(), report.getUnreadable(),
+                report.getViolationCount(), report.getElapsedMs(), String.format("%.0f", report.getKeysPerSecond()));
+        attachmentService.attachJson("Wallet Aggregate Verification", report);
+        return report;
+    }
+
+    private void report(ConcurrentLinkedQueue<WalletVerificationReport.Violation> violations,
+                        AtomicInteger reported,
+                        String key,
+                        String message) {
+        if (reported.getAndIncrement() < MAX_REPORTED_VIOLATIONS) {
+            violations.add(new WalletVerificationReport.Violation(key, message));
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.uplatform.wallet_tests.api.redis.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.uplatform.wallet_tests.api.attachment.AllureAttachmentService;
+import com.uplatform.wallet_tests.api.redis.model.WalletVerificationReport;
+import com.uplatform.wallet_tests.config.EnvironmentConfig;
+import com.uplatform.wallet_tests.config.EnvironmentConfigurationProvider;
+import com.uplatform.wallet_tests.config.RedisAggregateConfig;
+import com.uplatform.wallet_tests.config.RedisConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@Tag("Unit")
+@SuppressWarnings("unchecked")
+class WalletAggregateVerifierTest {
+
+    private ValueOperations<String, String> valueOps;
+    private AllureAttachmentService attachmentService;
+    private WalletAggregateVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        RedisAggregateConfig aggregate = new RedisAggregateConfig();
+        aggregate.setMaxGamblingCount(2);
+        aggregate.setMaxIframeCount(1);
+        RedisConfig redis = new RedisConfig();
+        redis.setAggregate(aggregate);
+        EnvironmentConfig environment = new EnvironmentConfig();
+        environment.setRedis(redis);
+        EnvironmentConfigurationProvider configProvider = mock(EnvironmentConfigurationProvider.class);
+        when(configProvider.getEnvironmentConfig()).thenReturn(environment);
+
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        valueOps = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOps);
+        attachmentService = mock(AllureAttachmentService.class);
+        verifier = new WalletAggregateVerifier(redisTemplate, new ObjectMapper(), attachmentService, configProvider);
+    }
+
+    private static String valueFor(String key) {
+        int index = Integer.parseInt(key.substring(key.indexOf(':') + 1));
+        return switch (index) {
+            case 3 -> null;
+            case 7 -> "not json";
+            case 11 -> "{\"Balance\":\"-5\"}";
+            case 12 -> "{\"Balance\":\"5\",\"IFrameRecords\":[{},{}],\"Gambling\":{\"a\":{},\"b\":{},\"c\":{}}}";
+            default -> "{\"Balance\":\"5\"}";
+        };
+    }
+
+    @Test
+    void countsEveryKeyAcrossBatchesAndReportsViolations() {
+        List<List<String>> batches = new ArrayList<>();
+        when(valueOps.multiGet(anyList())).thenAnswer(invocation -> {
+            List<String> keys = new ArrayList<>(invocation.<List<String>>getArgument(0));
+            synchronized (batches) {
+                batches.add(keys);
+            }
+            return keys.stream().map(WalletAggregateVerifierTest::valueFor).toList();
+        });
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 1_100; i++) {
+            keys.add("wallet:" + i);
+        }
+
+        WalletVerificationReport report = verifier.verifyKeys(keys, verifier.defaultInvariants());
+
+        assertEquals(List.of(500, 500, 100), batches.stream().map(List::size).toList());
+        assertEquals(1_100, report.getKeysRead());
+        assertEquals(1_098, report.getVerified());
+        assertEquals(1, report.getMissing());
+        assertEquals(1, report.getUnreadable());
+        assertEquals(3, report.getViolationCount());
+        assertFalse(report.isClean());
+        assertEquals(4, report.getViolations().size());
+        assertTrue(report.getViolations().stream().anyMatch(v -> v.getKey().equals("wallet:11")
+                && v.getMessage().startsWith("Negative balance")));
+        verify(attachmentService).attachJson(eq("Wallet Aggregate Verification"), eq(report));
+    }
+
+    @Test
+    void failingInvariantIsReportedAndTheBatchContinues() {
+        when(valueOps.multiGet(anyList())).thenAnswer(invocation -> invocation.<List<String>>getArgument(0).stream()
+                .map(WalletAggregateVerifierTest::valueFor).toList());
+        WalletInvariant failing = WalletInvariant.named("alwaysThrows", (key, data) -> {
+            throw new IllegalStateException("boom on " + key);
+        });
+        List<String> keys = List.of("wallet:0", "wallet:11", "wallet:12");
+
+        WalletVerificationReport report = verifier.verifyKeys(keys,
+                List.of(failing, WalletInvariant.nonNegativeBalance()));
+
+        assertEquals(3, report.getVerified());
+        assertEquals(4, report.getViolationCount());
+        assertTrue(report.getViolations().stream().anyMatch(v -> v.getKey().equals("wallet:12")
+                && v.getMessage().equals("Invariant 'alwaysThrows' failed: java.lang.IllegalStateException: boom on wallet:12")),
+                report.getViolations().toString());
+        assertTrue(report.getViolations().stream().anyMatch(v -> v.getKey().equals("wallet:11")
+                && v.getMessage().startsWith("Negative balance")));
+    }
+}
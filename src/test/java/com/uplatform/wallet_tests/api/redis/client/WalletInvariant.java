@@ -0,0 +1,56 @@
+package com.uplatform.wallet_tests.api.redis.client;
+
+import com.uplatform.wallet_tests.api.redis.model.WalletFullData;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A property every wallet aggregate must satisfy. Returns a violation description, or empty if the aggregate is fine.
+ */
+@FunctionalInterface
+public interface WalletInvariant {
+
+    Optional<String> check(String key, WalletFullData data);
+
+    default String name() {
+        return getClass().getSimpleName();
+    }
+
+    static WalletInvariant named(String name, WalletInvariant invariant) {
+        return new WalletInvariant() {
+            @Override
+            public Optional<String> check(String key, WalletFullData data) {
+                return invariant.check(key, data);
+            }
+
+            @Override
+            public String name() {
+                return name;
+            }
+        };
+    }
+
+    static WalletInvariant nonNegativeBalance() {
+        return named("nonNegativeBalance", (key, data) -> data.getBalance() != null && data.getBalance().compareTo(BigDecimal.ZERO) < 0
+                ? Optional.of("Negative balance: " + data.getBalance().toPlainString())
+                : Optional.empty());
+    }
+
+    static WalletInvariant gamblingAtMost(int maxGamblingCount) {
+        return named("gamblingAtMost", (key, data) -> data.getGambling() != null && data.getGambling().size() > maxGamblingCount
+                ? Optional.of(String.format("Gambling entries %d exceed %d", data.getGambling().size(), maxGamblingCount))
+                : Optional.empty());
+    }
+
+    static WalletInvariant iframeRecordsAtMost(int maxIframeCount) {
+        return named("iframeRecordsAtMost", (key, data) -> data.getIFrameRecords() != null && data.getIFrameRecords().size() > maxIframeCount
+                ? Optional.of(String.format("IFrame records %d exceed %d", data.getIFrameRecords().size(), maxIframeCount))
+                : Optional.empty());
+    }
+
+    static List<WalletInvariant> defaults(int maxGamblingCount, int maxIframeCount) {
+        return List.of(nonNegativeBalance(), gamblingAtMost(maxGamblingCount), iframeRecordsAtMost(maxIframeCount));
+    }
+}
@@ -6,18 +6,85 @@ import com.uplatform.wallet_tests.api.attachment.AllureAttachmentService;
 import com.fasterxml.jackson.core.type.TypeReference;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.RedisConnectionFailureException;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
 @Slf4j
 public class WalletRedisClient extends AbstractRedisClient {
 
+    private static final String LAST_SEQ_FIELD = "LastSeqNumber";
+    private static final String BALANCE_FIELD = "Balance";
+    private static final long SEQ_KEY_MISSING = -1L;
+    private static final long SEQ_UNPARSEABLE = -2L;
+
+    /**
+     * Returns {seq, payload} once LastSeqNumber >= ARGV[1], otherwise {seq} only,
+     * so attempts that are still behind do not transfer the aggregate.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> SEQ_CHECK_SCRIPT = new DefaultRedisScript<>(
+            "local v = redis.call('GET', KEYS[1])\n" +
+            "if not v or v == '' then return {" + SEQ_KEY_MISSING + "} end\n" +
+            "local ok, data = pcall(cjson.decode, v)\n" +
+            "if not ok or type(data) ~= 'table' then return {" + SEQ_UNPARSEABLE + "} end\n" +
+            "local seq = tonumber(data['LastSeqNumber']) or 0\n" +
+            "if seq >= tonumber(ARGV[1]) then return {seq, v} end\n" +
+            "return {seq}\n",
+            List.class);
+
+    private final WalletAggregateSizeSampler sizeSampler;
+    private volatile boolean seqScriptAvailable = true;
+
     public WalletRedisClient(@Qualifier("walletRedisTemplate") RedisTemplate<String, String> redisTemplate,
                              RedisRetryHelper retryHelper,
                              AllureAttachmentService attachmentService) {
-        super("WALLET", redisTemplate, retryHelper, attachmentService);
+        this(redisTemplate, retryHelper, attachmentService, null, null);
+    }
+
+    public WalletRedisClient(@Qualifier("walletRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                             RedisRetryHelper retryHelper,
+                             AllureAttachmentService attachmentService,
+                             RedisKeyspaceNotifier keyspaceNotifier) {
+        this(redisTemplate, retryHelper, attachmentService, keyspaceNotifier, null);
+    }
+
+    public WalletRedisClient(@Qualifier("walletRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                             RedisRetryHelper retryHelper,
+                             AllureAttachmentService attachmentService,
+                             RedisKeyspaceNotifier keyspaceNotifier,
+                             WalletAggregateSizeSampler sizeSampler) {
+        this(redisTemplate, retryHelper, attachmentService, keyspaceNotifier, sizeSampler, null);
+    }
+
+    public WalletRedisClient(@Qualifier("walletRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                             RedisRetryHelper retryHelper,
+                             AllureAttachmentService attachmentService,
+                             RedisKeyspaceNotifier keyspaceNotifier,
+                             WalletAggregateSizeSampler sizeSampler,
+                             AsyncRedisClient asyncClient) {
+        super("WALLET", redisTemplate, retryHelper, attachmentService, keyspaceNotifier, asyncClient);
+        this.sizeSampler = sizeSampler;
+    }
+
+    @Override
+    protected void onValueRead(String key, Object value) {
+        if (sizeSampler != null) {
+            sizeSampler.track(key, value instanceof WalletFullData data ? data.getLastSeqNumber() : null);
+        }
     }
 
     public WalletFullData getWalletDataWithSeqCheck(String key, int expectedSeq) {
@@ -33,6 +100,147 @@ public class WalletRedisClient extends AbstractRedisClient {
             }
             return new CheckResult(false, String.format("Sequence mismatch: current=%d, expected=%d", currentSeq, expectedSeq));
         };
-        return getWithCheck(key, new TypeReference<WalletFullData>() {}, checkFunc);
+        BiFunction<String, String, Optional<String>> valueGetter = (inst, k) -> getValueIfSeqReached(k, expectedSeq);
+        Function<String, CheckResult> preCheck = rawJson -> checkScalar(rawJson, LAST_SEQ_FIELD, value -> {
+            long currentSeq = Long.parseLong(value);
+            return new CheckResult(currentSeq >= expectedSeq,
+                    String.format("Sequence %s: current=%d, expected=%d",
+                            currentSeq >= expectedSeq ? "match" : "mismatch", currentSeq, expectedSeq));
+        });
+        try {
+            return getWithCheck(key, new TypeReference<WalletFullData>() {}, valueGetter, preCheck, checkFunc);
+        } catch (RedisClientException e) {
+            attachLastFullValue(key, expectedSeq);
+            throw e;
+        }
+    }
+
+    /**
+     * Attempts that are still behind only see the sequence number, so the failure
+     * attachment of the wait itself does not contain the aggregate.
+     */
+    private void attachLastFullValue(String key, int expectedSeq) {
+        String content = "Redis Instance: " + instanceName + "\n" +
+                "Key: " + key + "\n" +
+                "Expected LastSeqNumber: " + expectedSeq + "\n\n" +
+                getValue(key).map(v -> "Raw Value:\n" + v).orElse("No value retrieved or value was empty.");
+        attachmentService.attachText("Final State (Full Aggregate)", content);
+    }
+
+    public Map<String, WalletFullData> getWalletsDataWithSeqCheck(Map<String, Integer> expectedSeqByKey) {
+        if (expectedSeqByKey == null) { throw new RedisClientException("[WALLET] Cannot check wallet sequences: keys are null."); }
+        Map<String, BiFunction<WalletFullData, String, CheckResult>> checksByKey = new LinkedHashMap<>();
+        expectedSeqByKey.forEach((key, expectedSeq) -> checksByKey.put(key, (data, rawJson) -> {
+            int currentSeq = data.getLastSeqNumber();
+            return new CheckResult(currentSeq >= expectedSeq,
+                    String.format("Sequence %s: current=%d, expected=%d",
+                            currentSeq >= expectedSeq ? "match" : "mismatch", currentSeq, expectedSeq));
+        }));
+        return getAllWithCheck(checksByKey, new TypeReference<WalletFullData>() {});
+    }
+
+    public WalletFullData getWalletDataWithBalanceCheck(String key, BigDecimal expectedBalance) {
+        if (key == null) { throw new RedisClientException("[WALLET] Cannot check wallet balance: key is null."); }
+        if (expectedBalance == null) { throw new RedisClientException("[WALLET] Cannot check wallet balance: expected balance is null."); }
+        Function<String, CheckResult> preCheck = rawJson -> checkScalar(rawJson, BALANCE_FIELD,
+                value -> balanceCheck(new BigDecimal(value), expectedBalance));
+        BiFunction<WalletFullData, String, CheckResult> checkFunc = (data, rawJson) -> {
+            if (data == null || data.getBalance() == null) {
+                return new CheckResult(false, "Deserialized data or balance is null");
+            }
+            return balanceCheck(data.getBalance(), expectedBalance);
+        };
+        return getWithCheck(key, new TypeReference<WalletFullData>() {}, (inst, k) -> getValue(k), preCheck, checkFunc);
+    }
+
+    private CheckResult balanceCheck(BigDecimal currentBalance, BigDecimal expectedBalance) {
+        boolean matches = currentBalance.compareTo(expectedBalance) == 0;
+        return new CheckResult(matches, String.format("Balance %s: current=%s, expected=%s",
+                matches ? "match" : "mismatch", currentBalance.toPlainString(), expectedBalance.toPlainString()));
+    }
+
+    /**
+     * Streams the raw aggregate for a single top-level scalar so that nested gambling and
+     * iframe collections are not bound while the awaited state has not been reached.
+     * Unreadable values pass through so the full deserialization reports the actual error.
+     */
+    private CheckResult checkScalar(String rawJson, String field, Function<String, CheckResult> check) {
+        String value;
+        try {
+            value = AggregateScalarReader.readOne(rawJson, field);
+        } catch (IOException e) {
+            return new CheckResult(true, "Pre-check skipped: " + e.getMessage());
+        }
+        if (value == null) {
+            return new CheckResult(false, String.format("Field '%s' is missing or null", field));
+        }
+        try {
+            return check.apply(value);
+        } catch (NumberFormatException e) {
+            return new CheckResult(true, String.format("Pre-check skipped: field '%s' is not numeric", field));
+        }
+    }
+
+    /**
+     * Evaluates the sequence check inside Redis. While the aggregate is behind, only a
+     * stub carrying LastSeqNumber is returned, which the regular check then rejects.
+     * Falls back to a plain GET for good if the server has scripting disabled (EVAL/EVALSHA
+     * unknown, or denied by an ACL); any other error, including a NOSCRIPT after a script cache
+     * flush, falls back for that attempt only.
+     */
+    private Optional<String> getValueIfSeqReached(String key, int expectedSeq) {
+        if (!seqScriptAvailable) {
+            return getValue(key);
+        }
+        List<?> reply;
+        try {
+            reply = executeSeqScript(key, expectedSeq);
+        } catch (RedisConnectionFailureException | QueryTimeoutException e) {
+            log.warn("[{}] Server-side sequence check failed for key '{}': {}", instanceName, key, e.getMessage());
+            return getValue(key);
+        } catch (Exception e) {
+            if (isScriptingUnsupported(e)) {
+                seqScriptAvailable = false;
+                log.warn("[{}] Server-side sequence check unavailable, falling back to GET: {}", instanceName, e.getMessage());
+            } else {
+                log.warn("[{}] Server-side sequence check failed for key '{}', using GET for this attempt: {}", instanceName, key, e.getMessage());
+            }
+            return getValue(key);
+        }
+        if (reply == null || reply.isEmpty()) {
+            return getValue(key);
+        }
+        long currentSeq = ((Number) reply.get(0)).longValue();
+        if (currentSeq == SEQ_KEY_MISSING) {
+            return Optional.empty();
+        }
+        if (currentSeq == SEQ_UNPARSEABLE) {
+            return getValue(key);
+        }
+        if (reply.size() > 1 && reply.get(1) != null) {
+            return Optional.of(reply.get(1).toString());
+        }
+        return Optional.of("{\"LastSeqNumber\":" + currentSeq + "}");
+    }
+
+    private List<?> executeSeqScript(String key, int expectedSeq) {
+        if (asyncClient != null) {
+            return asyncClient.await(asyncClient.evalAsync(SEQ_CHECK_SCRIPT.getSha1(),
+                    SEQ_CHECK_SCRIPT.getScriptAsString(), key, String.valueOf(expectedSeq)));
+        }
+        return redisTemplate.execute(SEQ_CHECK_SCRIPT, Collections.singletonList(key), String.valueOf(expectedSeq));
+    }
+
+    static boolean isScriptingUnsupported(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            String message = t.getMessage();
+            if (message != null) {
+                String upper = message.toUpperCase(Locale.ROOT);
+                if (upper.contains("UNKNOWN COMMAND") || upper.contains("NOPERM")) {
+                    return true;
+                }
+            }
+        }
+        return false;
     }
 }
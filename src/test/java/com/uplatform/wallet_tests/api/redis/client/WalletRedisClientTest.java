@@ -0,0 +1,121 @@
+package com.uplatform.wallet_tests.api.redis.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.uplatform.wallet_tests.api.attachment.AllureAttachmentService;
+import com.uplatform.wallet_tests.api.redis.exception.RedisClientException;
+import com.uplatform.wallet_tests.config.EnvironmentConfig;
+import com.uplatform.wallet_tests.config.EnvironmentConfigurationProvider;
+import com.uplatform.wallet_tests.config.RedisAggregateConfig;
+import com.uplatform.wallet_tests.config.RedisConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@Tag("Unit")
+@SuppressWarnings("unchecked")
+class WalletRedisClientTest {
+
+    private static final String KEY = "wallet:abc";
+    private static final String BEHIND = "{\"LastSeqNumber\":1,\"Balance\":\"10\"}";
+    private static final String REACHED = "{\"LastSeqNumber\":2,\"Balance\":\"20\"}";
+
+    private RedisTemplate<String, String> redisTemplate;
+    private ValueOperations<String, String> valueOps;
+    private AllureAttachmentService attachmentService;
+    private WalletRedisClient client;
+
+    @BeforeEach
+    void setUp() {
+        RedisAggregateConfig aggregate = new RedisAggregateConfig();
+        aggregate.setRetryAttempts(20);
+        aggregate.setRetryDelayMs(50);
+        RedisConfig redis = new RedisConfig();
+        redis.setAggregate(aggregate);
+        EnvironmentConfig environment = new EnvironmentConfig();
+        environment.setRedis(redis);
+        EnvironmentConfigurationProvider configProvider = mock(EnvironmentConfigurationProvider.class);
+        when(configProvider.getEnvironmentConfig()).thenReturn(environment);
+
+        redisTemplate = mock(RedisTemplate.class);
+        valueOps = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOps);
+        attachmentService = mock(AllureAttachmentService.class);
+        RedisRetryHelper retryHelper = new RedisRetryHelper(new ObjectMapper(), attachmentService, configProvider);
+        client = new WalletRedisClient(redisTemplate, retryHelper, attachmentService);
+    }
+
+    private void scriptReplies(Object first, Object... rest) {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenAnswer(new Answer<Object>() {
+            private int calls;
+
+            @Override
+            public Object answer(InvocationOnMock invocation) throws Throwable {
+                Object reply = calls == 0 ? first : rest[Math.min(calls - 1, rest.length - 1)];
+                calls++;
+                if (reply instanceof Throwable error) {
+                    throw error;
+                }
+                return reply;
+            }
+        });
+    }
+
+    @Test
+    void transientScriptErrorFallsBackForOneAttemptOnly() {
+        when(valueOps.get(KEY)).thenReturn(BEHIND);
+        scriptReplies(new RedisSystemException("Connection reset", new RuntimeException()), List.of(2L, REACHED));
+
+        assertEquals(2, client.getWalletDataWithSeqCheck(KEY, 2).getLastSeqNumber());
+        verify(redisTemplate, times(2)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    void unsupportedScriptingDisablesServerSideCheck() {
+        when(valueOps.get(KEY)).thenReturn(REACHED);
+        scriptReplies(new RedisSystemException("Error in execution",
+                new RuntimeException("ERR unknown command 'EVALSHA', with args beginning with:")));
+
+        client.getWalletDataWithSeqCheck(KEY, 2);
+        client.getWalletDataWithSeqCheck(KEY, 2);
+
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+        assertTrue(WalletRedisClient.isScriptingUnsupported(
+                new RuntimeException("NOPERM User qa has no permissions to run the 'evalsha' command")));
+        assertFalse(WalletRedisClient.isScriptingUnsupported(new RuntimeException("READONLY replica")));
+    }
+
+    @Test
+    void flushedScriptCacheDoesNotDisableServerSideCheck() {
+        when(valueOps.get(KEY)).thenReturn(REACHED);
+        scriptReplies(new RedisSystemException("Error in execution",
+                new RuntimeException("NOSCRIPT No matching script. Please use EVAL.")), List.of(2L, REACHED));
+
+        client.getWalletDataWithSeqCheck(KEY, 2);
+        client.getWalletDataWithSeqCheck(KEY, 2);
+
+        verify(redisTemplate, times(2)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+        assertFalse(WalletRedisClient.isScriptingUnsupported(new RuntimeException("NOSCRIPT No matching script")));
+    }
+
+    @Test
+    void timeoutAttachesLastFullAggregate() {
+        when(valueOps.get(KEY)).thenReturn(BEHIND);
+        scriptReplies(List.of(1L));
+
+        assertThrows(RedisClientException.class, () -> client.getWalletDataWithSeqCheck(KEY, 2));
+
+        verify(attachmentService).attachText(eq("Final State (Full Aggregate)"), contains(BEHIND));
+    }
+}
@@ -1,9 +1,18 @@
 package com.uplatform.wallet_tests.api.redis.config;
 
+import com.uplatform.wallet_tests.api.redis.client.AsyncRedisClient;
 import com.uplatform.wallet_tests.api.redis.client.PlayerRedisClient;
+import com.uplatform.wallet_tests.api.redis.client.RedisKeyspaceNotifier;
 import com.uplatform.wallet_tests.api.redis.client.RedisRetryHelper;
+import com.uplatform.wallet_tests.api.redis.client.RedisTrackingCache;
+import com.uplatform.wallet_tests.api.redis.client.WalletAggregateSizeSampler;
 import com.uplatform.wallet_tests.api.redis.client.WalletRedisClient;
+import com.uplatform.wallet_tests.api.redis.model.WalletData;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.uplatform.wallet_tests.api.attachment.AllureAttachmentService;
+import com.uplatform.wallet_tests.api.pool.ConnectionBudgetManager;
+import com.uplatform.wallet_tests.config.EnvironmentConfigurationProvider;
+import com.uplatform.wallet_tests.config.RedisAggregateConfig;
 import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
@@ -19,6 +28,7 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
+import java.util.Map;
 
 @Configuration
 public class RedisConfig {
@@ -31,9 +41,10 @@ public class RedisConfig {
 
     @Bean("playerLettucePoolingConfig")
     public LettucePoolingClientConfiguration playerLettucePoolingConfig(
-            @Qualifier("playerRedisProperties") RedisProperties properties) {
+            @Qualifier("playerRedisProperties") RedisProperties properties,
+            ConnectionBudgetManager budgetManager) {
 
-        return createPoolingConfig(properties);
+        return createPoolingConfig("redis.player", properties, budgetManager);
     }
 
     @Bean("playerRedisConnectionFactory")
@@ -59,9 +70,10 @@ public class RedisConfig {
 
     @Bean("walletLettucePoolingConfig")
     public LettucePoolingClientConfiguration walletLettucePoolingConfig(
-            @Qualifier("walletRedisProperties") RedisProperties properties) {
+            @Qualifier("walletRedisProperties") RedisProperties properties,
+            ConnectionBudgetManager budgetManager) {
 
-        return createPoolingConfig(properties);
+        return createPoolingConfig("redis.wallet", properties, budgetManager);
     }
 
     @Bean("walletRedisConnectionFactory")
@@ -80,23 +92,91 @@ public class RedisConfig {
         return createStringRedisTemplate(connectionFactory);
     }
 
+    @Bean(value = "playerKeyspaceNotifier", destroyMethod = "close")
+    public RedisKeyspaceNotifier playerKeyspaceNotifier(
+            @Qualifier("playerRedisProperties") RedisProperties properties,
+            @Qualifier("playerRedisConnectionFactory") RedisConnectionFactory connectionFactory,
+            EnvironmentConfigurationProvider configProvider) {
+        return new RedisKeyspaceNotifier("PLAYER", connectionFactory, properties.getDatabase(),
+                isKeyspaceNotificationsEnabled(configProvider));
+    }
+
+    @Bean(value = "walletKeyspaceNotifier", destroyMethod = "close")
+    public RedisKeyspaceNotifier walletKeyspaceNotifier(
+            @Qualifier("walletRedisProperties") RedisProperties properties,
+            @Qualifier("walletRedisConnectionFactory") RedisConnectionFactory connectionFactory,
+            EnvironmentConfigurationProvider configProvider) {
+        return new RedisKeyspaceNotifier("WALLET", connectionFactory, properties.getDatabase(),
+                isKeyspaceNotificationsEnabled(configProvider));
+    }
+
+    @Bean(value = "playerWalletsCache", destroyMethod = "close")
+    public RedisTrackingCache<Map<String, WalletData>> playerWalletsCache(
+            @Qualifier("playerRedisProperties") RedisProperties properties,
+            RedisRetryHelper retryHelper,
+            EnvironmentConfigurationProvider configProvider) {
+        RedisAggregateConfig aggregateConfig = configProvider.getEnvironmentConfig().getRedis().getAggregate();
+        boolean enabled = aggregateConfig != null && aggregateConfig.isPlayerClientCacheEnabled();
+        int maxEntries = aggregateConfig != null && aggregateConfig.getPlayerClientCacheMaxEntries() > 0
+                ? aggregateConfig.getPlayerClientCacheMaxEntries()
+                : 10_000;
+        return new RedisTrackingCache<>("PLAYER", properties, retryHelper,
+                new TypeReference<Map<String, WalletData>>() {}, PlayerRedisClient::copyWallets, maxEntries, enabled);
+    }
+
+    @Bean(value = "playerAsyncRedisClient", destroyMethod = "close")
+    public AsyncRedisClient playerAsyncRedisClient(
+            @Qualifier("playerRedisProperties") RedisProperties properties,
+            RedisRetryHelper retryHelper) {
+        return new AsyncRedisClient("PLAYER", properties, retryHelper);
+    }
+
+    @Bean(value = "walletAsyncRedisClient", destroyMethod = "close")
+    public AsyncRedisClient walletAsyncRedisClient(
+            @Qualifier("walletRedisProperties") RedisProperties properties,
+            RedisRetryHelper retryHelper) {
+        return new AsyncRedisClient("WALLET", properties, retryHelper);
+    }
+
     @Bean
     public PlayerRedisClient playerRedisClient(
             @Qualifier("playerRedisTemplate") RedisTemplate<String, String> template,
             RedisRetryHelper retryHelper,
-            AllureAttachmentService attachmentService) {
-        return new PlayerRedisClient(template, retryHelper, attachmentService);
+            AllureAttachmentService attachmentService,
+            @Qualifier("playerKeyspaceNotifier") RedisKeyspaceNotifier keyspaceNotifier,
+            @Qualifier("playerWalletsCache") RedisTrackingCache<Map<String, WalletData>> walletsCache,
+            @Qualifier("playerAsyncRedisClient") AsyncRedisClient asyncClient,
+            EnvironmentConfigurationProvider configProvider) {
+        return new PlayerRedisClient(template, retryHelper, attachmentService, keyspaceNotifier, walletsCache,
+                isSharedConnectionEnabled(configProvider) ? asyncClient : null);
     }
 
     @Bean
     public WalletRedisClient walletRedisClient(
             @Qualifier("walletRedisTemplate") RedisTemplate<String, String> template,
             RedisRetryHelper retryHelper,
-            AllureAttachmentService attachmentService) {
-        return new WalletRedisClient(template, retryHelper, attachmentService);
+            AllureAttachmentService attachmentService,
+            @Qualifier("walletKeyspaceNotifier") RedisKeyspaceNotifier keyspaceNotifier,
+            WalletAggregateSizeSampler sizeSampler,
+            @Qualifier("walletAsyncRedisClient") AsyncRedisClient asyncClient,
+            EnvironmentConfigurationProvider configProvider) {
+        return new WalletRedisClient(template, retryHelper, attachmentService, keyspaceNotifier, sizeSampler,
+                isSharedConnectionEnabled(configProvider) ? asyncClient : null);
+    }
+
+    private boolean isSharedConnectionEnabled(EnvironmentConfigurationProvider configProvider) {
+        RedisAggregateConfig aggregateConfig = configProvider.getEnvironmentConfig().getRedis().getAggregate();
+        return aggregateConfig != null && aggregateConfig.isSharedConnectionEnabled();
+    }
+
+    private boolean isKeyspaceNotificationsEnabled(EnvironmentConfigurationProvider configProvider) {
+        RedisAggregateConfig aggregateConfig = configProvider.getEnvironmentConfig().getRedis().getAggregate();
+        return aggregateConfig != null && aggregateConfig.isKeyspaceNotificationsEnabled();
     }
 
-    private LettucePoolingClientConfiguration createPoolingConfig(RedisProperties properties) {
+    private LettucePoolingClientConfiguration createPoolingConfig(String poolName,
+                                                                  RedisProperties properties,
+                                                                  ConnectionBudgetManager budgetManager) {
         GenericObjectPoolConfig<?> poolConfig = new GenericObjectPoolConfig<>();
         if (properties.getLettuce().getPool() != null) {
             RedisProperties.Pool poolProps = properties.getLettuce().getPool();
@@ -111,6 +191,7 @@ public class RedisConfig {
             poolConfig.setMaxIdle(8);
             poolConfig.setMinIdle(0);
         }
+        budgetManager.configureRedisPool(poolName, poolConfig);
 
         return LettucePoolingClientConfiguration.builder()
                 .poolConfig(poolConfig)
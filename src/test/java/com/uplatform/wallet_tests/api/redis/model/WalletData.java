@@ -22,4 +22,12 @@ public class WalletData {
     @JsonProperty("status")
     private int status;
 
+    public WalletData copy() {
+        WalletData copy = new WalletData();
+        copy.setWalletUUID(walletUUID);
+        copy.setCurrency(currency);
+        copy.setType(type);
+        copy.setStatus(status);
+        return copy;
+    }
 }
\ No newline at end of file
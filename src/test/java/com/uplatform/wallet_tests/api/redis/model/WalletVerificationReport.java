@@ -0,0 +1,32 @@
+package com.uplatform.wallet_tests.api.redis.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+@Builder
+public class WalletVerificationReport {
+    long keysRead;
+    long verified;
+    long missing;
+    long unreadable;
+    long violationCount;
+    List<Violation> violations;
+    long elapsedMs;
+
+    public double getKeysPerSecond() {
+        return elapsedMs == 0 ? keysRead : keysRead * 1000.0 / elapsedMs;
+    }
+
+    public boolean isClean() {
+        return violationCount == 0 && unreadable == 0;
+    }
+
+    @Value
+    public static class Violation {
+        String key;
+        String message;
+    }
+}
@@ -0,0 +1,13 @@
+package com.uplatform.wallet_tests.config;
+
+import lombok.Data;
+
+import java.util.Map;
+
+@Data
+public class ConnectionBudgetConfig {
+    private int testParallelism;
+    private long acquireTimeoutMs;
+    private long exhaustionCheckIntervalMs;
+    private Map<String, PoolBudgetConfig> pools;
+}
@@ -11,4 +11,6 @@ public class DatabaseInstanceConfig {
     private int retryTimeoutSeconds;
     private long retryPollIntervalMs;
     private long retryPollDelayMs;
+    private ReferenceCacheConfig referenceCache;
+    private ProjectionGrowthConfig projectionGrowth;
 }
\ No newline at end of file
@@ -15,6 +15,7 @@ public class EnvironmentConfig {
     private RedisConfig redis;
     private KafkaConfig kafka;
     private NatsConfig nats;
+    private ConnectionBudgetConfig connectionBudget;
 
     public String getTopicPrefix() {
         return name + "_";
@@ -10,10 +10,16 @@ public class NatsConfig {
     private String streamName;
     private int subscriptionRetryCount;
     private long subscriptionRetryDelayMs;
+    private long subscriptionRetryMaxDelayMs;
+    private int subscriptionSchedulerThreads;
     private long connectReconnectWaitSeconds;
     private int connectMaxReconnects;
+    private int connectionPoolSize;
+    private boolean connectionPinnedPerHost;
     private long searchTimeoutSeconds;
     private long subscriptionAckWaitSeconds;
     private long subscriptionInactiveThresholdSeconds;
     private int subscriptionBufferSize;
+    private boolean sequenceObserverEnabled;
+    private int sequenceObserverMaxAnomalies;
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.uplatform.wallet_tests.config;
+
+import lombok.Data;
+
+@Data
+public class PoolBudgetConfig {
+    private double connectionsPerTest;
+    private int minConnections;
+    private int maxConnections;
+    private long maxLifetimeMs;
+    private long idleTimeoutMs;
+}
@@ -0,0 +1,10 @@
+package com.uplatform.wallet_tests.config;
+
+import lombok.Data;
+
+@Data
+public class ProjectionGrowthConfig {
+    private long samplerIntervalMs;
+    private int probeRepetitions;
+    private double latencyGrowthFactor;
+}
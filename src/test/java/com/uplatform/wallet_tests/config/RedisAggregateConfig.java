@@ -2,10 +2,20 @@ package com.uplatform.wallet_tests.config;
 
 import lombok.Data;
 
+import java.util.Map;
+
 @Data
 public class RedisAggregateConfig {
     private int maxGamblingCount;
     private int maxIframeCount;
     private int retryAttempts;
     private long retryDelayMs;
+    private boolean keyspaceNotificationsEnabled;
+    private boolean sharedConnectionEnabled;
+    private boolean playerClientCacheEnabled;
+    private int playerClientCacheMaxEntries;
+    private Map<String, RedisWaitConfig> waits;
+    private boolean verboseAttachments;
+    private long sizeSamplerIntervalMs;
+    private int sizeSamplerGrowthWindow;
 }
\ No newline at end of file
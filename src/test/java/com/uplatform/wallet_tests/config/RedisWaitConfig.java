@@ -0,0 +1,11 @@
+package com.uplatform.wallet_tests.config;
+
+import lombok.Data;
+
+@Data
+public class RedisWaitConfig {
+    private String strategy;
+    private long timeoutMs;
+    private long initialDelayMs;
+    private long maxDelayMs;
+}
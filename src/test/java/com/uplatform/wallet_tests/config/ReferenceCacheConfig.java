@@ -0,0 +1,11 @@
+package com.uplatform.wallet_tests.config;
+
+import lombok.Data;
+
+import java.util.Map;
+
+@Data
+public class ReferenceCacheConfig {
+    private int warmUpGameCount;
+    private Map<String, ReferenceCachePolicyConfig> policies;
+}
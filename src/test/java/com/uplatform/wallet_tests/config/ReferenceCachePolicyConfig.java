@@ -0,0 +1,9 @@
+package com.uplatform.wallet_tests.config;
+
+import lombok.Data;
+
+@Data
+public class ReferenceCachePolicyConfig {
+    private long ttlSeconds;
+    private int maxEntries;
+}
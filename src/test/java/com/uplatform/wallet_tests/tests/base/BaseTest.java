@@ -1,6 +1,7 @@
 package com.uplatform.wallet_tests.tests.base;
 
 import com.uplatform.wallet_tests.allure.CustomSuiteExtension;
+import com.uplatform.wallet_tests.allure.DiagnosticsOnFailureExtension;
 import com.uplatform.wallet_tests.config.DynamicPropertiesConfigurator;
 import com.uplatform.wallet_tests.config.EnvironmentConfigurationProvider;
 import com.uplatform.wallet_tests.tests.default_steps.facade.DefaultTestSteps;
@@ -23,7 +24,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ContextConfiguration;
 
-@ExtendWith(CustomSuiteExtension.class)
+@ExtendWith({CustomSuiteExtension.class, DiagnosticsOnFailureExtension.class})
 @SpringBootTest
 @ContextConfiguration(initializers = DynamicPropertiesConfigurator.class)
 @Execution(ExecutionMode.CONCURRENT)
@@ -103,12 +103,12 @@ class BlockersParametrizedTest extends BaseParameterizedTest {
         });
 
         step("DB Wallet: Проверка флагов в таблице wallet", () -> {
-            var wallet = walletDatabaseClient.findWalletByUuidOrFail(
+            var wallet = walletDatabaseClient.findWalletRecordByUuidOrFail(
                     ctx.registeredPlayer.getWalletData().getWalletUUID()
             );
             assertAll(
-                    () -> assertEquals(gamblingEnabled, wallet.isGamblingActive(), "db.wallet.gambling_active"),
-                    () -> assertEquals(bettingEnabled, wallet.isBettingActive(), "db.wallet.betting_active")
+                    () -> assertEquals(gamblingEnabled, wallet.gamblingActive(), "db.wallet.gambling_active"),
+                    () -> assertEquals(bettingEnabled, wallet.bettingActive(), "db.wallet.betting_active")
             );
         });
 
@@ -177,7 +177,7 @@ class BetFromIframeTest extends BaseTest {
 
         step("DB Wallet: Проверка записи в таблице betting_projection_iframe_history", () -> {
             var dbTransaction = walletDatabaseClient.findLatestIframeHistoryByUuidOrFail(
-                    ctx.betEvent.getPayload().getUuid());
+                    ctx.betEvent.getPayload().getUuid(), CouponStatus.ACCEPTED);
 
             var betEvent = ctx.betEvent.getPayload();
             var player = ctx.registeredPlayer.getWalletData();
@@ -46,6 +46,8 @@ import static org.junit.jupiter.api.Assertions.*;
  *   тело.</li>
  *   <li><b>Проверка NATS:</b> получение события betted_from_iframe для
  *   последней ставки.</li>
+ *   <li><b>Проверка БД:</b> одним запросом диапазона последовательностей
+ *   проверяется, что в истории iframe есть все ставки без пропусков.</li>
  *   <li><b>Проверка Redis:</b> количество записей iFrame не превышает лимит и
  *   баланс уменьшен корректно.</li>
  * </ol>
@@ -54,6 +56,7 @@ import static org.junit.jupiter.api.Assertions.*;
  * <ul>
  *   <li>REST API: makePayment</li>
  *   <li>NATS: событие betted_from_iframe</li>
+ *   <li>БД кошелька: betting_projection_iframe_history</li>
  *   <li>Redis кошелька</li>
  * </ul>
  *
@@ -136,6 +139,19 @@ class BetIframeHistoryLimitTest extends BaseTest {
             assertNotNull(ctx.lastBetEvent, "nats.betted_from_iframe");
         });
 
+        step("DB Wallet: Проверка диапазона последовательностей iFrame ставок", () -> {
+            var range = walletDatabaseClient.awaitIframeSequenceRangeOrFail(
+                    ctx.registeredPlayer.getWalletData().getWalletUUID(),
+                    ctx.lastBetEvent.getSequence());
+
+            assertAll("Проверка истории iFrame в БД",
+                    () -> assertEquals(currentTransactionCountToMake, range.rows(), "db.iframe_history.count"),
+                    () -> assertEquals(currentTransactionCountToMake, range.distinctUuids(), "db.iframe_history.distinct_uuids"),
+                    () -> assertEquals(ctx.lastBetEvent.getSequence(), range.maxSeq(), "db.iframe_history.max_seq"),
+                    () -> assertEquals(0, range.gaps(), "db.iframe_history.seq_gaps")
+            );
+        });
+
         step("Redis(Wallet): Получение и проверка данных кошелька (лимит iFrame ставок)", () -> {
             var aggregate = redisClient.getWalletDataWithSeqCheck(
                     ctx.registeredPlayer.getWalletData().getWalletUUID(),
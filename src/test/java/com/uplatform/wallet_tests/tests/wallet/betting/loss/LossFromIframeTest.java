@@ -188,7 +188,7 @@ class LossFromIframeTest extends BaseTest {
 
         step("DB Wallet: Проверка записи в таблице betting_projection_iframe_history", () -> {
             var dbTransaction = walletDatabaseClient.findLatestIframeHistoryByUuidOrFail(
-                    ctx.lossNatsEvent.getPayload().getUuid());
+                    ctx.lossNatsEvent.getPayload().getUuid(), CouponStatus.LOSS);
 
             var lossEventPayload = ctx.lossNatsEvent.getPayload();
             var player = ctx.registeredPlayer.getWalletData();
@@ -199,7 +199,7 @@ class RecalculatingWinLossTest extends BaseTest {
 
         step("DB Wallet: Проверка записи в таблице betting_projection_iframe_history", () -> {
             var dbTransaction = walletDatabaseClient.findLatestIframeHistoryByUuidOrFail(
-                    ctx.recalculatedEvent.getPayload().getUuid());
+                    ctx.recalculatedEvent.getPayload().getUuid(), CouponStatus.LOSS);
 
             var recalculatedEventPayload = ctx.recalculatedEvent.getPayload();
             var player = ctx.registeredPlayer.getWalletData();
@@ -188,7 +188,7 @@ class RefundFromIframeTest extends BaseTest {
 
         step("DB Wallet: Проверка записи в таблице betting_projection_iframe_history", () -> {
             var dbTransaction = walletDatabaseClient.findLatestIframeHistoryByUuidOrFail(
-                    ctx.refundEvent.getPayload().getUuid());
+                    ctx.refundEvent.getPayload().getUuid(), CouponStatus.REFUND);
 
             var refundEventPayload = ctx.refundEvent.getPayload();
             var player = ctx.registeredPlayer.getWalletData();
@@ -203,7 +203,7 @@ class RecalculatingLossWinTest extends BaseTest {
 
         step("DB Wallet: Проверка записи в таблице betting_projection_iframe_history", () -> {
             var dbTransaction = walletDatabaseClient.findLatestIframeHistoryByUuidOrFail(
-                    ctx.recalculatedEvent.getPayload().getUuid());
+                    ctx.recalculatedEvent.getPayload().getUuid(), CouponStatus.WIN);
 
             var recalculatedEventPayload = ctx.recalculatedEvent.getPayload();
             var player = ctx.registeredPlayer.getWalletData();
@@ -189,7 +189,7 @@ class WinFromIframeTest extends BaseTest {
 
         step("DB Wallet: Проверка записи в таблице betting_projection_iframe_history", () -> {
             var dbTransaction = walletDatabaseClient.findLatestIframeHistoryByUuidOrFail(
-                    ctx.winEvent.getPayload().getUuid());
+                    ctx.winEvent.getPayload().getUuid(), CouponStatus.WIN);
 
             var winEventPayload = ctx.winEvent.getPayload();
             var player = ctx.registeredPlayer.getWalletData();
@@ -19,6 +19,8 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.http.HttpStatus;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 import java.util.function.BiPredicate;
 import java.util.stream.Stream;
@@ -52,6 +54,9 @@ import static org.junit.jupiter.api.Assertions.*;
  *       поступление NATS-события {@code betted_from_gamble} для самой последней транзакции.
  *       Из этого события извлекается {@code sequence number}, который необходим для
  *       запроса консистентных данных из Redis.</li>
+ *   <li><b>Проверка проекции в БД:</b> Одним запросом на опрос проверяется, что все {@code maxGamblingCountInRedis + 1}
+ *       транзакций присутствуют в {@code gambling_projection_transaction_history}, затем одним агрегирующим запросом
+ *       сверяются их количество, сумма и последний {@code sequence number}.</li>
  *   <li><b>Запрос данных кошелька из Redis:</b> Используя UUID кошелька и полученный {@code sequence number}
  *       последней транзакции, запрашиваются полные агрегированные данные кошелька
  *       (например, {@code com.uplatform.wallet_tests.api.redis.model.WalletFullData}) из Redis.</li>
@@ -98,6 +103,7 @@ class BetGamblingHistoryLimitTest extends BaseParameterizedTest {
             RegisteredPlayerData registeredPlayer;
             GameLaunchData gameLaunchData;
             String lastTransactionId;
+            List<String> transactionIds = new ArrayList<>();
             NatsMessage<NatsGamblingEventPayload> lastBetEvent;
             BigDecimal currentBalance;
         }
@@ -119,6 +125,7 @@ class BetGamblingHistoryLimitTest extends BaseParameterizedTest {
         step(String.format("Manager API: Совершение %d операций типа %s", operationsToMake, operationParam), () -> {
             for (int i = 0; i < operationsToMake; i++) {
                 var transactionId = UUID.randomUUID().toString();
+                ctx.transactionIds.add(transactionId);
                 if (i == operationsToMake - 1) {
                     ctx.lastTransactionId = transactionId;
                 }
@@ -169,6 +176,18 @@ class BetGamblingHistoryLimitTest extends BaseParameterizedTest {
             assertNotNull(ctx.lastBetEvent, "nats.betted_from_gamble");
         });
 
+        step(String.format("DB Wallet: Проверка всех %d операций %s в проекции", operationsToMake, operationParam), () -> {
+            var playerUuid = ctx.registeredPlayer.getWalletData().getPlayerUUID();
+            walletDatabaseClient.awaitTransactionUuidsPresentOrFail(playerUuid, ctx.transactionIds);
+            var totals = walletDatabaseClient.awaitTransactionTotalsOrFail(playerUuid, operationParam, operationsToMake);
+
+            assertAll("Проверка агрегатов транзакций в БД",
+                    () -> assertEquals(operationsToMake, totals.count(), "db.gpth.count"),
+                    () -> assertEquals(0, operationAmount.multiply(new BigDecimal(operationsToMake)).negate().compareTo(totals.amountSum()), "db.gpth.amount_sum"),
+                    () -> assertEquals(ctx.lastBetEvent.getSequence(), totals.maxSeq(), "db.gpth.max_seqnumber")
+            );
+        });
+
         step(String.format("Redis(Wallet): Получение и проверка данных кошелька для операции %s", operationParam), () -> {
             var aggregate = redisClient.getWalletDataWithSeqCheck(
                     ctx.registeredPlayer.getWalletData().getWalletUUID(),
@@ -264,23 +264,23 @@ class RefundParametrizedTest extends BaseParameterizedTest {
 
         step("DB Wallet: Проверка записи рефанда в gambling_projection_transaction_history", () -> {
             var transaction = walletDatabaseClient.
-                    findTransactionByUuidOrFail(ctx.refundRequestBody.getTransactionId());
+                    findTransactionRecordByUuidOrFail(ctx.refundRequestBody.getTransactionId());
 
             assertNotNull(transaction, "db.transaction");
 
             assertAll(
-                    () -> assertEquals(ctx.refundEvent.getPayload().getUuid(), transaction.getUuid(), "db.transaction.uuid"),
-                    () -> assertEquals(ctx.registeredPlayer.getWalletData().getPlayerUUID(), transaction.getPlayerUuid(), "db.transaction.player_uuid"),
-                    () -> assertNotNull(transaction.getDate(), "db.transaction.date"),
-                    () -> assertEquals(NatsGamblingTransactionType.TYPE_REFUND, transaction.getType(), "db.transaction.type"),
-                    () -> assertEquals(NatsGamblingTransactionOperation.REFUND, transaction.getOperation(), "db.transaction.operation"),
-                    () -> assertEquals(ctx.refundEvent.getPayload().getGameUuid(), transaction.getGameUuid(), "db.transaction.game_uuid"),
-                    () -> assertEquals(ctx.refundEvent.getPayload().getGameSessionUuid(), transaction.getGameSessionUuid(), "db.transaction.game_session_uuid"),
-                    () -> assertEquals(ctx.refundEvent.getPayload().getCurrency(), transaction.getCurrency(), "db.transaction.currency"),
-                    () -> assertEquals(0, ctx.refundAmount.compareTo(transaction.getAmount()), "db.transaction.amount"),
-                    () -> assertNotNull(transaction.getCreatedAt(), "db.transaction.created_at"),
-                    () -> assertEquals(ctx.refundEvent.getSequence(), transaction.getSeqnumber(), "db.transaction.seq_number"),
-                    () -> assertEquals(ctx.refundEvent.getPayload().isProviderRoundClosed(), transaction.isProviderRoundClosed(), "db.transaction.provider_round_closed")
+                    () -> assertEquals(ctx.refundEvent.getPayload().getUuid(), transaction.uuid(), "db.transaction.uuid"),
+                    () -> assertEquals(ctx.registeredPlayer.getWalletData().getPlayerUUID(), transaction.playerUuid(), "db.transaction.player_uuid"),
+                    () -> assertNotNull(transaction.date(), "db.transaction.date"),
+                    () -> assertEquals(NatsGamblingTransactionType.TYPE_REFUND, transaction.type(), "db.transaction.type"),
+                    () -> assertEquals(NatsGamblingTransactionOperation.REFUND, transaction.operation(), "db.transaction.operation"),
+                    () -> assertEquals(ctx.refundEvent.getPayload().getGameUuid(), transaction.gameUuid(), "db.transaction.game_uuid"),
+                    () -> assertEquals(ctx.refundEvent.getPayload().getGameSessionUuid(), transaction.gameSessionUuid(), "db.transaction.game_session_uuid"),
+                    () -> assertEquals(ctx.refundEvent.getPayload().getCurrency(), transaction.currency(), "db.transaction.currency"),
+                    () -> assertEquals(0, ctx.refundAmount.compareTo(transaction.amount()), "db.transaction.amount"),
+                    () -> assertNotNull(transaction.createdAt(), "db.transaction.created_at"),
+                    () -> assertEquals(ctx.refundEvent.getSequence(), transaction.seqnumber(), "db.transaction.seq_number"),
+                    () -> assertEquals(ctx.refundEvent.getPayload().isProviderRoundClosed(), transaction.providerRoundClosed(), "db.transaction.provider_round_closed")
             );
         });
 
@@ -266,23 +266,23 @@ class RollbackParametrizedTest extends BaseParameterizedTest {
 
         step("DB Wallet: Проверка записи роллбэка в gambling_projection_transaction_history", () -> {
             var transaction = walletDatabaseClient.
-                    findTransactionByUuidOrFail(ctx.rollbackRequestBody.getTransactionId());
+                    findTransactionRecordByUuidOrFail(ctx.rollbackRequestBody.getTransactionId());
 
             assertNotNull(transaction, "db.transaction");
 
             assertAll(
-                    () -> assertEquals(ctx.rollbackEvent.getPayload().getUuid(), transaction.getUuid(), "db.transaction.uuid"),
-                    () -> assertEquals(ctx.registeredPlayer.getWalletData().getPlayerUUID(), transaction.getPlayerUuid(), "db.transaction.player_uuid"),
-                    () -> assertNotNull(transaction.getDate(), "db.transaction.date"),
-                    () -> assertEquals(NatsGamblingTransactionType.TYPE_ROLLBACK, transaction.getType(), "db.transaction.type"),
-                    () -> assertEquals(NatsGamblingTransactionOperation.ROLLBACK, transaction.getOperation(), "db.transaction.operation"),
-                    () -> assertEquals(ctx.rollbackEvent.getPayload().getGameUuid(), transaction.getGameUuid(), "db.transaction.game_uuid"),
-                    () -> assertEquals(ctx.rollbackEvent.getPayload().getGameSessionUuid(), transaction.getGameSessionUuid(), "db.transaction.game_session_uuid"),
-                    () -> assertEquals(ctx.rollbackEvent.getPayload().getCurrency(), transaction.getCurrency(), "db.transaction.currency"),
-                    () -> assertEquals(0, ctx.rollbackAmount.compareTo(transaction.getAmount()), "db.transaction.amount"),
-                    () -> assertNotNull(transaction.getCreatedAt(), "db.transaction.created_at"),
-                    () -> assertEquals(ctx.rollbackEvent.getSequence(), transaction.getSeqnumber(), "db.transaction.seq_number"),
-                    () -> assertEquals(ctx.rollbackEvent.getPayload().isProviderRoundClosed(), transaction.isProviderRoundClosed(), "db.transaction.provider_round_closed")
+                    () -> assertEquals(ctx.rollbackEvent.getPayload().getUuid(), transaction.uuid(), "db.transaction.uuid"),
+                    () -> assertEquals(ctx.registeredPlayer.getWalletData().getPlayerUUID(), transaction.playerUuid(), "db.transaction.player_uuid"),
+                    () -> assertNotNull(transaction.date(), "db.transaction.date"),
+                    () -> assertEquals(NatsGamblingTransactionType.TYPE_ROLLBACK, transaction.type(), "db.transaction.type"),
+                    () -> assertEquals(NatsGamblingTransactionOperation.ROLLBACK, transaction.operation(), "db.transaction.operation"),
+                    () -> assertEquals(ctx.rollbackEvent.getPayload().getGameUuid(), transaction.gameUuid(), "db.transaction.game_uuid"),
+                    () -> assertEquals(ctx.rollbackEvent.getPayload().getGameSessionUuid(), transaction.gameSessionUuid(), "db.transaction.game_session_uuid"),
+                    () -> assertEquals(ctx.rollbackEvent.getPayload().getCurrency(), transaction.currency(), "db.transaction.currency"),
+                    () -> assertEquals(0, ctx.rollbackAmount.compareTo(transaction.amount()), "db.transaction.amount"),
+                    () -> assertNotNull(transaction.createdAt(), "db.transaction.created_at"),
+                    () -> assertEquals(ctx.rollbackEvent.getSequence(), transaction.seqnumber(), "db.transaction.seq_number"),
+                    () -> assertEquals(ctx.rollbackEvent.getPayload().isProviderRoundClosed(), transaction.providerRoundClosed(), "db.transaction.provider_round_closed")
             );
         });
 
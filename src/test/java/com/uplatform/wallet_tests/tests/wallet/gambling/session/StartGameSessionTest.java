@@ -2,11 +2,11 @@ package com.uplatform.wallet_tests.tests.wallet.gambling.session;
 import com.uplatform.wallet_tests.tests.base.BaseTest;
 
 import com.uplatform.wallet_tests.allure.Suite;
-import com.uplatform.wallet_tests.api.db.entity.core.CoreGame;
 import com.uplatform.wallet_tests.api.db.entity.core.CoreGameSession;
-import com.uplatform.wallet_tests.api.db.entity.core.GameProvider;
 import com.uplatform.wallet_tests.api.db.entity.core.GameSessionMode;
 import com.uplatform.wallet_tests.api.db.entity.wallet.WalletGameSession;
+import com.uplatform.wallet_tests.api.db.jdbc.CoreGameRecord;
+import com.uplatform.wallet_tests.api.db.jdbc.GameProviderRecord;
 import com.uplatform.wallet_tests.api.http.fapi.dto.get_games.FapiGame;
 import com.uplatform.wallet_tests.api.http.fapi.dto.launch.LaunchGameRequestBody;
 import com.uplatform.wallet_tests.api.http.fapi.dto.launch.LaunchGameResponseBody;
@@ -44,9 +44,9 @@ class StartGameSessionTest extends BaseTest {
             CoreGameSession coreGameSession;
             WalletGameSession walletGameSession;
             LaunchGameRequestBody launchGameRequestBody;
-            CoreGame coreGame;
+            CoreGameRecord coreGame;
             FapiGame fapiGame;
-            GameProvider gameProvider;
+            GameProviderRecord gameProvider;
         }
         final TestContext ctx = new TestContext();
 
@@ -81,13 +81,13 @@ class StartGameSessionTest extends BaseTest {
                     ctx.registeredPlayer.getWalletData().getPlayerUUID());
 
             var coreWallet = coreDatabaseClient.findWalletByIdOrFail(ctx.coreGameSession.getWalletId());
-            ctx.coreGame = coreDatabaseClient.findGameByIdOrFail(ctx.coreGameSession.getGameId());
-            ctx.gameProvider = coreDatabaseClient.findGameProviderByIdOrFail(ctx.coreGame.getGameProviderId());
+            ctx.coreGame = coreDatabaseClient.findGameRecordByIdOrFail(ctx.coreGameSession.getGameId());
+            ctx.gameProvider = coreDatabaseClient.findGameProviderRecordByIdOrFail(ctx.coreGame.gameProviderId());
 
             assertAll(
                     () -> assertNotNull(ctx.coreGameSession.getId(), "db.core_game_session.id"),
                     () -> assertEquals(coreWallet.getId(), ctx.coreGameSession.getWalletId(), "db.core_game_session.wallet_id"),
-                    () -> assertEquals(ctx.coreGame.getId(), ctx.coreGameSession.getGameId(), "db.core_game_session.game_id"),
+                    () -> assertEquals(ctx.coreGame.id(), ctx.coreGameSession.getGameId(), "db.core_game_session.game_id"),
                     () -> assertEquals(ctx.registeredPlayer.getWalletData().getPlayerUUID(), ctx.coreGameSession.getPlayerUuid(), "db.core_game_session.player_uuid"),
                     () -> assertEquals(GameSessionMode.REAL.getId(), ctx.coreGameSession.getModeId(), "db.core_game_session.mode_id"),
                     () -> assertNotNull(ctx.coreGameSession.getPlayerIp(), "db.core_game_session.player_ip"),
@@ -115,11 +115,11 @@ class StartGameSessionTest extends BaseTest {
                     () -> assertEquals(platformNodeId, kafkaMessage.getNodeId(), "kafka.game_session.node_id"),
                     () -> assertEquals(ctx.coreGameSession.getUuid(), kafkaMessage.getId(), "kafka.game_session.id"),
                     () -> assertEquals(ctx.coreGameSession.getPlayerIp(), kafkaMessage.getIp(), "kafka.game_session.ip"),
-                    () -> assertEquals(ctx.gameProvider.getUuid(), kafkaMessage.getProviderId(), "kafka.game_session.provider_id"),
-                    () -> assertEquals(ctx.gameProvider.getExternalUuid(), kafkaMessage.getProviderExternalId(), "kafka.game_session.provider_external_id"),
+                    () -> assertEquals(ctx.gameProvider.uuid(), kafkaMessage.getProviderId(), "kafka.game_session.provider_id"),
+                    () -> assertEquals(ctx.gameProvider.externalUuid(), kafkaMessage.getProviderExternalId(), "kafka.game_session.provider_external_id"),
                     () -> assertNotNull(kafkaMessage.getGameTypeName(), "kafka.game_session.game_type_name"),
-                    () -> assertEquals(ctx.coreGame.getUuid(), kafkaMessage.getGameId(), "kafka.game_session.game_id"),
-                    () -> assertEquals(ctx.coreGame.getExternalUuid(), kafkaMessage.getGameExternalId(), "kafka.game_session.game_external_id"),
+                    () -> assertEquals(ctx.coreGame.uuid(), kafkaMessage.getGameId(), "kafka.game_session.game_id"),
+                    () -> assertEquals(ctx.coreGame.externalUuid(), kafkaMessage.getGameExternalId(), "kafka.game_session.game_external_id"),
                     () -> assertEquals(ctx.registeredPlayer.getWalletData().getCurrency(), kafkaMessage.getCurrency(), "kafka.game_session.currency"),
                     () -> assertNotNull(kafkaMessage.getStartDate(), "kafka.game_session.start_date"),
                     () -> assertEquals(GameSessionMode.REAL.getName(), kafkaMessage.getGameMode(), "kafka.game_session.game_mode"),
@@ -140,10 +140,10 @@ class StartGameSessionTest extends BaseTest {
                     () -> assertEquals(ctx.coreGameSession.getUuid(), ctx.walletGameSession.getGameSessionUuid(), "db.wallet_game_session.game_session_uuid"),
                     () -> assertEquals(secretKey, ctx.walletGameSession.getSecretKey(), "db.wallet_game_session.secret_key"),
                     () -> assertTrue(ctx.walletGameSession.getPlayerBonusUuid().isEmpty(), "db.wallet_game_session.player_bonus_uuid"),
-                    () -> assertEquals(ctx.gameProvider.getUuid(), ctx.walletGameSession.getProviderUuid(), "db.wallet_game_session.provider_uuid"),
-                    () -> assertEquals(ctx.gameProvider.getExternalUuid(), ctx.walletGameSession.getProviderExternalUuid(), "db.wallet_game_session.provider_external_uuid"),
-                    () -> assertEquals(ctx.coreGame.getUuid(), ctx.walletGameSession.getGameUuid(), "db.wallet_game_session.game_uuid"),
-                    () -> assertEquals(ctx.coreGame.getExternalUuid(), ctx.walletGameSession.getGameExternalUuid(), "db.wallet_game_session.game_external_uuid"),
+                    () -> assertEquals(ctx.gameProvider.uuid(), ctx.walletGameSession.getProviderUuid(), "db.wallet_game_session.provider_uuid"),
+                    () -> assertEquals(ctx.gameProvider.externalUuid(), ctx.walletGameSession.getProviderExternalUuid(), "db.wallet_game_session.provider_external_uuid"),
+                    () -> assertEquals(ctx.coreGame.uuid(), ctx.walletGameSession.getGameUuid(), "db.wallet_game_session.game_uuid"),
+                    () -> assertEquals(ctx.coreGame.externalUuid(), ctx.walletGameSession.getGameExternalUuid(), "db.wallet_game_session.game_external_uuid"),
                     () -> assertNotNull(ctx.walletGameSession.getTypeUuid(), "db.wallet_game_session.type_uuid"),
                     () -> assertNotNull(ctx.walletGameSession.getCategoryUuid(), "db.wallet_game_session.category_uuid"),
                     () -> assertEquals(platformNodeId, ctx.walletGameSession.getNodeUuid(), "db.wallet_game_session.node_uuid"),
@@ -130,21 +130,21 @@ class TournamentPositiveTest extends BaseTest {
 
         step("DB Wallet: Проверка записи истории ставок в gambling_projection_transaction_history", () -> {
             var transaction = walletDatabaseClient.
-                    findTransactionByUuidOrFail(ctx.tournamentRequestBody.getTransactionId());
+                    findTransactionRecordByUuidOrFail(ctx.tournamentRequestBody.getTransactionId());
 
             assertAll(
-                    () -> assertEquals(ctx.tournamentEvent.getPayload().getUuid(), transaction.getUuid(), "db.transaction.uuid"),
-                    () -> assertEquals(ctx.registeredPlayer.getWalletData().getPlayerUUID(), transaction.getPlayerUuid(), "db.transaction.player_uuid"),
-                    () -> assertNotNull(transaction.getDate(), "db.transaction.date"),
-                    () -> assertEquals(ctx.tournamentEvent.getPayload().getType(), transaction.getType(), "db.transaction.type"),
-                    () -> assertEquals(ctx.tournamentEvent.getPayload().getOperation(), transaction.getOperation(), "db.transaction.operation"),
-                    () -> assertEquals(ctx.tournamentEvent.getPayload().getGameUuid(), transaction.getGameUuid(), "db.transaction.game_uuid"),
-                    () -> assertEquals(ctx.tournamentEvent.getPayload().getGameSessionUuid(), transaction.getGameSessionUuid(), "db.transaction.game_session_uuid"),
-                    () -> assertEquals(ctx.tournamentEvent.getPayload().getCurrency(), transaction.getCurrency(), "db.transaction.currency"),
-                    () -> assertEquals(0, ctx.tournamentEvent.getPayload().getAmount().compareTo(transaction.getAmount()), "db.transaction.amount"),
-                    () -> assertNotNull(transaction.getCreatedAt(), "db.transaction.created_at"),
-                    () -> assertEquals(ctx.tournamentEvent.getSequence(), transaction.getSeqnumber(), "db.transaction.seq_number"),
-                    () -> assertEquals(ctx.tournamentEvent.getPayload().isProviderRoundClosed(), transaction.isProviderRoundClosed(), "db.transaction.provider_round_closed")
+                    () -> assertEquals(ctx.tournamentEvent.getPayload().getUuid(), transaction.uuid(), "db.transaction.uuid"),
+                    () -> assertEquals(ctx.registeredPlayer.getWalletData().getPlayerUUID(), transaction.playerUuid(), "db.transaction.player_uuid"),
+                    () -> assertNotNull(transaction.date(), "db.transaction.date"),
+                    () -> assertEquals(ctx.tournamentEvent.getPayload().getType(), transaction.type(), "db.transaction.type"),
+                    () -> assertEquals(ctx.tournamentEvent.getPayload().getOperation(), transaction.operation(), "db.transaction.operation"),
+                    () -> assertEquals(ctx.tournamentEvent.getPayload().getGameUuid(), transaction.gameUuid(), "db.transaction.game_uuid"),
+                    () -> assertEquals(ctx.tournamentEvent.getPayload().getGameSessionUuid(), transaction.gameSessionUuid(), "db.transaction.game_session_uuid"),
+                    () -> assertEquals(ctx.tournamentEvent.getPayload().getCurrency(), transaction.currency(), "db.transaction.currency"),
+                    () -> assertEquals(0, ctx.tournamentEvent.getPayload().getAmount().compareTo(transaction.amount()), "db.transaction.amount"),
+                    () -> assertNotNull(transaction.createdAt(), "db.transaction.created_at"),
+                    () -> assertEquals(ctx.tournamentEvent.getSequence(), transaction.seqnumber(), "db.transaction.seq_number"),
+                    () -> assertEquals(ctx.tournamentEvent.getPayload().isProviderRoundClosed(), transaction.providerRoundClosed(), "db.transaction.provider_round_closed")
             );
         });
 
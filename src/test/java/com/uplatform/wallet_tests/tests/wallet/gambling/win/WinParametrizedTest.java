@@ -259,23 +259,23 @@ class WinParametrizedTest extends BaseParameterizedTest {
         });
 
         step("DB Wallet: Проверка записи истории ставок в gambling_projection_transaction_history", () -> {
-            var transaction = walletDatabaseClient.findTransactionByUuidOrFail(ctx.winRequestBody.getTransactionId());
+            var transaction = walletDatabaseClient.findTransactionRecordByUuidOrFail(ctx.winRequestBody.getTransactionId());
             var payload = ctx.winEvent.getPayload();
 
             assertAll("Проверка полей gambling_projection_transaction_history",
-                    () -> assertEquals(payload.getUuid(), transaction.getUuid(), "db.gpth.uuid"),
-                    () -> assertEquals(ctx.registeredPlayer.getWalletData().getPlayerUUID(), transaction.getPlayerUuid(), "db.gpth.player_uuid"),
-                    () -> assertNotNull(transaction.getDate(), "db.gpth.date"),
-                    () -> assertEquals(payload.getType(), transaction.getType(), "db.gpth.type"),
-                    () -> assertEquals(payload.getOperation(), transaction.getOperation(), "db.gpth.operation"),
-                    () -> assertEquals(payload.getGameUuid(), transaction.getGameUuid(), "db.gpth.game_uuid"),
-                    () -> assertEquals(payload.getGameSessionUuid(), transaction.getGameSessionUuid(), "db.gpth.game_session_uuid"),
-                    () -> assertEquals(payload.getCurrency(), transaction.getCurrency(), "db.gpth.currency"),
-                    () -> assertEquals(0, winAmountParam.compareTo(transaction.getAmount()), "db.gpth.amount"),
-                    () -> assertNotNull(transaction.getCreatedAt(), "db.gpth.created_at"),
-                    () -> assertEquals(ctx.winEvent.getSequence(), transaction.getSeqnumber(), "db.gpth.seqnumber"),
-                    () -> assertEquals(payload.isProviderRoundClosed(), transaction.isProviderRoundClosed(), "db.gpth.provider_round_closed"),
-                    () -> assertEquals(payload.getBetUuid(), transaction.getBetUuid(), "db.gpth.bet_uuid")
+                    () -> assertEquals(payload.getUuid(), transaction.uuid(), "db.gpth.uuid"),
+                    () -> assertEquals(ctx.registeredPlayer.getWalletData().getPlayerUUID(), transaction.playerUuid(), "db.gpth.player_uuid"),
+                    () -> assertNotNull(transaction.date(), "db.gpth.date"),
+                    () -> assertEquals(payload.getType(), transaction.type(), "db.gpth.type"),
+                    () -> assertEquals(payload.getOperation(), transaction.operation(), "db.gpth.operation"),
+                    () -> assertEquals(payload.getGameUuid(), transaction.gameUuid(), "db.gpth.game_uuid"),
+                    () -> assertEquals(payload.getGameSessionUuid(), transaction.gameSessionUuid(), "db.gpth.game_session_uuid"),
+                    () -> assertEquals(payload.getCurrency(), transaction.currency(), "db.gpth.currency"),
+                    () -> assertEquals(0, winAmountParam.compareTo(transaction.amount()), "db.gpth.amount"),
+                    () -> assertNotNull(transaction.createdAt(), "db.gpth.created_at"),
+                    () -> assertEquals(ctx.winEvent.getSequence(), transaction.seqnumber(), "db.gpth.seqnumber"),
+                    () -> assertEquals(payload.isProviderRoundClosed(), transaction.providerRoundClosed(), "db.gpth.provider_round_closed"),
+                    () -> assertEquals(payload.getBetUuid(), transaction.betUuid(), "db.gpth.bet_uuid")
             );
         });
 